@@ -3,6 +3,7 @@ package com.akjostudios.engine.api;
 import com.akjostudios.engine.api.event.EventBus;
 import com.akjostudios.engine.api.lifecycle.Lifecycle;
 import com.akjostudios.engine.api.logging.Logger;
+import com.akjostudios.engine.api.metrics.MetricsRegistry;
 import com.akjostudios.engine.api.monitor.MonitorRegistry;
 import com.akjostudios.engine.api.resource.asset.AssetManager;
 import com.akjostudios.engine.api.resource.file.MountableFileSystem;
@@ -24,6 +25,7 @@ public interface IAkjoApplicationContext {
     @NotNull AssetManager assets();
     @NotNull MonitorRegistry monitors();
     @NotNull WindowRegistry windows();
+    @NotNull MetricsRegistry metrics();
 
     // Logging
     @NotNull Logger logger();
@@ -130,4 +132,15 @@ public interface IAkjoApplicationContext {
             @NotNull Object token,
             @NotNull WindowRegistry windows
     ) throws IllegalCallerException, IllegalStateException;
+
+    /**
+     * Sets the internal metrics registry for this application
+     * @apiNote Must be called by the runtime implementation of the engine AND from the main thread.
+     * @throws IllegalCallerException When this method is called externally.
+     * @throws IllegalStateException When this method is not called from the main thread.
+     */
+    void __engine_setMetrics(
+            @NotNull Object token,
+            @NotNull MetricsRegistry metrics
+    ) throws IllegalCallerException, IllegalStateException;
 }
\ No newline at end of file
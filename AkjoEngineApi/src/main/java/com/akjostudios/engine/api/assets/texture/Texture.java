@@ -6,10 +6,15 @@ import org.jetbrains.annotations.NotNull;
 @SuppressWarnings("unused")
 public interface Texture extends Asset {
     /**
-     * @return The OpenGL ID of this texture.
+     * @return The OpenGL ID of this texture (shared with other textures if it is packed into an atlas page).
      */
     int id();
 
+    /**
+     * @return The region of the OpenGL texture that this texture covers, the full texture unless it is packed into an atlas page.
+     */
+    default @NotNull TextureRegion region() { return TextureRegion.FULL; }
+
     /**
      * @return The resolution of this texture.
      */
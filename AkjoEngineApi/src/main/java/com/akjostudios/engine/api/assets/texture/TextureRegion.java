@@ -0,0 +1,9 @@
+package com.akjostudios.engine.api.assets.texture;
+
+/**
+ * The part of an OpenGL texture that a texture asset covers, in texture coordinates from 0 to 1.
+ * The v axis points down the image, so (u0, v0) is the top left corner of the region.
+ */
+public record TextureRegion(float u0, float v0, float u1, float v1) {
+    public static final TextureRegion FULL = new TextureRegion(0F, 0F, 1F, 1F);
+}
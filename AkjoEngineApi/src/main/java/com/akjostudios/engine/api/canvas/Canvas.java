@@ -14,7 +14,7 @@ public interface Canvas {
     void clear(@NotNull IColor color);
 
     /**
-     * Draws the given texture to the given position on the canvas.
+     * Draws the given texture to the given position on the canvas (on layer 0).
      */
     void drawTexture(
             @NotNull Texture texture,
@@ -22,10 +22,56 @@ public interface Canvas {
     );
 
     /**
-     * Draws the given texture to the given position on the canvas.
+     * Draws the given texture to the given position on the canvas (on layer 0).
      */
     void drawTexture(
             @NotNull Texture texture,
             @NotNull WindowPositionProvider position
     );
+
+    /**
+     * Draws the given texture to the given position on the canvas, above all textures of lower layers.
+     * @param layer The layer of the texture, clamped to the range of a short.
+     * @apiNote Draws on the same layer may be reordered to batch them by texture, so textures that overlap should be drawn on different layers.
+     */
+    void drawTexture(
+            @NotNull Texture texture,
+            @NotNull IRenderPosition position,
+            int layer
+    );
+
+    /**
+     * Draws the given texture to the given position on the canvas, above all textures of lower layers.
+     * @param layer The layer of the texture, clamped to the range of a short.
+     * @apiNote Draws on the same layer may be reordered to batch them by texture, so textures that overlap should be drawn on different layers.
+     */
+    void drawTexture(
+            @NotNull Texture texture,
+            @NotNull WindowPositionProvider position,
+            int layer
+    );
+
+    /**
+     * Draws the given texture to the given position on the canvas, scaled, rotated and tinted by the given options.
+     * @param layer The layer of the texture, clamped to the range of a short.
+     * @apiNote The position is the top left corner of the scaled texture before it is rotated.
+     */
+    void drawTexture(
+            @NotNull Texture texture,
+            @NotNull IRenderPosition position,
+            int layer,
+            @NotNull TextureDrawOptions options
+    );
+
+    /**
+     * Draws the given texture to the given position on the canvas, scaled, rotated and tinted by the given options.
+     * @param layer The layer of the texture, clamped to the range of a short.
+     * @apiNote The position is the top left corner of the scaled texture before it is rotated.
+     */
+    void drawTexture(
+            @NotNull Texture texture,
+            @NotNull WindowPositionProvider position,
+            int layer,
+            @NotNull TextureDrawOptions options
+    );
 }
\ No newline at end of file
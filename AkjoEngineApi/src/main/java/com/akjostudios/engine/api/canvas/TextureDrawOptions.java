@@ -0,0 +1,43 @@
+package com.akjostudios.engine.api.canvas;
+
+import com.akjostudios.engine.api.common.base.color.Color;
+import com.akjostudios.engine.api.common.base.color.IColor;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * How a texture is drawn to a canvas.
+ * @param scaleX The horizontal scale of the texture, a negative scale mirrors it in place.
+ * @param scaleY The vertical scale of the texture, a negative scale mirrors it in place.
+ * @param rotation The clockwise rotation of the texture around its center in radians.
+ * @param tint The color every pixel of the texture is multiplied with.
+ */
+@SuppressWarnings("unused")
+public record TextureDrawOptions(
+        float scaleX,
+        float scaleY,
+        float rotation,
+        @NotNull IColor tint
+) {
+    public static final TextureDrawOptions DEFAULT = new TextureDrawOptions(1F, 1F, 0F, Color.WHITE);
+
+    @Contract("_ -> new")
+    public @NotNull TextureDrawOptions withScale(float scale) {
+        return new TextureDrawOptions(scale, scale, rotation, tint);
+    }
+
+    @Contract("_, _ -> new")
+    public @NotNull TextureDrawOptions withScale(float scaleX, float scaleY) {
+        return new TextureDrawOptions(scaleX, scaleY, rotation, tint);
+    }
+
+    @Contract("_ -> new")
+    public @NotNull TextureDrawOptions withRotation(float rotation) {
+        return new TextureDrawOptions(scaleX, scaleY, rotation, tint);
+    }
+
+    @Contract("_ -> new")
+    public @NotNull TextureDrawOptions withTint(@NotNull IColor tint) {
+        return new TextureDrawOptions(scaleX, scaleY, rotation, tint);
+    }
+}
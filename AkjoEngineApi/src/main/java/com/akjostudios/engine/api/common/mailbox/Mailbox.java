@@ -1,75 +1,233 @@
 package com.akjostudios.engine.api.common.mailbox;
 
 import com.akjostudios.engine.api.logging.Logger;
-import lombok.RequiredArgsConstructor;
+import com.akjostudios.engine.api.metrics.Histogram;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
-@RequiredArgsConstructor
+/**
+ * A bounded, array-backed multi-producer/single-consumer task queue.
+ * Every slot carries its own sequence number, so a post claims a slot with a single CAS and publishes it
+ * with a release store, while a drain claims a whole batch of slots at once.
+ * Urgent and bulk tasks (see {@link Priority}) are queued outside the ring buffer, so they never compete with normal tasks for slots.
+ */
 @Accessors(fluent = true, chain = true)
 @SuppressWarnings({"unused", "BooleanMethodIsAlwaysInverted"})
 public final class Mailbox {
+    /**
+     * Defines what happens to a task that is posted while the ring buffer of a mailbox is full.
+     */
+    public enum OverflowPolicy {
+        /** The posting thread waits until the consumer has freed a slot. */
+        BLOCK,
+        /** The oldest queued task is discarded without being executed. */
+        DROP_OLDEST,
+        /** The task is not queued and the post fails. */
+        REJECT,
+        /** The task is queued in an unbounded overflow queue that is drained after the ring buffer. */
+        SPILL
+    }
+
+    /**
+     * Defines when a task is executed relative to the other tasks of a drain.
+     */
+    public enum Priority {
+        /** Executed before all other tasks and regardless of the time budget, for example buffer swaps or window state. */
+        URGENT,
+        /** Executed in posting order after the urgent tasks (the default). */
+        NORMAL,
+        /** Executed after the normal tasks while the time budget lasts, for example texture uploads or deferred disposals. */
+        BULK
+    }
+
+    /**
+     * @param waitNanos How long sampled tasks waited between being posted and being executed (spilled tasks are not sampled).
+     * @param runNanos How long tasks ran.
+     * @param batchSize How many tasks were executed per drain (drains without tasks are not recorded).
+     * @param slowTasks The amount of tasks that ran longer than the slow task threshold.
+     */
+    public record Stats(
+            @NotNull Histogram.Snapshot waitNanos,
+            @NotNull Histogram.Snapshot runNanos,
+            @NotNull Histogram.Snapshot batchSize,
+            long slowTasks
+    ) {}
+
+    public static final int DEFAULT_CAPACITY = 8192;
+    public static final OverflowPolicy DEFAULT_OVERFLOW_POLICY = OverflowPolicy.SPILL;
+
     private static final int BATCH_SIZE = 1024;
 
+    private static final long NO_DEADLINE = Long.MAX_VALUE;
+    private static final long INITIAL_TASK_COST_NS = 10_000L;
+    private static final int TASK_COST_SMOOTHING = 8;
+
+    private static final int PUBLISH_SPIN_LIMIT = 64;
+    private static final long BLOCK_PARK_TIME_NS = 50_000L;
+
     private final String name;
 
-    private final ConcurrentLinkedQueue<Runnable> queue = new ConcurrentLinkedQueue<>();
-    private final AtomicBoolean accepting = new AtomicBoolean(true);
-    private final AtomicInteger depth = new AtomicInteger();
+    private final int capacity;
+    private final int mask;
+    private final OverflowPolicy overflowPolicy;
+
+    private final AtomicReferenceArray<Runnable> slots;
+    private final AtomicLongArray sequences;
+    // Posting threads hammer the producer index while the consumer moves its own, so they must not share a cache line
+    private final PaddedIndex producerIndex = new PaddedIndex();
+    private final PaddedIndex consumerIndex = new PaddedIndex();
+
+    private final ConcurrentLinkedQueue<Runnable> overflow = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Runnable> urgent = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Runnable> bulk = new ConcurrentLinkedQueue<>();
+    // ConcurrentLinkedQueue.size() walks the whole queue, so the side queues count their tasks themselves
+    private final LongAdder overflowSize = new LongAdder();
+    private final LongAdder urgentSize = new LongAdder();
+    private final LongAdder bulkSize = new LongAdder();
+
+    private volatile boolean accepting = true;
+    private volatile Thread consumer;
 
-    private final LongAdder posted = new LongAdder();
+    private final LongAdder spilled = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
     private final LongAdder executed = new LongAdder();
     private final LongAdder failed = new LongAdder();
+    private final LongAdder prioritized = new LongAdder();
+    private final LongAdder deferred = new LongAdder();
+    private final LongAdder budgetExhausted = new LongAdder();
 
     @Setter
     private volatile Consumer<Throwable> errorHandler;
 
+    /**
+     * The waiter of the consumer thread, it is woken once a task is posted while the consumer is parked.
+     */
+    @Setter
+    private volatile Waiter waiter;
+
     private final Logger log;
 
     private volatile int maxDepthObserved = 0;
 
+    // Average run time of a normal task in budgeted drains, only accessed by the consumer
+    private long averageTaskNanos = INITIAL_TASK_COST_NS;
+    // Tasks that the last drain left behind because its budget was used up, only written by the consumer
+    private volatile int lastDeferred = 0;
+
+    private volatile Sampler sampler;
+
+    public Mailbox(@NotNull String name, @NotNull Logger log) {
+        this(name, DEFAULT_CAPACITY, DEFAULT_OVERFLOW_POLICY, log);
+    }
+
+    /**
+     * @param capacity The size of the ring buffer, rounded up to the next power of two.
+     */
+    public Mailbox(
+            @NotNull String name,
+            int capacity,
+            @NotNull OverflowPolicy overflowPolicy,
+            @NotNull Logger log
+    ) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("❗ Mailbox '" + name + "' needs a capacity of at least 1!");
+        }
+        this.name = name;
+        this.capacity = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+        this.mask = this.capacity - 1;
+        this.overflowPolicy = overflowPolicy;
+        this.log = log;
+
+        this.slots = new AtomicReferenceArray<>(this.capacity);
+        this.sequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
     public boolean post(@NotNull Runnable runnable) {
-        if (!accepting.get()) { return false; }
-        queue.add(runnable);
-        posted.increment();
-        int newDepth = depth.incrementAndGet();
-        if (newDepth > maxDepthObserved) {
-            maxDepthObserved = newDepth;
+        if (!accepting) { return false; }
+        if (overflowPolicy == OverflowPolicy.SPILL && !overflow.isEmpty()) {
+            return spill(runnable);
         }
-        return true;
+
+        for (;;) {
+            if (offer(runnable)) { return true; }
+
+            switch (overflowPolicy) {
+                case BLOCK -> {
+                    if (Thread.currentThread() == consumer) { return spill(runnable); }
+                    if (!accepting) { return false; }
+                    LockSupport.parkNanos(BLOCK_PARK_TIME_NS);
+                }
+                case DROP_OLDEST -> {
+                    Runnable evicted = pollOne();
+                    if (evicted != null) {
+                        dropped.increment();
+                        // The poster of a blocking task is waiting for it, so it has to learn that the task will never run
+                        if (evicted instanceof BlockingTask<?> blocking) { blocking.drop(dropMessage()); }
+                    }
+                }
+                case REJECT -> {
+                    rejected.increment();
+                    return false;
+                }
+                case SPILL -> { return spill(runnable); }
+            }
+        }
+    }
+
+    /**
+     * Posts the given task with the given priority.
+     * Urgent and bulk tasks are queued without a bound, the overflow policy only applies to normal tasks.
+     */
+    public boolean post(@NotNull Runnable runnable, @NotNull Priority priority) {
+        return switch (priority) {
+            case URGENT -> enqueue(urgent, urgentSize, runnable);
+            case NORMAL -> post(runnable);
+            case BULK -> enqueue(bulk, bulkSize, runnable);
+        };
     }
 
     public void postOrThrow(@NotNull Runnable runnable) {
         if (!post(runnable)) {
-            throw new IllegalStateException("Mailbox '" + name + "' is not accepting further tasks! Missing '" + runnable.getClass().getSimpleName() + "'...");
+            throw new IllegalStateException(rejectionMessage(runnable));
+        }
+    }
+
+    public void postOrThrow(@NotNull Runnable runnable, @NotNull Priority priority) {
+        if (!post(runnable, priority)) {
+            throw new IllegalStateException(rejectionMessage(runnable));
         }
     }
 
     public void postBlocking(@NotNull Runnable task) {
-        CompletableFuture<Void> done = new CompletableFuture<>();
-        if (!post(() -> {
-            try {
-                task.run();
-                done.complete(null);
-            } catch (Throwable t) {
-                done.completeExceptionally(t);
-            }
-        })) {
-            throw new IllegalStateException("Mailbox '" + name + "' is not accepting further tasks! Missing '" + task.getClass().getSimpleName() + "'...");
+        BlockingTask<Void> blocking = new BlockingTask<>(() -> {
+            task.run();
+            return null;
+        });
+        if (!post(blocking)) {
+            throw new IllegalStateException(rejectionMessage(task));
         }
         try {
-            done.join();
+            blocking.done.join();
         } catch (Throwable t) {
             Throwable cause = (t.getCause() != null) ? t.getCause() : t;
             switch (cause) {
@@ -81,17 +239,11 @@ public final class Mailbox {
     }
 
     public <T> T postSupplierBlocking(@NotNull Supplier<T> supplier) {
-        CompletableFuture<T> done = new CompletableFuture<>();
-        if (!post(() -> {
-            try {
-                done.complete(supplier.get());
-            } catch (Throwable t) {
-                done.completeExceptionally(t);
-            }
-        })) {
-            throw new IllegalStateException("Mailbox '" + name + "' is not accepting further tasks! Missing '" + supplier.getClass().getSimpleName() + "'...");
+        BlockingTask<T> blocking = new BlockingTask<>(supplier);
+        if (!post(blocking)) {
+            throw new IllegalStateException(rejectionMessage(supplier));
         }
-        return done.join();
+        return blocking.done.join();
     }
 
     public void postAll(@NotNull Runnable... runnables) {
@@ -116,24 +268,56 @@ public final class Mailbox {
         return results;
     }
 
-    public void drain() {
-        drain(Integer.MAX_VALUE);
+    public int drain() {
+        return drain(Integer.MAX_VALUE);
     }
 
-    public void drain(int maxTasks) {
-        int taskCount = 0;
-        for (Runnable runnable; taskCount < maxTasks && (runnable = queue.poll()) != null; taskCount++) {
-            depth.decrementAndGet();
-            try {
-                runnable.run();
-                executed.increment();
-            } catch (Throwable t) {
-                failed.increment();
-                final Consumer<Throwable> finalErrorHandler = errorHandler;
-                if (errorHandler != null) { errorHandler.accept(t); }
-                else { log.error(t.getMessage(), t); }
+    /**
+     * Executes up to the given amount of queued tasks on the current thread.
+     * Urgent tasks are executed first, then the available tasks of the ring buffer (claimed as one batch)
+     * and spilled tasks, and bulk tasks last.
+     * @return The amount of tasks that were executed (including failed ones).
+     */
+    public int drain(int maxTasks) {
+        return drain(maxTasks, 0L);
+    }
+
+    /**
+     * Executes up to the given amount of queued tasks on the current thread until the given time budget is used up.
+     * Urgent tasks are executed regardless of the budget, normal and bulk tasks only while it lasts.
+     * At least one normal and one bulk task is executed per drain (if there are any), so neither can be starved completely.
+     * The tasks that are left once the budget is used up are counted as deferred.
+     * @param budgetNanos The time the drain may take or 0 to only limit it by the amount of tasks.
+     * @return The amount of tasks that were executed (including failed ones).
+     * @apiNote A task is never interrupted, so a drain overruns its budget by up to the run time of its last task.
+     */
+    public int drain(int maxTasks, long budgetNanos) {
+        if (maxTasks <= 0) { return 0; }
+        consumer = Thread.currentThread();
+
+        final Sampler finalSampler = sampler;
+        if (finalSampler != null) {
+            finalSampler.slowestType = null;
+            finalSampler.slowestNanos = 0L;
+        }
+        long deadline = budgetNanos > 0 ? System.nanoTime() + budgetNanos : NO_DEADLINE;
+
+        int taskCount = runQueued(urgent, urgentSize, maxTasks, NO_DEADLINE, finalSampler);
+        taskCount += deadline == NO_DEADLINE
+                ? runNormal(maxTasks - taskCount, finalSampler)
+                : runNormalBudgeted(maxTasks - taskCount, deadline, finalSampler);
+        taskCount += runQueued(bulk, bulkSize, maxTasks - taskCount, deadline, finalSampler);
+
+        if (deadline != NO_DEADLINE) {
+            int left = System.nanoTime() >= deadline ? depth() : 0;
+            if (left > 0) {
+                deferred.add(left);
+                budgetExhausted.increment();
             }
+            lastDeferred = left;
         }
+        if (finalSampler != null && taskCount > 0) { finalSampler.batch.record(taskCount); }
+        return taskCount;
     }
 
     public void drainUntilEmpty() {
@@ -142,15 +326,13 @@ public final class Mailbox {
 
     public void drainUntilEmpty(int maxTotalTasks) {
         int processed = 0;
-        while (!queue.isEmpty() && processed < maxTotalTasks) {
-            int before = executed.intValue();
-            drain(BATCH_SIZE);
-            processed += (executed.intValue() - before);
+        while (!isEmpty() && processed < maxTotalTasks) {
+            processed += drain(Math.min(BATCH_SIZE, maxTotalTasks - processed));
         }
     }
 
     public void shutdown() {
-        accepting.set(false);
+        accepting = false;
     }
 
     public void shutdownAndDrainAll() {
@@ -158,12 +340,410 @@ public final class Mailbox {
         drainUntilEmpty();
     }
 
-    public boolean isEmpty() { return queue.isEmpty(); }
+    /**
+     * Wakes the consumer thread if it is parked, for work that reaches it without being posted (like the tasks of a scheduler).
+     */
+    public void wake() { signal(); }
+
+    public boolean isEmpty() {
+        return consumerIndex.get() >= producerIndex.get() && overflow.isEmpty() && urgent.isEmpty() && bulk.isEmpty();
+    }
 
-    public int depth() { return depth.get(); }
-    public long postedCount() { return posted.sum(); }
+    public int depth() {
+        long ringDepth = Math.max(0L, producerIndex.get() - consumerIndex.get());
+        long queuedDepth = Math.max(0L, overflowSize.sum()) + Math.max(0L, urgentSize.sum()) + Math.max(0L, bulkSize.sum());
+        return (int) Math.min(Integer.MAX_VALUE, ringDepth + queuedDepth);
+    }
+    public @NotNull String name() { return name; }
+    public int capacity() { return capacity; }
+    public @NotNull OverflowPolicy overflowPolicy() { return overflowPolicy; }
+    public long postedCount() { return producerIndex.get() + spilled.sum() + prioritized.sum(); }
     public long executedCount() { return executed.sum(); }
     public long failedCount() { return failed.sum(); }
+    public long spilledCount() { return spilled.sum(); }
+    public long droppedCount() { return dropped.sum(); }
+    public long rejectedCount() { return rejected.sum(); }
     public int maxDepthObserved() { return maxDepthObserved; }
-    public boolean isAccepting() { return accepting.get(); }
-}
\ No newline at end of file
+    /**
+     * @return The total of the tasks that budgeted drains have left behind once their budget was used up.
+     */
+    public long deferredCount() { return deferred.sum(); }
+    /**
+     * @return The amount of budgeted drains that have used up their budget before the mailbox was empty.
+     */
+    public long budgetExhaustedCount() { return budgetExhausted.sum(); }
+    /**
+     * @return The amount of tasks the last budgeted drain has left behind once its budget was used up.
+     */
+    public int lastDeferred() { return lastDeferred; }
+    public boolean isAccepting() { return accepting; }
+
+    /**
+     * Starts recording wait times, run times and batch sizes of this mailbox (resets previously recorded values).
+     * @param sampleInterval Every how many posts the enqueue time is recorded, rounded up to the next power of two.
+     * @param slowTaskThresholdNanos The run time after which a task is logged as slow or 0 to not log slow tasks.
+     */
+    public void enableSampling(int sampleInterval, long slowTaskThresholdNanos) {
+        if (sampleInterval < 1) {
+            throw new IllegalArgumentException("❗ Mailbox '" + name + "' needs a sample interval of at least 1!");
+        }
+        this.sampler = new Sampler(capacity, sampleInterval, slowTaskThresholdNanos);
+    }
+
+    /**
+     * Stops recording and discards all recorded values.
+     */
+    public void disableSampling() { this.sampler = null; }
+
+    public boolean isSampling() { return sampler != null; }
+
+    /**
+     * @return The recorded values or null if sampling is disabled.
+     */
+    public @Nullable Stats stats() {
+        final Sampler finalSampler = sampler;
+        if (finalSampler == null) { return null; }
+        return new Stats(
+                finalSampler.wait.snapshot(),
+                finalSampler.run.snapshot(),
+                finalSampler.batch.snapshot(),
+                finalSampler.slowTasks.sum()
+        );
+    }
+
+    /**
+     * @return The type of the task that ran longest in the last drain or null if sampling is disabled or nothing ran.
+     * @apiNote Must only be called by the thread that drains this mailbox.
+     */
+    public @Nullable Class<?> slowestTaskOfLastDrain() {
+        final Sampler finalSampler = sampler;
+        return finalSampler == null ? null : finalSampler.slowestType;
+    }
+
+    /**
+     * @return The run time of the task that ran longest in the last drain or 0 if sampling is disabled or nothing ran.
+     * @apiNote Must only be called by the thread that drains this mailbox.
+     */
+    public long slowestTaskNanosOfLastDrain() {
+        final Sampler finalSampler = sampler;
+        return finalSampler == null ? 0L : finalSampler.slowestNanos;
+    }
+
+    private boolean offer(@NotNull Runnable runnable) {
+        long index = producerIndex.get();
+        for (;;) {
+            int slot = (int) index & mask;
+            long difference = sequences.getAcquire(slot) - index;
+            if (difference == 0) {
+                if (producerIndex.compareAndSet(index, index + 1)) {
+                    slots.setPlain(slot, runnable);
+                    final Sampler finalSampler = sampler;
+                    if (finalSampler != null) { finalSampler.stamp(slot, index); }
+                    sequences.setRelease(slot, index + 1);
+                    signal();
+                    return true;
+                }
+                index = producerIndex.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                index = producerIndex.get();
+            }
+        }
+    }
+
+    /**
+     * Executes the available tasks of the ring buffer (claimed as one batch) and spilled tasks afterward.
+     */
+    private int runNormal(int maxTasks, @Nullable Sampler sampler) {
+        if (maxTasks <= 0) { return 0; }
+
+        int taskCount = 0;
+        long start;
+        long end;
+        for (;;) {
+            start = consumerIndex.get();
+            long available = producerIndex.get() - start;
+            if (available <= 0) {
+                end = start;
+                break;
+            }
+            if (available > maxDepthObserved) { maxDepthObserved = (int) Math.min(available, Integer.MAX_VALUE); }
+
+            end = start + Math.min(available, maxTasks);
+            if (consumerIndex.compareAndSet(start, end)) { break; }
+        }
+
+        if (sampler == null) {
+            for (long index = start; index < end; index++) {
+                run(take(index, null));
+                taskCount++;
+            }
+
+            for (Runnable runnable; taskCount < maxTasks && (runnable = overflow.poll()) != null; taskCount++) {
+                overflowSize.decrement();
+                run(runnable);
+            }
+            return taskCount;
+        }
+
+        for (long index = start; index < end; index++) {
+            runSampled(take(index, sampler), sampler);
+            taskCount++;
+        }
+
+        for (Runnable runnable; taskCount < maxTasks && (runnable = overflow.poll()) != null; taskCount++) {
+            overflowSize.decrement();
+            sampler.takenPostedAt = 0L;
+            runSampled(runnable, sampler);
+        }
+        return taskCount;
+    }
+
+    /**
+     * Executes normal tasks in batches that are sized by the average task cost to fit into the remaining budget,
+     * so the clock is only read once per batch.
+     */
+    private int runNormalBudgeted(int maxTasks, long deadline, @Nullable Sampler sampler) {
+        int taskCount = 0;
+        while (taskCount < maxTasks) {
+            long batchStart = System.nanoTime();
+            if (taskCount > 0 && batchStart >= deadline) { break; }
+
+            long fitting = (deadline - batchStart) / Math.max(1L, averageTaskNanos);
+            int batchSize = (int) Math.clamp(fitting, 1L, Math.min(BATCH_SIZE, maxTasks - taskCount));
+            int executed = runNormal(batchSize, sampler);
+            if (executed == 0) { break; }
+
+            long taskNanos = (System.nanoTime() - batchStart) / executed;
+            averageTaskNanos += (taskNanos - averageTaskNanos) / TASK_COST_SMOOTHING;
+            taskCount += executed;
+        }
+        return taskCount;
+    }
+
+    /**
+     * Executes tasks of an unbounded queue until it is empty or the deadline has passed (after at least one task).
+     */
+    private int runQueued(
+            @NotNull ConcurrentLinkedQueue<Runnable> queue,
+            @NotNull LongAdder queued,
+            int maxTasks,
+            long deadline,
+            @Nullable Sampler sampler
+    ) {
+        int taskCount = 0;
+        for (Runnable runnable; taskCount < maxTasks; taskCount++) {
+            if (taskCount > 0 && deadline != NO_DEADLINE && System.nanoTime() >= deadline) { break; }
+            if ((runnable = queue.poll()) == null) { break; }
+            queued.decrement();
+            if (sampler == null) {
+                run(runnable);
+            } else {
+                sampler.takenPostedAt = 0L;
+                runSampled(runnable, sampler);
+            }
+        }
+        return taskCount;
+    }
+
+    private Runnable pollOne() {
+        long index = consumerIndex.get();
+        for (;;) {
+            int slot = (int) index & mask;
+            long difference = sequences.getAcquire(slot) - (index + 1);
+            if (difference == 0) {
+                if (consumerIndex.compareAndSet(index, index + 1)) {
+                    Runnable runnable = slots.getPlain(slot);
+                    slots.setPlain(slot, null);
+                    sequences.setRelease(slot, index + capacity);
+                    return runnable;
+                }
+                index = consumerIndex.get();
+            } else if (difference < 0) {
+                return null;
+            } else {
+                index = consumerIndex.get();
+            }
+        }
+    }
+
+    private @NotNull Runnable take(long index, @Nullable Sampler sampler) {
+        int slot = (int) index & mask;
+        int spins = 0;
+        while (sequences.getAcquire(slot) != index + 1) {
+            // The slot was claimed by a producer that has not published its task yet
+            if (++spins < PUBLISH_SPIN_LIMIT) { Thread.onSpinWait(); }
+            else { Thread.yield(); }
+        }
+        Runnable runnable = slots.getPlain(slot);
+        slots.setPlain(slot, null);
+        if (sampler != null) { sampler.collect(slot); }
+        sequences.setRelease(slot, index + capacity);
+        return runnable;
+    }
+
+    private void runSampled(@NotNull Runnable runnable, @NotNull Sampler sampler) {
+        long startTime = System.nanoTime();
+        if (sampler.takenPostedAt != 0L) { sampler.wait.record(startTime - sampler.takenPostedAt); }
+
+        run(runnable);
+
+        long runTime = System.nanoTime() - startTime;
+        sampler.run.record(runTime);
+        if (runTime > sampler.slowestNanos) {
+            sampler.slowestNanos = runTime;
+            sampler.slowestType = runnable.getClass();
+        }
+        if (sampler.slowTaskThresholdNanos > 0 && runTime > sampler.slowTaskThresholdNanos) {
+            sampler.slowTasks.increment();
+            log.warn(
+                    "⚠️ Slow task '{}' in mailbox '{}' took {} ms!",
+                    runnable.getClass().getName(), name, runTime / 1_000_000.0
+            );
+        }
+    }
+
+    private void run(@NotNull Runnable runnable) {
+        try {
+            runnable.run();
+            executed.increment();
+        } catch (Throwable t) {
+            failed.increment();
+            final Consumer<Throwable> finalErrorHandler = errorHandler;
+            if (finalErrorHandler != null) { finalErrorHandler.accept(t); }
+            else { log.error(t.getMessage(), t); }
+        }
+    }
+
+    private boolean enqueue(@NotNull ConcurrentLinkedQueue<Runnable> queue, @NotNull LongAdder queued, @NotNull Runnable runnable) {
+        if (!accepting) { return false; }
+        queued.increment();
+        queue.add(runnable);
+        prioritized.increment();
+        signal();
+        return true;
+    }
+
+    private boolean spill(@NotNull Runnable runnable) {
+        overflowSize.increment();
+        overflow.add(runnable);
+        spilled.increment();
+        signal();
+        return true;
+    }
+
+    private void signal() {
+        final Waiter finalWaiter = waiter;
+        if (finalWaiter != null && finalWaiter.isParked()) { finalWaiter.wake(); }
+    }
+
+    /**
+     * The task of a blocking post, it completes its future once it ran or once it was dropped without running.
+     */
+    private static final class BlockingTask<T> implements Runnable {
+        private final Supplier<T> supplier;
+        private final CompletableFuture<T> done = new CompletableFuture<>();
+
+        private BlockingTask(@NotNull Supplier<T> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public void run() {
+            try {
+                done.complete(supplier.get());
+            } catch (Throwable t) {
+                done.completeExceptionally(t);
+            }
+        }
+
+        private void drop(@NotNull String message) {
+            done.completeExceptionally(new RejectedExecutionException(message));
+        }
+    }
+
+    /**
+     * A volatile long that is padded by 64 bytes on both sides, so it never shares a cache line with other data.
+     * The padding is split across the class hierarchy, as the JVM only keeps the order of fields between a class and its superclass.
+     */
+    private static final class PaddedIndex extends IndexValue {
+        private static final VarHandle VALUE;
+
+        static {
+            try {
+                VALUE = MethodHandles.lookup().findVarHandle(IndexValue.class, "value", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private long p10, p11, p12, p13, p14, p15, p16, p17;
+
+        private long get() { return value; }
+
+        private boolean compareAndSet(long expected, long next) { return VALUE.compareAndSet(this, expected, next); }
+    }
+
+    private abstract static class IndexValue extends IndexPadding {
+        protected volatile long value;
+    }
+
+    private abstract static class IndexPadding {
+        private long p00, p01, p02, p03, p04, p05, p06, p07;
+    }
+
+    /**
+     * The recorded values of a mailbox with sampling enabled.
+     * Enqueue times are stored per ring slot and published together with the task, so sampling does not allocate.
+     */
+    private static final class Sampler {
+        private final long[] postedAt;
+        private final long sampleMask;
+        private final long slowTaskThresholdNanos;
+
+        private final Histogram wait = new Histogram();
+        private final Histogram run = new Histogram();
+        private final Histogram batch = new Histogram();
+        private final LongAdder slowTasks = new LongAdder();
+
+        // Enqueue time of the task that was taken last, only accessed by the consumer
+        private long takenPostedAt = 0L;
+
+        // Longest running task of the current or last drain, only accessed by the consumer
+        private Class<?> slowestType;
+        private long slowestNanos = 0L;
+
+        private Sampler(int capacity, int sampleInterval, long slowTaskThresholdNanos) {
+            this.postedAt = new long[capacity];
+            this.sampleMask = Math.max(1, Integer.highestOneBit(sampleInterval - 1) << 1) - 1;
+            this.slowTaskThresholdNanos = Math.max(0L, slowTaskThresholdNanos);
+        }
+
+        /**
+         * Records the enqueue time of a claimed slot, must happen before the slot is published.
+         */
+        private void stamp(int slot, long index) {
+            postedAt[slot] = (index & sampleMask) == 0 ? System.nanoTime() : 0L;
+        }
+
+        /**
+         * Takes the enqueue time of a taken slot, must happen before the slot is released.
+         */
+        private void collect(int slot) {
+            takenPostedAt = postedAt[slot];
+            postedAt[slot] = 0L;
+        }
+    }
+
+    private @NotNull String dropMessage() {
+        return "Mailbox '" + name + "' is full (capacity " + capacity + ", policy " + overflowPolicy + ") and dropped a blocking task before it ran!";
+    }
+
+    private @NotNull String rejectionMessage(@NotNull Object task) {
+        if (!accepting) {
+            return "Mailbox '" + name + "' is not accepting further tasks! Missing '" + task.getClass().getSimpleName() + "'...";
+        }
+        return "Mailbox '" + name + "' is full (capacity " + capacity + ", policy " + overflowPolicy + ")! Missing '" + task.getClass().getSimpleName() + "'...";
+    }
+}
@@ -2,6 +2,7 @@ package com.akjostudios.engine.api.common.mailbox;
 
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
 
 @SuppressWarnings("unused")
 public final class Waiter {
@@ -14,6 +15,17 @@ public final class Waiter {
         parked.compareAndSet(current, null);
     }
 
+    /**
+     * Parks the current thread unless the given condition already holds once the thread is registered as parked.
+     * A producer that makes the condition true and then calls {@link #wake()} can therefore never be missed.
+     */
+    public void park(long nanos, BooleanSupplier skip) {
+        Thread current = Thread.currentThread();
+        parked.set(current);
+        if (!skip.getAsBoolean()) { LockSupport.parkNanos(nanos); }
+        parked.compareAndSet(current, null);
+    }
+
     public void wake() {
         Thread parked = this.parked.getAndSet(null);
         if (parked != null) { LockSupport.unpark(parked); }
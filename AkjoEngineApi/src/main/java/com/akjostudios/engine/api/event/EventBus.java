@@ -1,16 +1,49 @@
 package com.akjostudios.engine.api.event;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 @SuppressWarnings({"unused", "UnusedReturnValue"})
 public interface EventBus {
+    int DEFAULT_PRIORITY = 0;
+
     /**
      * Subscribes an event listener to the given event type.
+     * The listener runs with the default priority on the lane the event is dispatched on.
      * @return The subscription to close if needed.
      */
-    <T extends Event> EventSubscription subscribe(
+    default <T extends Event> EventSubscription subscribe(
             @NotNull Class<T> type,
             @NotNull EventListener<T> listener
+    ) {
+        return subscribe(type, listener, DEFAULT_PRIORITY, null);
+    }
+
+    /**
+     * Subscribes an event listener with the given priority to the given event type.
+     * Listeners with a higher priority are called first, listeners with the same priority in subscription order.
+     * @return The subscription to close if needed.
+     */
+    default <T extends Event> EventSubscription subscribe(
+            @NotNull Class<T> type,
+            @NotNull EventListener<T> listener,
+            int priority
+    ) {
+        return subscribe(type, listener, priority, null);
+    }
+
+    /**
+     * Subscribes an event listener with the given priority to the given event type.
+     * Listeners with a higher priority are called first, listeners with the same priority in subscription order.
+     * @param lane The lane the listener is called on - events dispatched on another lane are handed over to it.
+     *             If null, the listener is called on the lane the event is dispatched on.
+     * @return The subscription to close if needed.
+     */
+    <T extends Event> EventSubscription subscribe(
+            @NotNull Class<T> type,
+            @NotNull EventListener<T> listener,
+            int priority,
+            @Nullable EventLane lane
     );
 
     /**
@@ -6,7 +6,9 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
- * Marks a method as an event handler that runs on the given {@link EventLane event lane} (default: LOGIC).
+ * Marks a method as an event handler that runs on the lane the event is dispatched on,
+ * or on the given {@link EventLane event lane} if one is set (events dispatched on another lane are handed over to it).
+ * Handlers with a higher priority are called before handlers with a lower one (default: {@link EventBus#DEFAULT_PRIORITY}).
  * @apiNote Method needs exactly one parameter, the event object of the given type.
  */
 @Target(ElementType.METHOD)
@@ -14,5 +16,7 @@ import java.lang.annotation.Target;
 @SuppressWarnings("unused")
 public @interface EventHandler {
     Class<? extends Event> value() default Event.class;
-    EventLane lane() default EventLane.LOGIC;
+    /** The lane the handler is bound to, at most one - empty keeps the handler on the lane of the publisher. */
+    EventLane[] lane() default {};
+    int priority() default EventBus.DEFAULT_PRIORITY;
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.akjostudios.engine.api.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A monotonically increasing count that is striped across cells, so concurrent increments do not contend.
+ */
+@SuppressWarnings("unused")
+public final class Counter {
+    private final LongAdder value = new LongAdder();
+
+    public void increment() { value.increment(); }
+
+    public void add(long amount) { value.add(amount); }
+
+    /**
+     * @return The current count (not an atomic snapshot while increments are in progress).
+     */
+    public long sum() { return value.sum(); }
+}
@@ -0,0 +1,11 @@
+package com.akjostudios.engine.api.metrics;
+
+/**
+ * A value that is read when a snapshot is taken, e.g. the depth of a queue.
+ * @apiNote Is called from the thread that takes the snapshot, so it must be thread-safe and should not block.
+ */
+@FunctionalInterface
+@SuppressWarnings("unused")
+public interface Gauge {
+    double value();
+}
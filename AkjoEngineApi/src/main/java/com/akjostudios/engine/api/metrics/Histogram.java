@@ -0,0 +1,111 @@
+package com.akjostudios.engine.api.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A log-linear histogram of non-negative values with a fixed set of buckets (8 per power of two, so at most 12.5% off).
+ * Recording is lock-free and never allocates, it can be done from any thread while other threads take snapshots.
+ */
+@SuppressWarnings("unused")
+public final class Histogram {
+    /**
+     * @param count The amount of recorded values.
+     * @param mean The mean of all recorded values.
+     * @param p50 The median (at most 12.5% above the exact value).
+     * @param p99 The 99th percentile (at most 12.5% above the exact value).
+     * @param max The largest recorded value.
+     */
+    public record Snapshot(long count, double mean, long p50, long p99, long max) {}
+
+    private static final int LINEAR_LIMIT = 16;
+    private static final int SUB_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int BUCKET_COUNT = LINEAR_LIMIT + (Long.SIZE - 5) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records the given value (negative values are recorded as 0).
+     */
+    public void record(long value) {
+        long clamped = Math.max(0L, value);
+        buckets.getAndIncrement(bucketOf(clamped));
+        count.increment();
+        sum.add(clamped);
+        for (long current; clamped > (current = max.get()); ) {
+            if (max.compareAndSet(current, clamped)) { break; }
+        }
+    }
+
+    public long count() { return count.sum(); }
+
+    public long max() { return max.get(); }
+
+    /**
+     * @param percentile The percentile between 0 and 1.
+     * @return The upper bound of the bucket the given share of values does not exceed.
+     */
+    public long percentile(double percentile) {
+        long[] counts = new long[BUCKET_COUNT];
+        return percentile(counts, load(counts), percentile);
+    }
+
+    /**
+     * @return The current values, buckets that are recorded into while the snapshot is taken may or may not be included.
+     */
+    public @NotNull Snapshot snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        long total = load(counts);
+        long recorded = count.sum();
+        return new Snapshot(
+                recorded,
+                recorded == 0 ? 0.0 : sum.sum() / (double) recorded,
+                percentile(counts, total, 0.5),
+                percentile(counts, total, 0.99),
+                max.get()
+        );
+    }
+
+    private long load(long@NotNull[] counts) {
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        return total;
+    }
+
+    private long percentile(long@NotNull[] counts, long total, double percentile) {
+        if (total == 0) { return 0L; }
+
+        long rank = Math.max(1L, (long) Math.ceil(Math.clamp(percentile, 0.0, 1.0) * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) { return Math.min(max.get(), upperBoundOf(i)); }
+        }
+        return max.get();
+    }
+
+    private static int bucketOf(long value) {
+        if (value < LINEAR_LIMIT) { return (int) value; }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return LINEAR_LIMIT + (exponent - 4) * SUB_BUCKETS + sub;
+    }
+
+    private static long upperBoundOf(int bucket) {
+        if (bucket < LINEAR_LIMIT) { return bucket; }
+        int exponent = (bucket - LINEAR_LIMIT) / SUB_BUCKETS + 4;
+        int sub = (bucket - LINEAR_LIMIT) % SUB_BUCKETS;
+        long lower = (long) (SUB_BUCKETS + sub) << (exponent - SUB_BITS);
+        return lower + (1L << (exponent - SUB_BITS)) - 1;
+    }
+}
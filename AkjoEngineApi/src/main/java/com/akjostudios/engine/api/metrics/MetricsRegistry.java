@@ -0,0 +1,40 @@
+package com.akjostudios.engine.api.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The registry of all engine and application metrics.
+ * Metrics are looked up once and then recorded into directly, which needs no locks and does not allocate.
+ */
+@SuppressWarnings({"unused", "UnusedReturnValue"})
+public interface MetricsRegistry {
+    /**
+     * @return The counter with the given name (created if it does not exist yet).
+     * @throws IllegalArgumentException When the name is already used by a metric of another kind.
+     */
+    @NotNull Counter counter(@NotNull String name) throws IllegalArgumentException;
+
+    /**
+     * @return The histogram with the given name (created if it does not exist yet).
+     * @throws IllegalArgumentException When the name is already used by a metric of another kind.
+     */
+    @NotNull Histogram histogram(@NotNull String name) throws IllegalArgumentException;
+
+    /**
+     * Registers the given gauge, replacing a gauge with the same name.
+     * @throws IllegalArgumentException When the name is already used by a metric of another kind.
+     */
+    void gauge(@NotNull String name, @NotNull Gauge gauge) throws IllegalArgumentException;
+
+    /**
+     * Removes the metric with the given name.
+     * @return If a metric has been removed.
+     */
+    boolean remove(@NotNull String name);
+
+    /**
+     * Reads all metrics without blocking the threads that record into them.
+     * @apiNote Allocates the snapshot, it is meant to be taken periodically (e.g. once per second) for exporting.
+     */
+    @NotNull MetricsSnapshot snapshot();
+}
@@ -0,0 +1,16 @@
+package com.akjostudios.engine.api.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+
+/**
+ * The values of all registered metrics at one point in time, sorted by name.
+ * @param timestampNanos The engine time the snapshot was taken at.
+ */
+public record MetricsSnapshot(
+        long timestampNanos,
+        @NotNull Map<String, Long> counters,
+        @NotNull Map<String, Double> gauges,
+        @NotNull Map<String, Histogram.Snapshot> histograms
+) {}
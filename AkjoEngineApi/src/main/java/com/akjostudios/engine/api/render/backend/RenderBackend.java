@@ -10,5 +10,5 @@ public interface RenderBackend extends Disposable {
     void init(@NotNull RenderDevice device);
     void beginFrame(@NotNull FrameInfo frame);
     void execute(@NotNull RenderCommand command) throws Exception;
-    void endFrame();
+    void endFrame() throws Exception;
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.akjostudios.engine.api.scheduling;
 
 import com.akjostudios.engine.api.common.cancel.Cancellable;
+import com.akjostudios.engine.api.common.mailbox.Mailbox;
 import org.jetbrains.annotations.NotNull;
 
 @SuppressWarnings({"unused", "UnusedReturnValue"})
@@ -27,6 +28,15 @@ public interface FrameScheduler {
         return afterFrames(0, task);
     }
 
+    /**
+     * Runs the given task as soon as possible with the given priority relative to the other queued tasks of this thread.
+     * Urgent tasks run before the next frame even if the thread is behind, bulk tasks only while its time budget lasts.
+     * @return An object which can be used to cancel the task.
+     */
+    default @NotNull Cancellable immediate(@NotNull Runnable task, @NotNull Mailbox.Priority priority) {
+        return immediate(task);
+    }
+
     /**
      * @return The current frame count
      */
@@ -1,6 +1,7 @@
 package com.akjostudios.engine.api.scheduling;
 
 import com.akjostudios.engine.api.common.cancel.Cancellable;
+import com.akjostudios.engine.api.common.mailbox.Mailbox;
 import org.jetbrains.annotations.NotNull;
 
 @SuppressWarnings({"unused", "UnusedReturnValue"})
@@ -39,6 +40,12 @@ public interface Scheduler {
      */
     @NotNull Cancellable runImmediately(@NotNull Runnable task, @NotNull SchedulerLane lane);
 
+    /**
+     * Runs the given task immediately with the given scheduler lane and priority.
+     * @return An object which can be used to cancel the task.
+     */
+    @NotNull Cancellable runImmediately(@NotNull Runnable task, @NotNull SchedulerLane lane, @NotNull Mailbox.Priority priority);
+
     /**
      * @return If the given task is still scheduled.
      */
@@ -0,0 +1,89 @@
+package com.akjostudios.engine.api.threading;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Decides how the fixed-step logic loop reacts when its ticks need more time than the steps they simulate.
+ * The logic thread asks its policy after every loop iteration that ran ticks, the response applies until the next one.
+ * Time that exceeds the catch-up limit of the loop is dropped and reported as lost ticks, whatever the policy responds.
+ */
+@FunctionalInterface
+@SuppressWarnings("unused")
+public interface CatchUpPolicy {
+    /** The load above which the built-in policies start to degrade the loop. */
+    double OVERLOADED_LOAD = 1.0;
+    /** The load below which the built-in policies return to normal, lower than {@link #OVERLOADED_LOAD} so they do not flap. */
+    double RECOVERED_LOAD = 0.8;
+
+    double MIN_TIME_SCALE = 0.25;
+    double MAX_RATE_SCALE = 4.0;
+
+    /**
+     * Drops the time the loop cannot catch up with, game time falls behind real time (the default).
+     */
+    CatchUpPolicy DROP_TIME = (_, _) -> Response.NONE;
+
+    /**
+     * Lets game time run slower than real time, so every tick still happens but the game runs in slow motion.
+     */
+    CatchUpPolicy SLOW_DOWN = (load, current) -> {
+        if (load > OVERLOADED_LOAD) { return new Response(Math.max(MIN_TIME_SCALE, 1.0 / load), 1.0, false); }
+        return load < RECOVERED_LOAD ? Response.NONE : current;
+    };
+
+    /**
+     * Lowers the tick rate until the ticks fit again, every update gets a correspondingly larger delta time.
+     */
+    CatchUpPolicy REDUCE_RATE = (load, current) -> {
+        if (load > OVERLOADED_LOAD) { return new Response(1.0, Math.min(MAX_RATE_SCALE, load), false); }
+        return load < RECOVERED_LOAD ? Response.NONE : current;
+    };
+
+    /**
+     * Asks optional systems to skip their work (see {@link Threading#shouldSkipOptional()}) while the loop is overloaded.
+     */
+    CatchUpPolicy SKIP_OPTIONAL = (load, current) -> {
+        if (load > OVERLOADED_LOAD) { return Response.SKIP; }
+        return load < RECOVERED_LOAD ? Response.NONE : current;
+    };
+
+    /**
+     * @param load How much of its step a tick needed recently (including the logic tasks executed for it),
+     *             above 1 the loop cannot keep up at its full rate.
+     * @param current The response that currently applies.
+     * @return How the loop runs until the next iteration.
+     * @apiNote Called on the logic thread, must not block.
+     */
+    @NotNull Response respond(double load, @NotNull Response current);
+
+    /**
+     * @return The built-in policy for the given mode.
+     */
+    static @NotNull CatchUpPolicy of(@NotNull Threading.CatchUpMode mode) {
+        return switch (mode) {
+            case DROP_TIME -> DROP_TIME;
+            case SLOW_DOWN -> SLOW_DOWN;
+            case REDUCE_RATE -> REDUCE_RATE;
+            case SKIP_OPTIONAL -> SKIP_OPTIONAL;
+        };
+    }
+
+    /**
+     * @param timeScale The share of real time the simulation advances by (below 1 the game runs in slow motion).
+     * @param rateScale The factor the step length is multiplied with (above 1 lowers the tick rate).
+     * @param skipOptional If optional systems should skip their work.
+     */
+    record Response(
+            double timeScale,
+            double rateScale,
+            boolean skipOptional
+    ) {
+        public static final Response NONE = new Response(1.0, 1.0, false);
+        public static final Response SKIP = new Response(1.0, 1.0, true);
+
+        public Response {
+            timeScale = Math.clamp(timeScale, MIN_TIME_SCALE, 1.0);
+            rateScale = Math.clamp(rateScale, 1.0, MAX_RATE_SCALE);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.akjostudios.engine.api.threading;
+
+/**
+ * A handle to a job of the {@link JobSystem job system}.
+ * Handles can be passed as dependencies to other jobs, which only start once all of their dependencies are done.
+ */
+@SuppressWarnings({"unused", "UnusedReturnValue"})
+public interface JobHandle {
+    /**
+     * @return If the job has finished (successfully or not).
+     */
+    boolean isDone();
+
+    /**
+     * @return If the job or one of its dependencies has thrown an exception.
+     */
+    boolean isFailed();
+
+    /**
+     * Waits until the job has finished.
+     * Instead of only blocking, the calling thread helps by executing the job and its dependencies itself
+     * (so the logic thread can take part in a job it has split across the worker cores).
+     * @throws RuntimeException When the job or one of its dependencies has thrown an exception.
+     */
+    void complete();
+}
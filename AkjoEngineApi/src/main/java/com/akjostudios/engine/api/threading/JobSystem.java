@@ -0,0 +1,38 @@
+package com.akjostudios.engine.api.threading;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Runs jobs on the work-stealing compute pool of the threading system.
+ * Jobs can depend on other jobs and are only started once all of their dependencies are done.
+ * A job whose dependency has failed does not run and fails as well.
+ */
+@SuppressWarnings({"unused", "UnusedReturnValue"})
+public interface JobSystem {
+    /**
+     * Schedules the given job to run once all the given dependencies are done.
+     * @return The handle of the job.
+     */
+    @NotNull JobHandle schedule(@NotNull Runnable job, @NotNull JobHandle... dependsOn);
+
+    /**
+     * Schedules the given body to run once for every index in the range [from, to) after all the given dependencies are done.
+     * The range is split into chunks of the given grain size that are executed in parallel.
+     * @param grain The amount of indices that are executed as one chunk (at least 1).
+     * @return The handle of the job that is done once the whole range has been executed.
+     */
+    @NotNull JobHandle parallelFor(
+            int from,
+            int to,
+            int grain,
+            @NotNull IntConsumer body,
+            @NotNull JobHandle... dependsOn
+    );
+
+    /**
+     * @return The amount of threads that execute jobs (without threads that help through {@link JobHandle#complete()}).
+     */
+    int parallelism();
+}
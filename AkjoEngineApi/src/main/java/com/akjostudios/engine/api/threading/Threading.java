@@ -11,14 +11,66 @@ import java.util.concurrent.CompletableFuture;
 @SuppressWarnings({"unused", "UnusedReturnValue", "RedundantThrows"})
 public interface Threading {
     /**
-     * Runs the given task on a worker thread without a return object.
+     * Runs the given blocking task on a worker thread without a return object.
      */
-    void runOnWorker(@NotNull Runnable task);
+    default void runOnWorker(@NotNull Runnable task) { runOnWorker(TaskKind.BLOCKING, task); }
 
     /**
-     * Runs the given task on a worker thread and returns an object that reports its status and will complete in the future with a return value.
+     * Runs the given blocking task on a worker thread and returns an object that reports its status and will complete in the future with a return value.
      */
-    <T> @NotNull CompletableFuture<T> runOnWorker(@NotNull Callable<T> task);
+    default <T> @NotNull CompletableFuture<T> runOnWorker(@NotNull Callable<T> task) { return runOnWorker(TaskKind.BLOCKING, task); }
+
+    /**
+     * Runs the given task on a worker thread of the pool for the given task kind without a return object.
+     */
+    void runOnWorker(@NotNull TaskKind kind, @NotNull Runnable task);
+
+    /**
+     * Runs the given task on a worker thread of the pool for the given task kind and returns an object that reports its status and will complete in the future with a return value.
+     */
+    <T> @NotNull CompletableFuture<T> runOnWorker(@NotNull TaskKind kind, @NotNull Callable<T> task);
+
+    /**
+     * @return A snapshot of the load of the worker pool for the given task kind.
+     */
+    @NotNull WorkerStats workerStats(@NotNull TaskKind kind);
+
+    /**
+     * @return The job system that runs job graphs and parallel loops on the work-stealing compute pool.
+     */
+    @NotNull JobSystem jobs();
+
+    /**
+     * @return A snapshot of how precisely the render thread wakes up for its frames.
+     */
+    @NotNull PacingStats renderPacing();
+
+    /**
+     * @return A snapshot of how precisely the logic thread wakes up for its ticks.
+     */
+    @NotNull PacingStats logicPacing();
+
+    /**
+     * @return A snapshot of how precisely the audio thread wakes up for its frames.
+     */
+    @NotNull PacingStats audioPacing();
+
+    /**
+     * @return A snapshot of how loaded the logic thread is and how its catch-up policy currently degrades it.
+     */
+    @NotNull LogicLoad logicLoad();
+
+    /**
+     * Replaces the policy that decides how the logic thread reacts when it falls behind.
+     * The new policy is asked after the next loop iteration that runs ticks.
+     */
+    void setCatchUpPolicy(@NotNull CatchUpPolicy policy);
+
+    /**
+     * @return If the logic thread is overloaded and its catch-up policy asks optional systems to skip their work.
+     * @apiNote Meant to be checked by optional systems at the start of their update, for example effects or non-critical AI.
+     */
+    boolean shouldSkipOptional();
 
     /**
      * @return If the current thread is the render thread.
@@ -122,11 +174,193 @@ public interface Threading {
             @NotNull FrameScheduler scheduler
     ) throws IllegalCallerException, IllegalStateException, IllegalArgumentException;
 
+    /**
+     * @param workerThreads The amount of platform threads for blocking tasks (ignored in {@link WorkerMode#VIRTUAL virtual} mode).
+     * @param computeThreads The amount of threads for compute tasks.
+     * @param workerMode How blocking tasks are executed.
+     * @param pacing How the render, logic and audio threads wait for their next frame or tick.
+     * @param simulation How the logic thread advances time.
+     * @param overload How the logic thread reacts when it falls behind.
+     */
     record Config(
             int workerThreads,
-            double logicHz
+            double logicHz,
+            int computeThreads,
+            @NotNull WorkerMode workerMode,
+            @NotNull Pacing pacing,
+            @NotNull Simulation simulation,
+            @NotNull Overload overload
+    ) {
+        public Config(int workerThreads, double logicHz) {
+            this(workerThreads, logicHz, workerThreads, WorkerMode.PLATFORM, Pacing.DEFAULT, Simulation.REAL_TIME, Overload.DEFAULT);
+        }
+    }
+
+    /**
+     * @param catchUp The built-in catch-up policy the logic thread starts with.
+     * @param maxUpdates The amount of ticks the logic thread runs at most to catch up, time beyond that is dropped.
+     * @param tickBudget The share of a step that one tick may take (including the logic tasks executed for it)
+     *                   before it is reported as over budget, 0 disables the budget.
+     */
+    record Overload(
+            @NotNull CatchUpMode catchUp,
+            int maxUpdates,
+            double tickBudget
+    ) {
+        public static final Overload DEFAULT = new Overload(CatchUpMode.DROP_TIME, 5, 1.0);
+    }
+
+    /**
+     * Selects one of the built-in {@link CatchUpPolicy catch-up policies}.
+     */
+    enum CatchUpMode {
+        /** @see CatchUpPolicy#DROP_TIME */
+        DROP_TIME,
+        /** @see CatchUpPolicy#SLOW_DOWN */
+        SLOW_DOWN,
+        /** @see CatchUpPolicy#REDUCE_RATE */
+        REDUCE_RATE,
+        /** @see CatchUpPolicy#SKIP_OPTIONAL */
+        SKIP_OPTIONAL
+    }
+
+    /**
+     * @param load How much of its step a tick needed recently (above 1 the logic thread cannot keep up at its full rate).
+     * @param timeScale The share of real time the simulation currently advances by.
+     * @param rateScale The factor the step length is currently multiplied with.
+     * @param skipOptional If optional systems are currently asked to skip their work.
+     * @param lostTicks The amount of ticks that have been dropped in total because the logic thread could not catch up.
+     * @param budgetOverruns The amount of ticks that have exceeded the tick budget in total.
+     */
+    record LogicLoad(
+            double load,
+            double timeScale,
+            double rateScale,
+            boolean skipOptional,
+            long lostTicks,
+            long budgetOverruns
+    ) {
+        /**
+         * @return If the logic thread currently cannot keep up or is degraded by its catch-up policy.
+         */
+        public boolean isOverloaded() {
+            return load > CatchUpPolicy.OVERLOADED_LOAD || timeScale < 1.0 || rateScale > 1.0 || skipOptional;
+        }
+    }
+
+    /**
+     * @param seed The seed for the order of scheduler tasks that are due on the same tick (0 keeps the scheduling order).
+     */
+    record Simulation(
+            @NotNull ClockMode clock,
+            long seed
+    ) {
+        public static final Simulation REAL_TIME = new Simulation(ClockMode.REAL_TIME, 0L);
+    }
+
+    /**
+     * Defines how the logic thread advances time.
+     */
+    enum ClockMode {
+        /** Ticks are paced against the wall clock at the logic rate. */
+        REAL_TIME,
+        /**
+         * Ticks run back-to-back on a virtual clock that moves exactly one step per tick.
+         * Posted logic tasks are only delivered between ticks, so a simulation that only schedules from the logic lane is reproducible.
+         * Tasks posted from other threads still run in the order they arrived in.
+         */
+        FAST_FORWARD
+    }
+
+    /**
+     * @param renderHz The target frame rate of the render thread or 0 for no limit.
+     * @param audioHz The target frame rate of the audio thread or 0 for no limit.
+     */
+    record Pacing(
+            double renderHz,
+            double audioHz,
+            @NotNull PacingMode render,
+            @NotNull PacingMode logic,
+            @NotNull PacingMode audio
+    ) {
+        public static final Pacing DEFAULT = new Pacing(0.0, 1000.0, PacingMode.HYBRID, PacingMode.HYBRID, PacingMode.SLEEP);
+        /** Without windows there is no vsync, so the render thread is limited to 60 frames per second. */
+        public static final Pacing HEADLESS = new Pacing(60.0, 1000.0, PacingMode.SLEEP, PacingMode.HYBRID, PacingMode.SLEEP);
+    }
+
+    /**
+     * Defines how a thread waits for the deadline of its next frame or tick.
+     * Every thread also wakes up early once a task is posted to its mailbox.
+     */
+    enum PacingMode {
+        /** Sleeps until shortly before the deadline and spins for the rest, the most precise mode. */
+        HYBRID,
+        /** Sleeps until the deadline, precise up to the wake-up latency of the system. */
+        SLEEP,
+        /** Sleeps until the next whole millisecond after the deadline, so the system can coalesce timers. */
+        LOW_POWER
+    }
+
+    /**
+     * @param targetHz The frame or tick rate the thread is paced to or 0 if it is not limited.
+     * @param waits The amount of waits that have reached their deadline.
+     * @param lastWakeLatencyNanos How late the thread woke up after its last deadline.
+     * @param averageWakeLatencyNanos The average of how late the thread woke up after its deadlines.
+     * @param maxWakeLatencyNanos The worst of how late the thread woke up after its deadlines.
+     */
+    record PacingStats(
+            @NotNull PacingMode mode,
+            double targetHz,
+            long waits,
+            long lastWakeLatencyNanos,
+            long averageWakeLatencyNanos,
+            long maxWakeLatencyNanos
     ) {}
 
+    /**
+     * Defines how tasks of the kind {@link TaskKind#BLOCKING} are executed.
+     */
+    enum WorkerMode {
+        /** Blocking tasks share a fixed pool of platform threads. */
+        PLATFORM,
+        /** Every blocking task gets its own virtual thread. */
+        VIRTUAL
+    }
+
+    /**
+     * Declares which worker pool a task is executed on.
+     */
+    enum TaskKind {
+        /** Tasks that wait for I/O or other threads, for example asset reads, save files or network requests. */
+        BLOCKING,
+        /** Tasks that keep a core busy, they run on the work-stealing pool (shared with the job system) that is bounded by the amount of compute threads. */
+        COMPUTE
+    }
+
+    /**
+     * @param threads The maximum amount of threads of the pool or -1 if it is unbounded.
+     * @param active The amount of tasks that are currently executed.
+     * @param queued The amount of tasks that are waiting for a thread.
+     * @param submitted The amount of tasks that have been submitted in total.
+     * @param completed The amount of tasks that have been completed in total (including failed ones).
+     */
+    record WorkerStats(
+            @NotNull TaskKind kind,
+            int threads,
+            int active,
+            long queued,
+            long submitted,
+            long completed
+    ) {
+        /**
+         * @return The share of the threads of the pool that are busy (including waiting tasks), 0 for unbounded pools.
+         */
+        public double saturation() {
+            if (threads <= 0) { return 0.0; }
+            return (active + queued) / (double) threads;
+        }
+    }
+
     @FunctionalInterface
     interface LogicCallback {
         void onUpdate(double deltaTime) throws Exception;
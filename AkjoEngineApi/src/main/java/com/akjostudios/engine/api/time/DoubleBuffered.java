@@ -0,0 +1,84 @@
+package com.akjostudios.engine.api.time;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.VarHandle;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the previous and the current state of logic-owned data, so another thread (usually the render thread)
+ * can interpolate between the last two logic ticks with the {@link Time#interpolationAlpha() interpolation alpha}.
+ * The owner mutates the {@link #write() write state} during a tick and {@link #commit(long) commits} it at the end of the tick.
+ * Readers copy both states into their own instances, so neither side ever allocates or blocks.
+ * @apiNote The copy function must only copy plain values (fields, fixed-size arrays): a reader may copy while the owner commits,
+ * in which case the copy is discarded and repeated.
+ */
+@SuppressWarnings("unused")
+public final class DoubleBuffered<T> {
+    private final BiConsumer<T, T> copy;
+
+    private final T write;
+    private final T previous;
+    private final T current;
+
+    private volatile long sequence = 0;
+    private long tick = -1;
+
+    /**
+     * @param factory Creates the (mutable) state instances.
+     * @param copy Copies the first given state into the second one.
+     */
+    public DoubleBuffered(@NotNull Supplier<T> factory, @NotNull BiConsumer<T, T> copy) {
+        this.copy = copy;
+        this.write = factory.get();
+        this.previous = factory.get();
+        this.current = factory.get();
+    }
+
+    /**
+     * @return The state the owner mutates during a tick.
+     * @apiNote Must only be used by the thread that owns the state.
+     */
+    public @NotNull T write() { return write; }
+
+    /**
+     * Makes the current state the previous one and the write state the current one.
+     * @param tick The index of the tick the write state belongs to (for example {@code time.logic().index()}).
+     * @apiNote Must only be called by the thread that owns the state.
+     */
+    @SuppressWarnings("NonAtomicOperationOnVolatileField")
+    public void commit(long tick) {
+        long start = sequence;
+        sequence = start + 1;
+        VarHandle.storeStoreFence();
+
+        // The first commit has no previous state, so both states start at the first one
+        copy.accept(this.tick < 0 ? write : current, previous);
+        copy.accept(write, current);
+        this.tick = tick;
+
+        sequence = start + 2;
+    }
+
+    /**
+     * Copies the previous and the current state into the given instances.
+     * @return The index of the tick of the current state or -1 if nothing has been committed yet.
+     */
+    public long read(@NotNull T previousInto, @NotNull T currentInto) {
+        for (;;) {
+            long start = sequence;
+            if ((start & 1L) != 0L) {
+                Thread.onSpinWait();
+                continue;
+            }
+
+            long readTick = tick;
+            copy.accept(previous, previousInto);
+            copy.accept(current, currentInto);
+
+            VarHandle.loadLoadFence();
+            if (sequence == start) { return readTick; }
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.akjostudios.engine.api.time;
 
+import org.jetbrains.annotations.NotNull;
+
 @SuppressWarnings({"unused", "UnusedReturnValue"})
 public interface ThreadTime {
     /**
@@ -18,10 +20,37 @@ public interface ThreadTime {
     double scaledDeltaTime();
 
     /**
-     * @return The lazily calculated average delta time of this thread.
+     * @return The average delta time of this thread over its frame time history.
      */
     double averageDeltaTime();
 
+    /**
+     * @return The shortest delta time of this thread in its frame time history.
+     */
+    double minDeltaTime();
+
+    /**
+     * @return The longest delta time of this thread in its frame time history.
+     */
+    double maxDeltaTime();
+
+    /**
+     * @param percentile The percentile between 0 and 1 (for example 0.99 for the 99th percentile).
+     * @return The delta time that the given share of the frame time history does not exceed.
+     */
+    double deltaTimePercentile(double percentile);
+
+    /**
+     * @return The amount of frames or ticks in the frame time history.
+     */
+    int historySize();
+
+    /**
+     * @return For fixed-step threads, the fraction (0 to 1) of the next step that has already elapsed since the last tick.
+     * Used to interpolate between the states of the last two ticks, always 0 for threads without a fixed step.
+     */
+    double interpolationAlpha();
+
     /**
      * @return The time in nanoseconds since the last time this thread was updated.
      */
@@ -31,4 +60,11 @@ public interface ThreadTime {
      * @return The time in seconds since the last time this thread was updated.
      */
     double lastNowSeconds();
+
+    /**
+     * Copies the values of the last frame or tick into the given snapshot.
+     * Unlike calling the single getters one after another, all values of the snapshot belong to the same frame or tick.
+     * @return The given snapshot.
+     */
+    @NotNull ThreadTimeSnapshot snapshot(@NotNull ThreadTimeSnapshot into);
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.akjostudios.engine.api.time;
+
+import lombok.Getter;
+import lombok.experimental.Accessors;
+
+/**
+ * A reusable holder for the values of a {@link ThreadTime thread time} that were published together for one frame or tick.
+ * @see ThreadTime#snapshot(ThreadTimeSnapshot)
+ */
+@Getter
+@Accessors(fluent = true)
+@SuppressWarnings("unused")
+public final class ThreadTimeSnapshot {
+    private long index;
+    private long lastNowNanos;
+    private double lastNowSeconds;
+    private double deltaTime;
+    private double scaledDeltaTime;
+    private double averageDeltaTime;
+    private double interpolationAlpha;
+
+    /**
+     * Sets all values of the snapshot at once.
+     * @apiNote Should only be called by the thread time that fills the snapshot.
+     */
+    public void set(
+            long index,
+            long lastNowNanos,
+            double lastNowSeconds,
+            double deltaTime,
+            double scaledDeltaTime,
+            double averageDeltaTime,
+            double interpolationAlpha
+    ) {
+        this.index = index;
+        this.lastNowNanos = lastNowNanos;
+        this.lastNowSeconds = lastNowSeconds;
+        this.deltaTime = deltaTime;
+        this.scaledDeltaTime = scaledDeltaTime;
+        this.averageDeltaTime = averageDeltaTime;
+        this.interpolationAlpha = interpolationAlpha;
+    }
+}
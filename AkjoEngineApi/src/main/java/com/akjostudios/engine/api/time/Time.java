@@ -29,6 +29,20 @@ public interface Time {
      */
     @NotNull ThreadTime audio();
 
+    /**
+     * @return The fraction (0 to 1) of the next logic step that has already elapsed since the last logic tick.
+     * Rendering the logic state at {@code lerp(previous, current, alpha)} stays smooth at a low logic rate.
+     * @see #interpolationTick()
+     * @see DoubleBuffered
+     */
+    default double interpolationAlpha() { return logic().interpolationAlpha(); }
+
+    /**
+     * @return The index of the logic tick the interpolation alpha refers to (the "current" state).
+     * @apiNote Use {@link ThreadTime#snapshot(ThreadTimeSnapshot)} of the logic time to read the tick and the alpha together.
+     */
+    default long interpolationTick() { return logic().index(); }
+
     /**
      * Sets the scale that will be applied to the time values reported by the time instances.
      */
@@ -0,0 +1,18 @@
+package com.akjostudios.engine.api.time;
+
+/**
+ * The clock the engine measures time with.
+ */
+@FunctionalInterface
+@SuppressWarnings("unused")
+public interface TimeSource {
+    /**
+     * The high-resolution wall clock of the system.
+     */
+    TimeSource SYSTEM = System::nanoTime;
+
+    /**
+     * @return The current time in nanoseconds (only meaningful relative to other values of the same source).
+     */
+    long nanoTime();
+}
@@ -23,6 +23,7 @@ module AkjoEngineApi {
     exports com.akjostudios.engine.api.threading;
     exports com.akjostudios.engine.api.scheduling;
     exports com.akjostudios.engine.api.time;
+    exports com.akjostudios.engine.api.metrics;
     exports com.akjostudios.engine.api.event;
     exports com.akjostudios.engine.api.resource.file;
     exports com.akjostudios.engine.api.resource.asset;
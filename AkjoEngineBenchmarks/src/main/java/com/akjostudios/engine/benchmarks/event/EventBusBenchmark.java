@@ -0,0 +1,131 @@
+package com.akjostudios.engine.benchmarks.event;
+
+import com.akjostudios.engine.api.event.EventLane;
+import com.akjostudios.engine.benchmarks.support.BenchmarkEvent;
+import com.akjostudios.engine.benchmarks.support.EngineFixture;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Immediate dispatch to 1, 10 and 100 listeners, and queued publishing from one, three and seven producers
+ * while one thread flushes the logic lane like the logic thread does once per tick.
+ * Producers back off while more than {@link #MAX_BACKLOG} events are queued, the lane queue is unbounded and would grow
+ * for as long as the producers outpace the flush otherwise.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Group)
+@SuppressWarnings("unused")
+public class EventBusBenchmark {
+    private static final long MAX_BACKLOG = 1 << 16;
+
+    @Param({"1", "10", "100"})
+    public int listeners;
+
+    private EngineFixture engine;
+    private BenchmarkEvent event;
+
+    private final AtomicLong backlog = new AtomicLong();
+    private long received = 0;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class ProducerCounters {
+        public long published;
+        public long throttled;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            published = 0;
+            throttled = 0;
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class FlushCounters {
+        public long dispatched;
+
+        @Setup(Level.Iteration)
+        public void reset() { dispatched = 0; }
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        engine = new EngineFixture();
+        for (int i = 0; i < listeners; i++) {
+            // Listeners are only called by one thread at a time (the benchmark thread or the flushing thread)
+            engine.events().subscribe(BenchmarkEvent.class, _ -> received++, 0, null);
+        }
+        event = new BenchmarkEvent(0L);
+        backlog.set(0L);
+        received = 0;
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        engine.close();
+    }
+
+    @Benchmark
+    public long publishImmediate() {
+        engine.events().publishImmediate(event);
+        return received;
+    }
+
+    @Benchmark
+    @Group("oneProducer")
+    @GroupThreads(1)
+    public boolean publish1(ProducerCounters counters) { return publish(counters); }
+
+    @Benchmark
+    @Group("oneProducer")
+    @GroupThreads(1)
+    public long flush1(FlushCounters counters) { return flush(counters); }
+
+    @Benchmark
+    @Group("threeProducers")
+    @GroupThreads(3)
+    public boolean publish3(ProducerCounters counters) { return publish(counters); }
+
+    @Benchmark
+    @Group("threeProducers")
+    @GroupThreads(1)
+    public long flush3(FlushCounters counters) { return flush(counters); }
+
+    @Benchmark
+    @Group("sevenProducers")
+    @GroupThreads(7)
+    public boolean publish7(ProducerCounters counters) { return publish(counters); }
+
+    @Benchmark
+    @Group("sevenProducers")
+    @GroupThreads(1)
+    public long flush7(FlushCounters counters) { return flush(counters); }
+
+    private boolean publish(ProducerCounters counters) {
+        if (backlog.get() > MAX_BACKLOG) {
+            counters.throttled++;
+            Thread.onSpinWait();
+            return false;
+        }
+        engine.events().publish(event, EventLane.LOGIC);
+        backlog.incrementAndGet();
+        counters.published++;
+        return true;
+    }
+
+    private long flush(FlushCounters counters) {
+        long before = received;
+        engine.tickLogic();
+        long dispatched = (received - before) / listeners;
+        backlog.addAndGet(-dispatched);
+        counters.dispatched += dispatched;
+        return dispatched;
+    }
+}
@@ -0,0 +1,63 @@
+package com.akjostudios.engine.benchmarks.event;
+
+import com.akjostudios.engine.api.event.EventListener;
+import com.akjostudios.engine.benchmarks.support.BenchmarkEvent;
+import com.akjostudios.engine.runtime.impl.event.EventHandlerInvokers;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calling 1, 10 and 100 handler methods through hand-written listeners, listeners bound through the lambda metafactory
+ * and listeners that go through core reflection.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+@SuppressWarnings("unused")
+public class EventHandlerInvokerBenchmark {
+    public enum Invoker { DIRECT, GENERATED, REFLECTIVE }
+
+    @Param({"1", "10", "100"})
+    public int handlers;
+
+    @Param({"DIRECT", "GENERATED", "REFLECTIVE"})
+    public Invoker invoker;
+
+    private EventListener<BenchmarkEvent>[] listeners;
+    private Handler[] beans;
+    private final BenchmarkEvent event = new BenchmarkEvent(1L);
+
+    public static final class Handler {
+        private long received = 0;
+
+        public void onBenchmark(BenchmarkEvent event) { received += event.sequence(); }
+    }
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() throws Throwable {
+        Method method = Handler.class.getMethod("onBenchmark", BenchmarkEvent.class);
+        listeners = new EventListener[handlers];
+        beans = new Handler[handlers];
+        for (int i = 0; i < handlers; i++) {
+            Handler bean = new Handler();
+            beans[i] = bean;
+            listeners[i] = switch (invoker) {
+                case DIRECT -> bean::onBenchmark;
+                case GENERATED -> EventHandlerInvokers.generated(BenchmarkEvent.class, bean, method);
+                case REFLECTIVE -> EventHandlerInvokers.reflective(bean, method);
+            };
+        }
+    }
+
+    @Benchmark
+    public long invokeAll() throws Exception {
+        for (EventListener<BenchmarkEvent> listener : listeners) { listener.onEvent(event); }
+        return beans[0].received;
+    }
+}
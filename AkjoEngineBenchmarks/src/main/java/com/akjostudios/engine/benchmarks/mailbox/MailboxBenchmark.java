@@ -0,0 +1,124 @@
+package com.akjostudios.engine.benchmarks.mailbox;
+
+import com.akjostudios.engine.api.common.mailbox.Mailbox;
+import com.akjostudios.engine.benchmarks.support.EngineFixture;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Posting to and draining a mailbox with one, three and seven producers against the single consumer of a lane.
+ * Posted, rejected and executed tasks are reported as secondary results per thread.
+ * The overflow policies that make producers wait are not covered, producers would hang once the consumer stops at the end of an iteration.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Group)
+@SuppressWarnings("unused")
+public class MailboxBenchmark {
+    private static final int BATCH = 256;
+    private static final Runnable TASK = () -> {};
+    private static final long DRAIN_BUDGET_NS = 1_000_000_000L;
+
+    @Param({"1024", "8192"})
+    public int capacity;
+
+    @Param({"REJECT", "DROP_OLDEST"})
+    public Mailbox.OverflowPolicy overflowPolicy;
+
+    @Param({"0", "64"})
+    public int sampleInterval;
+
+    private Mailbox mailbox;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class ProducerCounters {
+        public long posted;
+        public long rejected;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            posted = 0;
+            rejected = 0;
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class ConsumerCounters {
+        public long executed;
+
+        @Setup(Level.Iteration)
+        public void reset() { executed = 0; }
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        mailbox = new Mailbox("Benchmark", capacity, overflowPolicy, EngineFixture.logger());
+        if (sampleInterval > 0) { mailbox.enableSampling(sampleInterval, 0L); }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int postThenDrain() {
+        for (int i = 0; i < BATCH; i++) { mailbox.post(TASK); }
+        return mailbox.drain();
+    }
+
+    /**
+     * Like {@link #postThenDrain()} but with a time budget large enough for all tasks, which measures the cost of the budget checks.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public int postThenDrainBudgeted() {
+        for (int i = 0; i < BATCH; i++) { mailbox.post(TASK); }
+        return mailbox.drain(Integer.MAX_VALUE, DRAIN_BUDGET_NS);
+    }
+
+    @Benchmark
+    @Group("oneProducer")
+    @GroupThreads(1)
+    public boolean post1(ProducerCounters counters) { return post(counters); }
+
+    @Benchmark
+    @Group("oneProducer")
+    @GroupThreads(1)
+    public int drain1(ConsumerCounters counters) { return drain(counters); }
+
+    @Benchmark
+    @Group("threeProducers")
+    @GroupThreads(3)
+    public boolean post3(ProducerCounters counters) { return post(counters); }
+
+    @Benchmark
+    @Group("threeProducers")
+    @GroupThreads(1)
+    public int drain3(ConsumerCounters counters) { return drain(counters); }
+
+    @Benchmark
+    @Group("sevenProducers")
+    @GroupThreads(7)
+    public boolean post7(ProducerCounters counters) { return post(counters); }
+
+    @Benchmark
+    @Group("sevenProducers")
+    @GroupThreads(1)
+    public int drain7(ConsumerCounters counters) { return drain(counters); }
+
+    private boolean post(ProducerCounters counters) {
+        boolean posted = mailbox.post(TASK);
+        if (posted) { counters.posted++; }
+        else { counters.rejected++; }
+        return posted;
+    }
+
+    private int drain(ConsumerCounters counters) {
+        int executed = mailbox.drain();
+        counters.executed += executed;
+        return executed;
+    }
+}
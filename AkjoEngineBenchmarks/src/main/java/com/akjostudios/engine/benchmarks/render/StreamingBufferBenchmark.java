@@ -0,0 +1,197 @@
+package com.akjostudios.engine.benchmarks.render;
+
+import com.akjostudios.engine.benchmarks.support.EngineFixture;
+import com.akjostudios.engine.runtime.impl.render.buffer.StreamingBuffer;
+import org.lwjgl.glfw.GLFW;
+import org.lwjgl.opengl.*;
+import org.lwjgl.system.MemoryUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A sprite scene that streams 1 000 and 100 000 instances per frame in one and in 16 batches, once per streaming buffer strategy.
+ * Every batch is written, uploaded and drawn as instanced 2x2 quads into a hidden 256x256 window, every invocation is one frame including the buffer swap.
+ * The instances use the 44 byte layout of the sprite renderer, the shader only reads the rect and the tint so the fill rate does not hide the upload costs.
+ * <p>
+ * Meant to be run against Mesa's software rasterizer, which needs a display (or xvfb) like any other GLFW window:
+ * {@code LIBGL_ALWAYS_SOFTWARE=1 GALLIUM_DRIVER=llvmpipe xvfb-run -a java -jar akjo-engine-benchmarks.jar StreamingBuffer}.
+ * The renderer the scene runs on is printed once per fork.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(1)
+@State(Scope.Thread)
+@SuppressWarnings("unused")
+public class StreamingBufferBenchmark {
+    private static final int RESOLUTION = 256;
+    private static final int SPRITE_BYTES = 44;
+    private static final float SPRITE_SIZE = 2F;
+
+    private static final String VERTEX_SHADER = """
+            #version 330 core
+            layout (location = 0) in vec2 aCorner;
+            layout (location = 1) in vec4 iRect;
+            layout (location = 4) in vec4 iTint;
+            out vec4 fTint;
+            void main() {
+                fTint = iTint;
+                vec2 position = (iRect.xy + aCorner * iRect.zw) / 128.0 - 1.0;
+                gl_Position = vec4(position, 0.0, 1.0);
+            }
+            """;
+    private static final String FRAGMENT_SHADER = """
+            #version 330 core
+            in vec4 fTint;
+            out vec4 color;
+            void main() {
+                color = fTint;
+            }
+            """;
+
+    @Param({"SUB_DATA", "ORPHAN", "ROUND_ROBIN", "PERSISTENT"})
+    public StreamingBuffer.Strategy strategy;
+
+    @Param({"1000", "100000"})
+    public int sprites;
+
+    @Param({"1", "16"})
+    public int batches;
+
+    private long window;
+    private int program, vao, quadVbo, ebo;
+    private StreamingBuffer buffer;
+    private ByteBuffer instances;
+    private int frame = 0;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        if (!GLFW.glfwInit()) {
+            throw new IllegalStateException("❗ GLFW failed to initialize! The scene needs a display, run it with xvfb-run on headless machines.");
+        }
+        GLFW.glfwDefaultWindowHints();
+        GLFW.glfwWindowHint(GLFW.GLFW_VISIBLE, GLFW.GLFW_FALSE);
+        GLFW.glfwWindowHint(GLFW.GLFW_CONTEXT_VERSION_MAJOR, 3);
+        GLFW.glfwWindowHint(GLFW.GLFW_CONTEXT_VERSION_MINOR, 3);
+        GLFW.glfwWindowHint(GLFW.GLFW_OPENGL_PROFILE, GLFW.GLFW_OPENGL_CORE_PROFILE);
+        GLFW.glfwWindowHint(GLFW.GLFW_OPENGL_FORWARD_COMPAT, GLFW.GLFW_TRUE);
+
+        window = GLFW.glfwCreateWindow(RESOLUTION, RESOLUTION, "Streaming Buffer Benchmark", 0L, 0L);
+        if (window == 0L) { throw new IllegalStateException("❗ Failed to create GLFW window!"); }
+        GLFW.glfwMakeContextCurrent(window);
+        GL.createCapabilities();
+        GLFW.glfwSwapInterval(0);
+        System.out.println("# Renderer: " + GL11.glGetString(GL11.GL_RENDERER) + " (" + GL11.glGetString(GL11.GL_VERSION) + ")");
+
+        program = link(compile(GL20.GL_VERTEX_SHADER, VERTEX_SHADER), compile(GL20.GL_FRAGMENT_SHADER, FRAGMENT_SHADER));
+
+        vao = GL30.glGenVertexArrays();
+        quadVbo = GL15.glGenBuffers();
+        ebo = GL15.glGenBuffers();
+        GL30.glBindVertexArray(vao);
+
+        GL15.glBindBuffer(GL15.GL_ARRAY_BUFFER, quadVbo);
+        GL15.glBufferData(GL15.GL_ARRAY_BUFFER, new float[] { 0F, 1F, 1F, 0F, 0F, 0F, 1F, 1F }, GL15.GL_STATIC_DRAW);
+        GL20.glVertexAttribPointer(0, 2, GL11.GL_FLOAT, false, 2 * Float.BYTES, 0L);
+        GL20.glEnableVertexAttribArray(0);
+
+        GL15.glBindBuffer(GL15.GL_ELEMENT_ARRAY_BUFFER, ebo);
+        GL15.glBufferData(GL15.GL_ELEMENT_ARRAY_BUFFER, new int[] { 2, 1, 0, 0, 1, 3 }, GL15.GL_STATIC_DRAW);
+
+        for (int index : new int[] { 1, 4 }) {
+            GL20.glEnableVertexAttribArray(index);
+            GL33.glVertexAttribDivisor(index, 1);
+        }
+        GL30.glBindVertexArray(0);
+
+        int batchSprites = Math.ceilDiv(sprites, batches);
+        instances = MemoryUtil.memAlloc(batchSprites * SPRITE_BYTES);
+        // Starts small on purpose, so the first frames also cover growing the buffer
+        buffer = new StreamingBuffer(strategy, 1024L * SPRITE_BYTES, EngineFixture.logger());
+        if (buffer.strategy() != strategy) {
+            System.out.println("# Strategy " + strategy + " is not supported, measuring " + buffer.strategy() + " instead");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.out.println("# Fence waits: " + buffer.fenceWaits());
+        buffer.dispose();
+        MemoryUtil.memFree(instances);
+        GL30.glDeleteVertexArrays(vao);
+        GL15.glDeleteBuffers(quadVbo);
+        GL15.glDeleteBuffers(ebo);
+        GL20.glDeleteProgram(program);
+        GLFW.glfwDestroyWindow(window);
+        GLFW.glfwTerminate();
+    }
+
+    @Benchmark
+    public void frame() {
+        GL11.glClear(GL11.GL_COLOR_BUFFER_BIT);
+        GL20.glUseProgram(program);
+        GL30.glBindVertexArray(vao);
+
+        int remaining = sprites;
+        int batchSprites = Math.ceilDiv(sprites, batches);
+        for (int first = 0; remaining > 0; first += batchSprites) {
+            int count = Math.min(batchSprites, remaining);
+            write(first, count);
+
+            long base = buffer.upload(instances);
+            GL20.glVertexAttribPointer(1, 4, GL11.GL_FLOAT, false, SPRITE_BYTES, base);
+            GL20.glVertexAttribPointer(4, 4, GL11.GL_UNSIGNED_BYTE, true, SPRITE_BYTES, base + 10L * Float.BYTES);
+            GL31.glDrawElementsInstanced(GL11.GL_TRIANGLES, 6, GL11.GL_UNSIGNED_INT, 0L, count);
+
+            remaining -= count;
+        }
+
+        GL30.glBindVertexArray(0);
+        GLFW.glfwSwapBuffers(window);
+        frame++;
+    }
+
+    /**
+     * Writes the instances of one batch, they move by a pixel every frame so no two frames upload the same data.
+     */
+    private void write(int first, int count) {
+        instances.clear();
+        for (int i = first; i < first + count; i++) {
+            instances.putFloat((i * 7 + frame) % RESOLUTION)
+                    .putFloat((i * 13 + frame) % RESOLUTION)
+                    .putFloat(SPRITE_SIZE)
+                    .putFloat(SPRITE_SIZE)
+                    .putFloat(0F).putFloat(0F).putFloat(1F).putFloat(1F)
+                    .putFloat(0F).putFloat(0F)
+                    .put((byte) i).put((byte) (i >>> 8)).put((byte) frame).put((byte) 0xFF);
+        }
+        instances.flip();
+    }
+
+    private static int compile(int type, String source) {
+        int shader = GL20.glCreateShader(type);
+        GL20.glShaderSource(shader, source);
+        GL20.glCompileShader(shader);
+        if (GL20.glGetShaderi(shader, GL20.GL_COMPILE_STATUS) == GL11.GL_FALSE) {
+            throw new IllegalStateException("❗ Failed to compile benchmark shader: " + GL20.glGetShaderInfoLog(shader));
+        }
+        return shader;
+    }
+
+    private static int link(int vertex, int fragment) {
+        int program = GL20.glCreateProgram();
+        GL20.glAttachShader(program, vertex);
+        GL20.glAttachShader(program, fragment);
+        GL20.glLinkProgram(program);
+        GL20.glDeleteShader(vertex);
+        GL20.glDeleteShader(fragment);
+        if (GL20.glGetProgrami(program, GL20.GL_LINK_STATUS) == GL11.GL_FALSE) {
+            throw new IllegalStateException("❗ Failed to link benchmark shader: " + GL20.glGetProgramInfoLog(program));
+        }
+        return program;
+    }
+}
@@ -0,0 +1,89 @@
+package com.akjostudios.engine.benchmarks.resource;
+
+import com.akjostudios.engine.api.assets.Text;
+import com.akjostudios.engine.api.resource.file.ResourcePath;
+import com.akjostudios.engine.benchmarks.support.EngineFixture;
+import com.akjostudios.engine.benchmarks.support.MemoryFileSystem;
+import com.akjostudios.engine.runtime.impl.resource.asset.AssetManagerImpl;
+import com.akjostudios.engine.runtime.impl.resource.file.RouterFileSystem;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache lookups of loaded text assets with 16 and 1024 cached assets, on one and on four threads.
+ * The assets are loaded through the regular load path in the setup, the benchmark thread drives the logic lane meanwhile.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused")
+public class AssetManagerBenchmark {
+    private static final String MOUNT = "assets";
+
+    @Param({"16", "1024"})
+    public int assets;
+
+    private EngineFixture engine;
+    private AssetManagerImpl manager;
+    private ResourcePath[] paths;
+    private ResourcePath missing;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next = 0;
+
+        public int next(int length) {
+            next = (next + 1) % length;
+            return next;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        MemoryFileSystem files = new MemoryFileSystem();
+        paths = new ResourcePath[assets];
+        for (int i = 0; i < assets; i++) {
+            files.put("text/asset_" + i + ".txt", ("Asset " + i).getBytes(StandardCharsets.UTF_8));
+            paths[i] = ResourcePath.classpath(MOUNT + ":text/asset_" + i + ".txt");
+        }
+        missing = ResourcePath.classpath(MOUNT + ":text/missing.txt");
+
+        RouterFileSystem fs = new RouterFileSystem();
+        fs.mount(MOUNT, files, "/");
+
+        engine = new EngineFixture();
+        manager = new AssetManagerImpl(fs, engine.scheduler(), (_, t) -> { throw new IllegalStateException(t); })
+                .setup(true);
+
+        CompletableFuture<?>[] loads = new CompletableFuture<?>[assets];
+        for (int i = 0; i < assets; i++) { loads[i] = manager.loadAsync(paths[i], Text.class); }
+        CompletableFuture<Void> loaded = CompletableFuture.allOf(loads);
+        while (!loaded.isDone()) {
+            engine.tickLogic();
+            Thread.onSpinWait();
+        }
+        loaded.join();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        manager.dispose();
+        engine.close();
+    }
+
+    @Benchmark
+    public Text getCached(Cursor cursor) { return manager.get(paths[cursor.next(paths.length)], Text.class); }
+
+    @Benchmark
+    public Text getMissing() { return manager.get(missing, Text.class); }
+
+    @Benchmark
+    @Threads(4)
+    public Text getCachedConcurrent(Cursor cursor) { return getCached(cursor); }
+}
@@ -0,0 +1,71 @@
+package com.akjostudios.engine.benchmarks.resource;
+
+import com.akjostudios.engine.api.resource.file.ResourcePath;
+import com.akjostudios.engine.benchmarks.support.MemoryFileSystem;
+import com.akjostudios.engine.runtime.impl.resource.file.RouterFileSystem;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolving paths to their mount with 1 and 16 mounts, on one and on four threads.
+ * The mounted file systems keep their files in memory, so the results show the cost of the router itself.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused")
+public class RouterFileSystemBenchmark {
+    private static final int FILES = 64;
+
+    @Param({"1", "16"})
+    public int mounts;
+
+    private final RouterFileSystem fs = new RouterFileSystem();
+    private ResourcePath[] paths;
+    private ResourcePath unknownMount;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next = 0;
+
+        public int next(int length) {
+            next = (next + 1) % length;
+            return next;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        paths = new ResourcePath[mounts * FILES];
+        for (int mount = 0; mount < mounts; mount++) {
+            MemoryFileSystem files = new MemoryFileSystem();
+            for (int file = 0; file < FILES; file++) {
+                files.put("bench/file_" + file + ".txt", new byte[file + 1]);
+                paths[mount * FILES + file] = ResourcePath.classpath("mount" + mount + ":bench/file_" + file + ".txt");
+            }
+            fs.mount("mount" + mount, files, "/");
+        }
+        unknownMount = ResourcePath.classpath("unknown:bench/file_0.txt");
+    }
+
+    @Benchmark
+    public boolean exists(Cursor cursor) { return fs.exists(paths[cursor.next(paths.length)]); }
+
+    @Benchmark
+    public long size(Cursor cursor) { return fs.size(paths[cursor.next(paths.length)]); }
+
+    @Benchmark
+    public boolean existsUnknownMount() { return fs.exists(unknownMount); }
+
+    @Benchmark
+    @Threads(4)
+    public boolean existsConcurrent(Cursor cursor) { return exists(cursor); }
+
+    @Benchmark
+    @Threads(4)
+    public long sizeConcurrent(Cursor cursor) { return size(cursor); }
+}
@@ -0,0 +1,101 @@
+package com.akjostudios.engine.benchmarks.scheduling;
+
+import com.akjostudios.engine.api.common.mailbox.Mailbox;
+import com.akjostudios.engine.benchmarks.support.EngineFixture;
+import com.akjostudios.engine.runtime.impl.scheduling.TickSchedulerImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link TickSchedulerImpl#onTick()} with 16, 256 and 4096 recurring tasks, meant to be run with {@code -prof gc}:
+ * a steady-state tick dispatches every task without allocating.
+ * The groups schedule one-shot tasks from one, three and seven threads while one thread ticks,
+ * scheduling threads back off while more than {@link #MAX_BACKLOG} one-shot tasks are pending.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Group)
+@SuppressWarnings("unused")
+public class TickSchedulerBenchmark {
+    private static final Runnable TASK = () -> {};
+    private static final int MAX_DELAY = 64;
+    private static final long MAX_BACKLOG = 1 << 20;
+
+    @Param({"16", "256", "4096"})
+    public int recurringTasks;
+
+    private Mailbox mailbox;
+    private TickSchedulerImpl scheduler;
+
+    private final AtomicLong backlog = new AtomicLong();
+    private final Runnable oneShot = backlog::decrementAndGet;
+
+    @State(Scope.Thread)
+    public static class Delay {
+        private int next = 0;
+
+        public int next() {
+            next = next % MAX_DELAY + 1;
+            return next;
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        mailbox = new Mailbox("Benchmark", 1 << 16, Mailbox.OverflowPolicy.SPILL, EngineFixture.logger());
+        scheduler = new TickSchedulerImpl(mailbox);
+        for (int i = 0; i < recurringTasks; i++) { scheduler.everyTick(TASK); }
+        backlog.set(0L);
+        tick();
+    }
+
+    @Benchmark
+    public int tick() {
+        scheduler.onTick();
+        return mailbox.drain();
+    }
+
+    @Benchmark
+    @Group("oneScheduler")
+    @GroupThreads(1)
+    public Object schedule1(Delay delay) { return schedule(delay); }
+
+    @Benchmark
+    @Group("oneScheduler")
+    @GroupThreads(1)
+    public int tick1() { return tick(); }
+
+    @Benchmark
+    @Group("threeSchedulers")
+    @GroupThreads(3)
+    public Object schedule3(Delay delay) { return schedule(delay); }
+
+    @Benchmark
+    @Group("threeSchedulers")
+    @GroupThreads(1)
+    public int tick3() { return tick(); }
+
+    @Benchmark
+    @Group("sevenSchedulers")
+    @GroupThreads(7)
+    public Object schedule7(Delay delay) { return schedule(delay); }
+
+    @Benchmark
+    @Group("sevenSchedulers")
+    @GroupThreads(1)
+    public int tick7() { return tick(); }
+
+    private Object schedule(Delay delay) {
+        if (backlog.get() > MAX_BACKLOG) {
+            Thread.onSpinWait();
+            return null;
+        }
+        backlog.incrementAndGet();
+        return scheduler.afterTicks(delay.next(), oneShot);
+    }
+}
@@ -0,0 +1,69 @@
+package com.akjostudios.engine.benchmarks.scheduling;
+
+import com.akjostudios.engine.api.common.mailbox.Mailbox;
+import com.akjostudios.engine.api.scheduling.TickScheduler;
+import com.akjostudios.engine.benchmarks.support.EngineFixture;
+import com.akjostudios.engine.benchmarks.support.LinearScanTickScheduler;
+import com.akjostudios.engine.runtime.impl.scheduling.TickSchedulerImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One tick of the timing wheel against one tick of the linear scan it replaced, with 10k, 100k and 1M pending timers.
+ * Every timer re-arms itself with a random delay when it fires, so the amount of pending timers stays constant.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2G", "-Xmx2G"})
+@State(Scope.Thread)
+@SuppressWarnings("unused")
+public class TimerScanBenchmark {
+    private static final int MAX_DELAY = 4096;
+
+    public enum Implementation { TIMING_WHEEL, LINEAR_SCAN }
+
+    @Param({"10000", "100000", "1000000"})
+    public int timers;
+
+    @Param({"TIMING_WHEEL", "LINEAR_SCAN"})
+    public Implementation implementation;
+
+    private Mailbox mailbox;
+    private TickScheduler scheduler;
+    private Runnable tick;
+    private final SplittableRandom random = new SplittableRandom(42L);
+
+    @Setup(Level.Trial)
+    public void setup() {
+        mailbox = new Mailbox("Benchmark", 1 << 16, Mailbox.OverflowPolicy.SPILL, EngineFixture.logger());
+        switch (implementation) {
+            case TIMING_WHEEL -> {
+                TickSchedulerImpl wheel = new TickSchedulerImpl(mailbox);
+                scheduler = wheel;
+                tick = wheel::onTick;
+            }
+            case LINEAR_SCAN -> {
+                LinearScanTickScheduler scan = new LinearScanTickScheduler(mailbox);
+                scheduler = scan;
+                tick = scan::onTick;
+            }
+        }
+        for (int i = 0; i < timers; i++) { arm(); }
+        // Links the initial timers, so the first measured tick does not pay for them
+        tick();
+    }
+
+    @Benchmark
+    public int tick() {
+        tick.run();
+        return mailbox.drain();
+    }
+
+    private void arm() {
+        scheduler.afterTicks(1 + random.nextInt(MAX_DELAY), this::arm);
+    }
+}
@@ -0,0 +1,8 @@
+package com.akjostudios.engine.benchmarks.support;
+
+import com.akjostudios.engine.api.event.Event;
+
+/**
+ * A plain event without coalescing rule or default lane that the event benchmarks publish.
+ */
+public record BenchmarkEvent(long sequence) implements Event {}
@@ -0,0 +1,106 @@
+package com.akjostudios.engine.benchmarks.support;
+
+import com.akjostudios.engine.api.common.mailbox.Mailbox;
+import com.akjostudios.engine.runtime.impl.event.EventBusImpl;
+import com.akjostudios.engine.runtime.impl.lifecycle.LifecycleImpl;
+import com.akjostudios.engine.runtime.impl.logging.LoggerImpl;
+import com.akjostudios.engine.runtime.impl.metrics.MetricsRegistryImpl;
+import com.akjostudios.engine.runtime.impl.scheduling.FrameSchedulerImpl;
+import com.akjostudios.engine.runtime.impl.scheduling.SchedulerImpl;
+import com.akjostudios.engine.runtime.impl.scheduling.TickSchedulerImpl;
+import com.akjostudios.engine.runtime.impl.threading.ThreadingImpl;
+import com.akjostudios.engine.runtime.impl.time.TimeImpl;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static com.akjostudios.engine.runtime.impl.threading.ThreadingImpl.*;
+
+/**
+ * The engine components that the event and asset benchmarks depend on, wired like the runtime does it.
+ * The loop threads are never started, the benchmark thread drives the logic lane with {@link #tickLogic()} instead.
+ */
+@Getter
+@Accessors(fluent = true)
+@SuppressWarnings("unused")
+public final class EngineFixture implements AutoCloseable {
+    private static final String BENCHMARK_LOGGER_NAME = "engine.benchmark";
+
+    private final TimeImpl time = new TimeImpl();
+    private final MetricsRegistryImpl metrics = new MetricsRegistryImpl(time);
+
+    private final Mailbox renderMailbox;
+    private final Mailbox logicMailbox;
+    private final Mailbox audioMailbox;
+    private final ThreadingImpl threading;
+
+    private final FrameSchedulerImpl renderScheduler;
+    private final TickSchedulerImpl logicScheduler;
+    private final FrameSchedulerImpl audioScheduler;
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable);
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final SchedulerImpl scheduler;
+
+    private final EventBusImpl events;
+
+    /**
+     * @param mailboxCapacity The capacity of the lane mailboxes.
+     */
+    public EngineFixture(int mailboxCapacity) {
+        LoggerImpl log = logger();
+        this.renderMailbox = new Mailbox(RENDER_THREAD_NAME, mailboxCapacity, Mailbox.OverflowPolicy.SPILL, log);
+        this.logicMailbox = new Mailbox(LOGIC_THREAD_NAME, mailboxCapacity, Mailbox.OverflowPolicy.SPILL, log);
+        this.audioMailbox = new Mailbox(AUDIO_THREAD_NAME, mailboxCapacity, Mailbox.OverflowPolicy.SPILL, log);
+        this.threading = new ThreadingImpl(time, renderMailbox, logicMailbox, audioMailbox);
+
+        this.renderScheduler = new FrameSchedulerImpl(renderMailbox);
+        this.logicScheduler = new TickSchedulerImpl(logicMailbox);
+        this.audioScheduler = new FrameSchedulerImpl(audioMailbox);
+        this.scheduler = new SchedulerImpl(timer, logicMailbox, renderScheduler, logicScheduler, audioScheduler);
+
+        this.events = new EventBusImpl(
+                new LifecycleImpl(log, () -> true, (_, _) -> {}),
+                threading,
+                scheduler,
+                metrics,
+                log
+        );
+    }
+
+    public EngineFixture() {
+        this(Mailbox.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Advances the logic scheduler by one tick and executes everything that is queued on the logic mailbox.
+     * @return The amount of executed tasks.
+     * @apiNote Must only be called by one thread at a time, like the logic thread of the runtime.
+     */
+    public int tickLogic() {
+        logicScheduler.onTick();
+        return drainLogic();
+    }
+
+    /**
+     * Executes everything that is queued on the logic mailbox.
+     * @return The amount of executed tasks.
+     */
+    public int drainLogic() {
+        int executed = 0;
+        for (int drained; (drained = logicMailbox.drain()) > 0; ) { executed += drained; }
+        return executed;
+    }
+
+    @Override
+    public void close() {
+        timer.shutdownNow();
+    }
+
+    public static @NotNull LoggerImpl logger() { return new LoggerImpl(BENCHMARK_LOGGER_NAME); }
+}
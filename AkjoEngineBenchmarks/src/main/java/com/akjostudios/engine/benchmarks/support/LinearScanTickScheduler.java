@@ -0,0 +1,83 @@
+package com.akjostudios.engine.benchmarks.support;
+
+import com.akjostudios.engine.api.common.cancel.Cancellable;
+import com.akjostudios.engine.api.common.mailbox.Mailbox;
+import com.akjostudios.engine.api.scheduling.TickScheduler;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The tick scheduler the engine used before the timing wheel: every tick visits every task and counts its delay down.
+ * Kept as the baseline the timing wheel is compared against, so it only differs from the old scheduler where that would
+ * measure something else than the scan (tasks are posted without a wrapper and added through a pending list).
+ * @apiNote Not thread-safe, tasks must be scheduled by the thread that calls {@link #onTick()}.
+ */
+@SuppressWarnings("unused")
+public final class LinearScanTickScheduler implements TickScheduler {
+    private static final class Task implements Cancellable {
+        private final Runnable runnable;
+        private final AtomicBoolean cancelled = new AtomicBoolean(false);
+        private final boolean recurring;
+        private long remainingTicks;
+
+        private Task(@NotNull Runnable runnable, long ticks, boolean recurring) {
+            this.runnable = runnable;
+            this.remainingTicks = ticks;
+            this.recurring = recurring;
+        }
+
+        @Override
+        public boolean cancel() { return cancelled.compareAndSet(false, true); }
+
+        @Override
+        public boolean isCancelled() { return cancelled.get(); }
+    }
+
+    private final List<Task> tasks = new ArrayList<>();
+    private final List<Task> pending = new ArrayList<>();
+    private final Mailbox mailbox;
+
+    private long tick = 0;
+
+    public LinearScanTickScheduler(@NotNull Mailbox mailbox) {
+        this.mailbox = mailbox;
+    }
+
+    @Override
+    public @NotNull Cancellable everyTick(@NotNull Runnable task) {
+        Task scheduled = new Task(task, 1, true);
+        pending.add(scheduled);
+        return scheduled;
+    }
+
+    @Override
+    public @NotNull Cancellable afterTicks(int ticks, @NotNull Runnable task) {
+        Task scheduled = new Task(task, Math.max(1, ticks), false);
+        pending.add(scheduled);
+        return scheduled;
+    }
+
+    @Override
+    public long currentTick() { return tick; }
+
+    public void onTick() {
+        tick++;
+        tasks.addAll(pending);
+        pending.clear();
+
+        for (Task task : tasks) {
+            if (task.isCancelled()) { continue; }
+            if (--task.remainingTicks > 0) { continue; }
+            mailbox.postOrThrow(task.runnable);
+            if (task.recurring) { task.remainingTicks = 1; }
+            else { task.cancel(); }
+        }
+
+        tasks.removeIf(Task::isCancelled);
+    }
+
+    public int size() { return tasks.size() + pending.size(); }
+}
@@ -0,0 +1,126 @@
+package com.akjostudios.engine.benchmarks.support;
+
+import com.akjostudios.engine.api.resource.file.FileSystem;
+import com.akjostudios.engine.api.resource.file.ResourcePath;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.SeekableByteChannel;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A file system that keeps its files in memory, so the benchmarks measure the engine and not the disk.
+ */
+@SuppressWarnings("unused")
+public final class MemoryFileSystem implements FileSystem {
+    private final Map<String, byte[]> files = new ConcurrentHashMap<>();
+    private final Instant created = Instant.now();
+
+    public @NotNull MemoryFileSystem put(@NotNull String path, byte@NotNull[] content) {
+        files.put(path, content);
+        return this;
+    }
+
+    @Override
+    public @NotNull SeekableByteChannel open(@NotNull ResourcePath path) throws IOException {
+        return new MemoryChannel(ByteBuffer.wrap(contentOf(path)));
+    }
+
+    @Override
+    public @NotNull InputStream openStream(@NotNull ResourcePath path) throws IOException {
+        return new ByteArrayInputStream(contentOf(path));
+    }
+
+    @Override
+    public boolean exists(@NotNull ResourcePath path) { return files.containsKey(path.path()); }
+
+    @Override
+    public long size(@NotNull ResourcePath path) {
+        byte[] content = files.get(path.path());
+        return content == null ? -1L : content.length;
+    }
+
+    @Override
+    public @NotNull Instant lastModified(@NotNull ResourcePath path) {
+        return files.containsKey(path.path()) ? created : Instant.EPOCH;
+    }
+
+    @Override
+    public @NotNull List<ResourcePath> list(ResourcePath path) {
+        String prefix = path.path().isEmpty() ? "" : path.path() + "/";
+        return files.keySet().stream()
+                .filter(file -> file.startsWith(prefix))
+                .map(file -> new ResourcePath(path.scheme(), file))
+                .toList();
+    }
+
+    private byte@NotNull[] contentOf(@NotNull ResourcePath path) throws FileNotFoundException {
+        byte[] content = files.get(path.path());
+        if (content == null) { throw new FileNotFoundException(path.toString()); }
+        return content;
+    }
+
+    private static final class MemoryChannel implements SeekableByteChannel {
+        private final ByteBuffer buffer;
+        private boolean open = true;
+
+        private MemoryChannel(@NotNull ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read(@NotNull ByteBuffer dst) throws IOException {
+            ensureOpen();
+            if (!buffer.hasRemaining()) { return -1; }
+            int count = Math.min(dst.remaining(), buffer.remaining());
+            dst.put(dst.position(), buffer, buffer.position(), count);
+            dst.position(dst.position() + count);
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public int write(@NotNull ByteBuffer src) { throw new NonWritableChannelException(); }
+
+        @Override
+        public long position() throws IOException {
+            ensureOpen();
+            return buffer.position();
+        }
+
+        @Override
+        public @NotNull SeekableByteChannel position(long newPosition) throws IOException {
+            ensureOpen();
+            buffer.position((int) Math.clamp(newPosition, 0L, buffer.limit()));
+            return this;
+        }
+
+        @Override
+        public long size() throws IOException {
+            ensureOpen();
+            return buffer.limit();
+        }
+
+        @Override
+        public @NotNull SeekableByteChannel truncate(long size) { throw new NonWritableChannelException(); }
+
+        @Override
+        public boolean isOpen() { return open; }
+
+        @Override
+        public void close() { open = false; }
+
+        private void ensureOpen() throws ClosedChannelException {
+            if (!open) { throw new ClosedChannelException(); }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.akjostudios.engine.benchmarks.util;
+
+import com.akjostudios.engine.runtime.util.ImmutableArrayList;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Copy-on-write updates and snapshot iteration of the list, alone and with three or seven readers iterating while one thread updates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Group)
+@SuppressWarnings("unused")
+public class ImmutableArrayListBenchmark {
+    @Param({"4", "64", "512"})
+    public int size;
+
+    private final ImmutableArrayList<Object> list = new ImmutableArrayList<>();
+    private Object[] items;
+
+    @State(Scope.Thread)
+    public static class Item {
+        public final Object value = new Object();
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        items = new Object[size];
+        for (int i = 0; i < size; i++) {
+            items[i] = new Object();
+            list.add(items[i]);
+        }
+    }
+
+    @Benchmark
+    public void forEach(Blackhole blackhole) {
+        list.forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public boolean addRemoveLast(Item item) {
+        list.add(item.value);
+        return list.remove(item.value);
+    }
+
+    @Benchmark
+    public boolean removeAddFirst() {
+        Object first = items[0];
+        list.remove(first);
+        return list.add(first);
+    }
+
+    @Benchmark
+    @Group("threeReaders")
+    @GroupThreads(3)
+    public void read3(Blackhole blackhole) { list.forEach(blackhole::consume); }
+
+    @Benchmark
+    @Group("threeReaders")
+    @GroupThreads(1)
+    public boolean write3(Item item) { return addRemoveLast(item); }
+
+    @Benchmark
+    @Group("sevenReaders")
+    @GroupThreads(7)
+    public void read7(Blackhole blackhole) { list.forEach(blackhole::consume); }
+
+    @Benchmark
+    @Group("sevenReaders")
+    @GroupThreads(1)
+    public boolean write7(Item item) { return addRemoveLast(item); }
+
+    @Benchmark
+    @Group("contendedWriters")
+    @GroupThreads(4)
+    public boolean writeContended(Item item) { return addRemoveLast(item); }
+}
@@ -1,5 +1,7 @@
 package com.akjostudios.engine.runtime;
 
+import com.akjostudios.engine.api.threading.Threading;
+import com.akjostudios.engine.runtime.impl.render.buffer.StreamingBuffer;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
@@ -17,4 +19,127 @@ public class AkjoEngineProjectProperties {
 
     @JsonProperty(value = "version")
     private String projectVersion = "1.0.0";
-}
\ No newline at end of file
+
+    @JsonProperty(value = "headless")
+    private boolean headless = false;
+
+    @JsonProperty(value = "simulation")
+    private SimulationProperties simulation = new SimulationProperties();
+
+    @JsonProperty(value = "pacing")
+    private PacingProperties pacing = new PacingProperties();
+
+    @JsonProperty(value = "threads")
+    private ThreadsProperties threads = new ThreadsProperties();
+
+    @JsonProperty(value = "diagnostics")
+    private DiagnosticsProperties diagnostics = new DiagnosticsProperties();
+
+    @JsonProperty(value = "overload")
+    private OverloadProperties overload = new OverloadProperties();
+
+    @JsonProperty(value = "rendering")
+    private RenderingProperties rendering = new RenderingProperties();
+
+    @Data
+    @NoArgsConstructor(onConstructor_ = @JsonCreator)
+    @AllArgsConstructor
+    @Accessors(chain = true, fluent = true)
+    public static class SimulationProperties {
+        @JsonProperty(value = "clock")
+        private Threading.ClockMode clock = Threading.ClockMode.REAL_TIME;
+
+        @JsonProperty(value = "seed")
+        private long seed = 0L;
+    }
+
+    @Data
+    @NoArgsConstructor(onConstructor_ = @JsonCreator)
+    @AllArgsConstructor
+    @Accessors(chain = true, fluent = true)
+    public static class PacingProperties {
+        /** The tick rate of the logic thread. */
+        @JsonProperty(value = "logicHz")
+        private double logicHz = 60.0;
+
+        /** The frame rate of the render thread, 0 for no limit, unset limits headless projects to 60 and leaves others unlimited. */
+        @JsonProperty(value = "renderHz")
+        private Double renderHz = null;
+
+        /** The frame rate of the audio thread, 0 for no limit. */
+        @JsonProperty(value = "audioHz")
+        private double audioHz = 1000.0;
+
+        /** How the render thread waits for its next frame, unset sleeps when headless and uses the hybrid mode otherwise. */
+        @JsonProperty(value = "render")
+        private Threading.PacingMode render = null;
+
+        /** How the logic thread waits for its next tick. */
+        @JsonProperty(value = "logic")
+        private Threading.PacingMode logic = Threading.PacingMode.HYBRID;
+
+        /** How the audio thread waits for its next frame. */
+        @JsonProperty(value = "audio")
+        private Threading.PacingMode audio = Threading.PacingMode.SLEEP;
+    }
+
+    @Data
+    @NoArgsConstructor(onConstructor_ = @JsonCreator)
+    @AllArgsConstructor
+    @Accessors(chain = true, fluent = true)
+    public static class ThreadsProperties {
+        /** How blocking tasks are executed. */
+        @JsonProperty(value = "workerMode")
+        private Threading.WorkerMode workerMode = Threading.WorkerMode.VIRTUAL;
+
+        /** The amount of platform threads for blocking tasks, 0 uses one per core (they mostly wait, so they do not compete with the lanes). */
+        @JsonProperty(value = "workerThreads")
+        private int workerThreads = 0;
+
+        /** The amount of threads for compute tasks, 0 uses the cores that are left besides the render, logic and audio threads. */
+        @JsonProperty(value = "computeThreads")
+        private int computeThreads = 0;
+    }
+
+    @Data
+    @NoArgsConstructor(onConstructor_ = @JsonCreator)
+    @AllArgsConstructor
+    @Accessors(chain = true, fluent = true)
+    public static class DiagnosticsProperties {
+        /** Every how many posts the enqueue time of a task is sampled, 0 disables mailbox sampling. */
+        @JsonProperty(value = "mailboxSampleInterval")
+        private int mailboxSampleInterval = 0;
+
+        /** The run time in milliseconds after which a task is logged as slow, 0 disables the detection. */
+        @JsonProperty(value = "slowTaskMillis")
+        private double slowTaskMillis = 0.0;
+    }
+
+    @Data
+    @NoArgsConstructor(onConstructor_ = @JsonCreator)
+    @AllArgsConstructor
+    @Accessors(chain = true, fluent = true)
+    public static class OverloadProperties {
+        /** How the logic loop reacts when its ticks need more time than the steps they simulate. */
+        @JsonProperty(value = "catchUp")
+        private Threading.CatchUpMode catchUp = Threading.CatchUpMode.DROP_TIME;
+
+        /** How many ticks the logic loop runs back-to-back to catch up before it drops time. */
+        @JsonProperty(value = "maxUpdates")
+        private int maxUpdates = 5;
+
+        /** The share of a step a tick may take before it is reported as over budget, 0 disables the reports. */
+        @JsonProperty(value = "tickBudget")
+        private double tickBudget = 1.0;
+    }
+
+    @Data
+    @NoArgsConstructor(onConstructor_ = @JsonCreator)
+    @AllArgsConstructor
+    @Accessors(chain = true, fluent = true)
+    public static class RenderingProperties {
+        /** How per-frame vertex data is streamed to the GPU, persistent mapping falls back to orphaning where it is not supported. */
+        @JsonProperty(value = "streaming")
+        private StreamingBuffer.Strategy streaming = StreamingBuffer.Strategy.PERSISTENT;
+    }
+}
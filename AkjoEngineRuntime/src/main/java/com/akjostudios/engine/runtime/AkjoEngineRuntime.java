@@ -4,6 +4,8 @@ import com.akjostudios.engine.api.AkjoApplication;
 import com.akjostudios.engine.api.IAkjoApplication;
 import com.akjostudios.engine.api.common.Disposable;
 import com.akjostudios.engine.api.common.mailbox.Mailbox;
+import com.akjostudios.engine.api.event.Event;
+import com.akjostudios.engine.api.event.EventBus;
 import com.akjostudios.engine.api.internal.token.EngineTokens;
 import com.akjostudios.engine.api.logging.Logger;
 import com.akjostudios.engine.api.threading.Threading;
@@ -13,7 +15,10 @@ import com.akjostudios.engine.runtime.components.EventListenerRegistrar;
 import com.akjostudios.engine.runtime.crash.AkjoEngineExceptionHandler;
 import com.akjostudios.engine.runtime.impl.AkjoApplicationContext;
 import com.akjostudios.engine.runtime.impl.event.EventBusImpl;
+import com.akjostudios.engine.runtime.impl.event.EventHandlerInvokers;
 import com.akjostudios.engine.runtime.impl.lifecycle.LifecycleImpl;
+import com.akjostudios.engine.runtime.impl.metrics.MetricsRegistryImpl;
+import com.akjostudios.engine.runtime.impl.monitor.HeadlessMonitorRegistry;
 import com.akjostudios.engine.runtime.impl.monitor.MonitorRegistryImpl;
 import com.akjostudios.engine.runtime.impl.render.backend.CanvasRenderBackend;
 import com.akjostudios.engine.runtime.impl.resource.asset.AssetManagerImpl;
@@ -23,6 +28,8 @@ import com.akjostudios.engine.runtime.impl.scheduling.SchedulerImpl;
 import com.akjostudios.engine.runtime.impl.scheduling.TickSchedulerImpl;
 import com.akjostudios.engine.runtime.impl.threading.ThreadingImpl;
 import com.akjostudios.engine.runtime.impl.time.TimeImpl;
+import com.akjostudios.engine.runtime.impl.time.VirtualTimeSource;
+import com.akjostudios.engine.runtime.impl.window.HeadlessWindowRegistry;
 import com.akjostudios.engine.runtime.impl.window.WindowRegistryImpl;
 import com.akjostudios.engine.runtime.util.FunctionalUtil;
 import lombok.RequiredArgsConstructor;
@@ -32,7 +39,6 @@ import org.lwjgl.glfw.GLFW;
 import org.lwjgl.glfw.GLFWErrorCallback;
 import org.springframework.context.SmartLifecycle;
 
-import java.lang.reflect.InvocationTargetException;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Executors;
@@ -102,16 +108,43 @@ public class AkjoEngineRuntime implements SmartLifecycle {
             }
 
             // Initialize time system
-            TimeImpl time = new TimeImpl();
+            AkjoEngineProjectProperties.SimulationProperties simulation = properties.simulation();
+            AkjoEngineProjectProperties.OverloadProperties overload = properties.overload();
+            TimeImpl time = simulation.clock() == Threading.ClockMode.FAST_FORWARD
+                    ? new TimeImpl(new VirtualTimeSource())
+                    : new TimeImpl();
             context.__engine_setTime(EngineTokens.token(), time);
 
+            // Initialize metrics registry
+            MetricsRegistryImpl metrics = new MetricsRegistryImpl(time);
+            context.__engine_setMetrics(EngineTokens.token(), metrics);
+            time.bindMetrics(metrics);
+
             // Initialize threading system
             Mailbox renderMailbox = new Mailbox(RENDER_THREAD_NAME, context.logger(RENDER_THREAD_NAME));
             Mailbox logicMailbox = new Mailbox(LOGIC_THREAD_NAME, context.logger(LOGIC_THREAD_NAME));
             Mailbox audioMailbox = new Mailbox(AUDIO_THREAD_NAME, context.logger(AUDIO_THREAD_NAME));
 
+            AkjoEngineProjectProperties.DiagnosticsProperties diagnostics = properties.diagnostics();
+            if (diagnostics.mailboxSampleInterval() > 0) {
+                long slowTaskThresholdNanos = (long) (diagnostics.slowTaskMillis() * 1_000_000.0);
+                for (Mailbox mailbox : List.of(renderMailbox, logicMailbox, audioMailbox)) {
+                    mailbox.enableSampling(diagnostics.mailboxSampleInterval(), slowTaskThresholdNanos);
+                }
+            }
+            for (Mailbox mailbox : List.of(renderMailbox, logicMailbox, audioMailbox)) {
+                String prefix = "mailbox." + mailbox.name().toLowerCase() + ".";
+                metrics.gauge(prefix + "depth", mailbox::depth);
+                metrics.gauge(prefix + "executed", mailbox::executedCount);
+                metrics.gauge(prefix + "failed", mailbox::failedCount);
+                metrics.gauge(prefix + "deferred", mailbox::deferredCount);
+            }
+
             ThreadingImpl threading = new ThreadingImpl(time, renderMailbox, logicMailbox, audioMailbox);
             context.__engine_setThreading(EngineTokens.token(), threading);
+            metrics.gauge("logic.load", () -> threading.logicLoad().load());
+            metrics.gauge("logic.lostTicks", () -> threading.logicLoad().lostTicks());
+            metrics.gauge("logic.budgetOverruns", () -> threading.logicLoad().budgetOverruns());
 
             Thread.UncaughtExceptionHandler exceptionHandler = new AkjoEngineExceptionHandler(
                     context.logger(CRASH_LOGGER_NAME),
@@ -159,19 +192,13 @@ public class AkjoEngineRuntime implements SmartLifecycle {
                             context.lifecycle(),
                             threading,
                             context.scheduler(),
+                            metrics,
                             context.logger(EVENT_LOGGER_NAME)
                     )
             );
 
-            eventListenerRegistrations.forEach(registration -> context.events().subscribe(
-                    registration.eventType(),
-                    event -> {
-                        try {
-                            registration.method().invoke(registration.bean(), event);
-                        } catch (InvocationTargetException | IllegalAccessException e) {
-                            throw new RuntimeException(e);
-                        }
-                    }
+            eventListenerRegistrations.forEach(registration -> subscribeHandler(
+                    context.events(), registration.eventType(), registration
             ));
 
             // Initialize virtual file system
@@ -182,27 +209,52 @@ public class AkjoEngineRuntime implements SmartLifecycle {
             ));
 
             // Initialize asset manager
-            context.__engine_setAssetManager(EngineTokens.token(), new AssetManagerImpl(
+            AssetManagerImpl assets = new AssetManagerImpl(
                     context.fs(),
                     context.scheduler(),
                     exceptionHandler
-            ).setup());
+            ).setup(properties.headless());
+            context.__engine_setAssetManager(EngineTokens.token(), assets);
+            metrics.gauge("assets.cached", assets::cachedCount);
+            metrics.gauge("assets.inFlight", assets::inFlightCount);
+            metrics.gauge("assets.atlasPages", assets::atlasPageCount);
 
             // Initialize monitor registry
-            context.__engine_setMonitors(EngineTokens.token(), new MonitorRegistryImpl());
+            context.__engine_setMonitors(EngineTokens.token(), properties.headless()
+                    ? new HeadlessMonitorRegistry()
+                    : new MonitorRegistryImpl()
+            );
 
             // Initialize window registry
-            context.__engine_setWindows(EngineTokens.token(), new WindowRegistryImpl());
+            context.__engine_setWindows(EngineTokens.token(), properties.headless()
+                    ? new HeadlessWindowRegistry()
+                    : new WindowRegistryImpl()
+            );
 
             // Initialize application
             application.onInit();
 
-            // Start threading system
+            // Start threading system (unset render pacing falls back to the defaults of the window mode)
+            AkjoEngineProjectProperties.PacingProperties pacing = properties.pacing();
+            AkjoEngineProjectProperties.ThreadsProperties threads = properties.threads();
+            int cores = Runtime.getRuntime().availableProcessors();
+            Threading.Pacing defaultPacing = properties.headless() ? Threading.Pacing.HEADLESS : Threading.Pacing.DEFAULT;
             context.threading().__engine_start(
                     EngineTokens.token(),
                     new Threading.Config(
-                            Math.max(1, Runtime.getRuntime().availableProcessors() - 3),
-                            60.0
+                            threads.workerThreads() > 0 ? threads.workerThreads() : cores,
+                            pacing.logicHz(),
+                            threads.computeThreads() > 0 ? threads.computeThreads() : Math.max(1, cores - LANE_THREAD_COUNT),
+                            threads.workerMode(),
+                            new Threading.Pacing(
+                                    pacing.renderHz() != null ? pacing.renderHz() : defaultPacing.renderHz(),
+                                    pacing.audioHz(),
+                                    pacing.render() != null ? pacing.render() : defaultPacing.render(),
+                                    pacing.logic(),
+                                    pacing.audio()
+                            ),
+                            new Threading.Simulation(simulation.clock(), simulation.seed()),
+                            new Threading.Overload(overload.catchUp(), overload.maxUpdates(), overload.tickBudget())
                     ), deltaTime -> {
                         try { application.onUpdate(deltaTime); }
                         catch (Exception e) { log.error(
@@ -218,14 +270,16 @@ public class AkjoEngineRuntime implements SmartLifecycle {
                 }
 
                 // Initialize GLFW
-                glfwErrorCallback.set(GLFWErrorCallback.create((code, _) -> log.error(
-                        "GLFW Error ({}): {}",
-                        code, GLFWErrorCallback.getDescription(code)
-                )));
-                GLFW.glfwSetErrorCallback(glfwErrorCallback.get());
-
-                if (!GLFW.glfwInit()) {
-                    throw new IllegalStateException("❗ GLFW failed to initialize! Check if this build supports your system, otherwise this is likely a bug in the engine - please report it using the issue tracker.");
+                if (!properties.headless()) {
+                    glfwErrorCallback.set(GLFWErrorCallback.create((code, _) -> log.error(
+                            "GLFW Error ({}): {}",
+                            code, GLFWErrorCallback.getDescription(code)
+                    )));
+                    GLFW.glfwSetErrorCallback(glfwErrorCallback.get());
+
+                    if (!GLFW.glfwInit()) {
+                        throw new IllegalStateException("❗ GLFW failed to initialize! Check if this build supports your system, otherwise this is likely a bug in the engine - please report it using the issue tracker.");
+                    }
                 }
 
                 // Initialize monitor registry
@@ -238,7 +292,7 @@ public class AkjoEngineRuntime implements SmartLifecycle {
                 // Initialize window registry
                 context.windows().__engine_init(
                         EngineTokens.token(),
-                        CanvasRenderBackend::new,
+                        () -> new CanvasRenderBackend(properties.rendering().streaming()),
                         context.threading(),
                         context.scheduler().render(),
                         context.events(),
@@ -247,22 +301,26 @@ public class AkjoEngineRuntime implements SmartLifecycle {
                 );
             });
 
-            // Preload all necessary shaders
-            renderMailbox.postOrThrow(() -> context.assets().preload(ShaderResources.SPRITE));
-
-            // Prepare everything on render thread loop
-            context.scheduler().render().__engine_addPostFrameTask(
-                    EngineTokens.token(), () -> {
-                        if (GLFW.glfwInit()) {
-                            GLFW.glfwPollEvents();
+            if (properties.headless()) {
+                log.info("ℹ️ Engine is running headless - there are no monitors, windows do not draw anything and textures and shaders are placeholders.");
+            } else {
+                // Preload all necessary shaders
+                renderMailbox.postOrThrow(() -> context.assets().preload(ShaderResources.SPRITE));
+
+                // Prepare everything on render thread loop
+                context.scheduler().render().__engine_addPostFrameTask(
+                        EngineTokens.token(), () -> {
+                            if (GLFW.glfwInit()) {
+                                GLFW.glfwPollEvents();
+                            }
                         }
-                    }
-            );
+                );
 
-            // Start render pipeline
-            context.events().subscribe(WindowBeforeSwapBuffersEvent.class,
-                    event -> event.window().__engine_renderCanvas(EngineTokens.token())
-            );
+                // Start render pipeline
+                context.events().subscribe(WindowBeforeSwapBuffersEvent.class,
+                        event -> event.window().__engine_renderCanvas(EngineTokens.token())
+                );
+            }
 
             // Start application
             application.onStart();
@@ -303,6 +361,19 @@ public class AkjoEngineRuntime implements SmartLifecycle {
         }, LIFECYCLE_THREAD_NAME).start();
     }
 
+    private static <T extends Event> void subscribeHandler(
+            @NotNull EventBus events,
+            @NotNull Class<T> type,
+            @NotNull EventListenerRegistrar.Registration registration
+    ) {
+        events.subscribe(
+                type,
+                EventHandlerInvokers.bind(type, registration.bean(), registration.method()),
+                registration.priority(),
+                registration.lane()
+        );
+    }
+
     private void safeStop() {
         try {
             // Stop application
@@ -322,9 +393,11 @@ public class AkjoEngineRuntime implements SmartLifecycle {
                         context.monitors().__engine_stop(EngineTokens.token());
 
                         // Terminate GLFW
-                        GLFW.glfwTerminate();
-                        glfwErrorCallback.get().free();
-                        glfwErrorCallback.set(null);
+                        if (!properties.headless()) {
+                            GLFW.glfwTerminate();
+                            glfwErrorCallback.get().free();
+                            glfwErrorCallback.set(null);
+                        }
                     },
                     FunctionalUtil.doNothing(),
                     FunctionalUtil.doNothing()
@@ -2,9 +2,11 @@ package com.akjostudios.engine.runtime.components;
 
 import com.akjostudios.engine.api.event.Event;
 import com.akjostudios.engine.api.event.EventHandler;
+import com.akjostudios.engine.api.event.EventLane;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.config.DestructionAwareBeanPostProcessor;
@@ -34,8 +36,16 @@ public class EventListenerRegistrar implements DestructionAwareBeanPostProcessor
             if (!Event.class.isAssignableFrom(method.getParameterTypes()[0])) { continue; }
 
             if (!method.canAccess(bean)) { method.setAccessible(true); }
+            if (annotation.lane().length > 1) {
+                log.warn("⚠️ Event handler '{}' names more than one lane - it is bound to the first one only!", method);
+            }
 
-            registrations.add(new Registration((Class<? extends Event>) method.getParameterTypes()[0], bean, method));
+            registrations.add(new Registration(
+                    (Class<? extends Event>) method.getParameterTypes()[0],
+                    bean, method,
+                    annotation.priority(),
+                    annotation.lane().length > 0 ? annotation.lane()[0] : null
+            ));
         }
 
         return bean;
@@ -50,6 +60,8 @@ public class EventListenerRegistrar implements DestructionAwareBeanPostProcessor
     public record Registration(
             @NotNull Class<? extends Event> eventType,
             @NotNull Object bean,
-            @NotNull Method method
+            @NotNull Method method,
+            int priority,
+            @Nullable EventLane lane
     ) {}
 }
\ No newline at end of file
@@ -6,6 +6,9 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.function.Consumer;
 
+import static com.akjostudios.engine.runtime.impl.threading.ThreadingImpl.COMPUTE_THREAD_PREFIX;
+import static com.akjostudios.engine.runtime.impl.threading.ThreadingImpl.WORKER_THREAD_PREFIX;
+
 @RequiredArgsConstructor
 public final class AkjoEngineExceptionHandler implements Thread.UncaughtExceptionHandler {
     @NotNull private final Logger logger;
@@ -42,7 +45,8 @@ public final class AkjoEngineExceptionHandler implements Thread.UncaughtExceptio
         if (name.startsWith("Render")) { return "render"; }
         if (name.startsWith("Logic")) { return "logic"; }
         if (name.startsWith("Audio")) { return "audio"; }
-        if (name.startsWith("Worker")) { return "worker"; }
+        if (name.startsWith(WORKER_THREAD_PREFIX)) { return "worker"; }
+        if (name.startsWith(COMPUTE_THREAD_PREFIX)) { return "compute"; }
         return "unknown";
     }
 }
\ No newline at end of file
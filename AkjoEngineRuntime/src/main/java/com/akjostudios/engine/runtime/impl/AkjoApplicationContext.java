@@ -6,6 +6,7 @@ import com.akjostudios.engine.api.event.EventBus;
 import com.akjostudios.engine.api.internal.token.EngineTokens;
 import com.akjostudios.engine.api.lifecycle.Lifecycle;
 import com.akjostudios.engine.api.logging.Logger;
+import com.akjostudios.engine.api.metrics.MetricsRegistry;
 import com.akjostudios.engine.api.monitor.MonitorRegistry;
 import com.akjostudios.engine.api.resource.asset.AssetManager;
 import com.akjostudios.engine.api.resource.file.MountableFileSystem;
@@ -38,6 +39,7 @@ public final class AkjoApplicationContext implements IAkjoApplicationContext {
     private AssetManager assets;
     private MonitorRegistry monitors;
     private WindowRegistry windows;
+    private MetricsRegistry metrics;
 
     @Override
     public @NotNull Logger logger() {
@@ -126,6 +128,14 @@ public final class AkjoApplicationContext implements IAkjoApplicationContext {
         return windows;
     }
 
+    @Override
+    public @NotNull MetricsRegistry metrics() {
+        if (metrics == null) {
+            throw new IllegalStateException("❗ Metrics registry object was requested before it exists! This is likely a bug in the engine - please report it using the issue tracker.");
+        }
+        return metrics;
+    }
+
     /**
      * Sets the internal lifecycle object for this application.
      * @apiNote Must be called by the runtime implementation of the engine AND from the main thread.
@@ -287,4 +297,22 @@ public final class AkjoApplicationContext implements IAkjoApplicationContext {
         }
         this.windows = windows;
     }
+
+    /**
+     * Sets the internal metrics registry for this application
+     * @apiNote Must be called by the runtime implementation of the engine AND from the main thread.
+     * @throws IllegalCallerException When this method is called externally.
+     * @throws IllegalStateException When this method is not called from the main thread.
+     */
+    @Override
+    public void __engine_setMetrics(
+            @NotNull Object token,
+            @NotNull MetricsRegistry metrics
+    ) throws IllegalCallerException, IllegalStateException {
+        EngineTokens.verify(token);
+        if (!Objects.equals(Thread.currentThread().getName(), DEFAULT_MAIN_THREAD_NAME)) {
+            throw new IllegalStateException("❗ Metrics registry set outside of main thread! This is likely a bug in the engine - please report it using the issue tracker.");
+        }
+        this.metrics = metrics;
+    }
 }
\ No newline at end of file
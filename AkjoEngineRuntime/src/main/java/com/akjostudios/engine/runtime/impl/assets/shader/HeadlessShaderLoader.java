@@ -0,0 +1,24 @@
+package com.akjostudios.engine.runtime.impl.assets.shader;
+
+import com.akjostudios.engine.api.assets.Shader;
+import com.akjostudios.engine.api.resource.asset.AssetLoader;
+import com.akjostudios.engine.api.resource.file.FileSystem;
+import com.akjostudios.engine.api.resource.file.ResourcePath;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Loads {@link PlaceholderShader}s for the headless runtime, the sources are still read so missing shaders fail like they would with a GPU.
+ */
+public final class HeadlessShaderLoader implements AssetLoader<Shader, ShaderLoader.Source> {
+    private final ShaderLoader sources = new ShaderLoader();
+
+    @Override
+    public @NotNull ShaderLoader.Source loadRaw(@NotNull ResourcePath path, @NotNull FileSystem fs) throws Exception {
+        return sources.loadRaw(path, fs);
+    }
+
+    @Override
+    public @NotNull Shader createAsset(@NotNull ResourcePath path, @NotNull ShaderLoader.Source data) {
+        return new PlaceholderShader(path);
+    }
+}
@@ -0,0 +1,77 @@
+package com.akjostudios.engine.runtime.impl.assets.shader;
+
+import com.akjostudios.engine.api.assets.Shader;
+import com.akjostudios.engine.api.assets.texture.Texture;
+import com.akjostudios.engine.api.resource.file.ResourcePath;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.Accessors;
+import org.jetbrains.annotations.NotNull;
+import org.joml.*;
+
+/**
+ * The shader the headless runtime loads instead of an OpenGL program.
+ * Every method does nothing and it has no uniforms.
+ */
+@RequiredArgsConstructor
+@Accessors(fluent = true)
+public final class PlaceholderShader implements Shader {
+    @Getter private final ResourcePath path;
+
+    @Override
+    public void bind() {}
+
+    @Override
+    public void unbind() {}
+
+    @Override
+    public void dispose() {}
+
+    @Override
+    public void setUniform(@NotNull String name, int value) {}
+
+    @Override
+    public void setUniform(@NotNull String name, float value) {}
+
+    @Override
+    public void setUniform(@NotNull String name, boolean value) {}
+
+    @Override
+    public void setUniform(@NotNull String name, @NotNull Vector2fc value) {}
+
+    @Override
+    public void setUniform(@NotNull String name, float x, float y) {}
+
+    @Override
+    public void setUniform(@NotNull String name, @NotNull Vector3fc value) {}
+
+    @Override
+    public void setUniform(@NotNull String name, float x, float y, float z) {}
+
+    @Override
+    public void setUniform(@NotNull String name, @NotNull Vector4fc value) {}
+
+    @Override
+    public void setUniform(@NotNull String name, float x, float y, float z, float w) {}
+
+    @Override
+    public void setUniform(@NotNull String name, @NotNull Matrix3fc value) {}
+
+    @Override
+    public void setUniform(@NotNull String name, @NotNull Matrix4fc value) {}
+
+    @Override
+    public void setUniform(@NotNull String name, int@NotNull[] values) {}
+
+    @Override
+    public void setUniform(@NotNull String name, float@NotNull[] values) {}
+
+    @Override
+    public void bindTexture(@NotNull String name, @NotNull Texture texture, int slot) {}
+
+    @Override
+    public boolean hasUniform(@NotNull String name) { return false; }
+
+    @Override
+    public String toString() { return "PlaceholderShader[" + path + "]"; }
+}
@@ -0,0 +1,45 @@
+package com.akjostudios.engine.runtime.impl.assets.texture;
+
+import com.akjostudios.engine.api.assets.texture.Texture;
+import com.akjostudios.engine.api.assets.texture.TextureResolution;
+import com.akjostudios.engine.api.resource.asset.AssetLoader;
+import com.akjostudios.engine.api.resource.file.FileSystem;
+import com.akjostudios.engine.api.resource.file.ResourcePath;
+import org.jetbrains.annotations.NotNull;
+import org.lwjgl.stb.STBImage;
+import org.lwjgl.system.MemoryStack;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.SeekableByteChannel;
+
+/**
+ * Loads {@link PlaceholderTexture}s for the headless runtime, only the header of the image is read to get its resolution.
+ */
+public final class HeadlessTextureLoader implements AssetLoader<Texture, TextureResolution> {
+    @Override
+    public @NotNull TextureResolution loadRaw(@NotNull ResourcePath path, @NotNull FileSystem fs) throws Exception {
+        try (SeekableByteChannel channel = fs.open(path)) {
+            ByteBuffer fileBytes = ByteBuffer.allocateDirect((int) channel.size());
+            channel.read(fileBytes);
+            fileBytes.flip();
+
+            try (MemoryStack stack = MemoryStack.stackPush()) {
+                IntBuffer width = stack.mallocInt(1);
+                IntBuffer height = stack.mallocInt(1);
+                IntBuffer channels = stack.mallocInt(1);
+
+                if (!STBImage.stbi_info_from_memory(fileBytes, width, height, channels)) {
+                    throw new IOException("❗ Failed to load texture! Reason: " + STBImage.stbi_failure_reason());
+                }
+                return new TextureResolution(width.get(0), height.get(0));
+            }
+        }
+    }
+
+    @Override
+    public @NotNull Texture createAsset(@NotNull ResourcePath path, @NotNull TextureResolution data) {
+        return new PlaceholderTexture(path, data);
+    }
+}
@@ -0,0 +1,35 @@
+package com.akjostudios.engine.runtime.impl.assets.texture;
+
+import com.akjostudios.engine.api.assets.texture.Texture;
+import com.akjostudios.engine.api.assets.texture.TextureResolution;
+import com.akjostudios.engine.api.resource.file.ResourcePath;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.Accessors;
+
+/**
+ * The texture the headless runtime loads instead of an OpenGL texture.
+ * It has the id 0 and the resolution of the decoded image, binding and disposing it does nothing.
+ */
+@RequiredArgsConstructor
+@Accessors(fluent = true)
+public final class PlaceholderTexture implements Texture {
+    @Getter private final ResourcePath path;
+    @Getter private final TextureResolution resolution;
+
+    @Override
+    public int id() { return 0; }
+
+    @Override
+    public void bind() {}
+
+    @Override
+    public void dispose() {}
+
+    @Override
+    public String toString() {
+        return "PlaceholderTexture[" + path + "]" + "(" +
+                "width=" + resolution.width() + ", " +
+                "height=" + resolution.height() + ")";
+    }
+}
@@ -5,12 +5,15 @@ import com.akjostudios.engine.api.assets.texture.TextureResolution;
 import com.akjostudios.engine.api.resource.asset.AssetLoader;
 import com.akjostudios.engine.api.resource.file.FileSystem;
 import com.akjostudios.engine.api.resource.file.ResourcePath;
+import com.akjostudios.engine.runtime.impl.assets.texture.atlas.TextureAtlas;
 import com.akjostudios.engine.runtime.util.OpenGLUtil;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.lwjgl.opengl.GL11;
 import org.lwjgl.opengl.GL30;
 import org.lwjgl.stb.STBImage;
 import org.lwjgl.system.MemoryStack;
+import org.lwjgl.system.MemoryUtil;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -18,12 +21,30 @@ import java.nio.IntBuffer;
 import java.nio.channels.SeekableByteChannel;
 
 public final class TextureLoader implements AssetLoader<Texture, TextureLoader.Data> {
+    /**
+     * @param pixels The decoded image or, if the texture is packed into the atlas, its pixels extruded to the padded slot.
+     * @param slot The space that has been reserved in the atlas or null if the texture gets its own OpenGL texture.
+     */
     public record Data(
             @NotNull ByteBuffer pixels,
             int width, int height,
-            int channels
+            int channels,
+            @Nullable TextureAtlas.Slot slot
     ) {}
 
+    private final TextureAtlas atlas;
+
+    public TextureLoader() {
+        this(null);
+    }
+
+    /**
+     * @param atlas The atlas that small textures are packed into or null to give every texture its own OpenGL texture.
+     */
+    public TextureLoader(@Nullable TextureAtlas atlas) {
+        this.atlas = atlas;
+    }
+
     @Override
     public @NotNull Data loadRaw(@NotNull ResourcePath path, @NotNull FileSystem fs) throws Exception {
         try (SeekableByteChannel channel = fs.open(path)) {
@@ -41,7 +62,16 @@ public final class TextureLoader implements AssetLoader<Texture, TextureLoader.D
                     throw new IOException("❗ Failed to load texture! Reason: " + STBImage.stbi_failure_reason());
                 }
 
-                return new Data(image, width.get(0), height.get(0), channels.get(0));
+                // Packing and extruding happen here on the asset worker, the render thread only copies the pixels into the page
+                TextureAtlas.Slot slot = atlas != null ? atlas.reserve(width.get(0), height.get(0)) : null;
+                if (slot == null) {
+                    return new Data(image, width.get(0), height.get(0), channels.get(0), null);
+                }
+                try {
+                    return new Data(TextureAtlas.extrude(slot, image), width.get(0), height.get(0), channels.get(0), slot);
+                } finally {
+                    STBImage.stbi_image_free(image);
+                }
             }
         }
     }
@@ -50,6 +80,14 @@ public final class TextureLoader implements AssetLoader<Texture, TextureLoader.D
     public @NotNull Texture createAsset(@NotNull ResourcePath path, @NotNull TextureLoader.Data data) {
         OpenGLUtil.contextFail("create texture at \"" + path + "\"");
 
+        if (atlas != null && data.slot() != null) {
+            try {
+                return atlas.upload(path, data.slot(), data.pixels());
+            } finally {
+                MemoryUtil.memFree(data.pixels());
+            }
+        }
+
         int id = GL11.glGenTextures();
         GL11.glBindTexture(GL11.GL_TEXTURE_2D, id);
 
@@ -0,0 +1,53 @@
+package com.akjostudios.engine.runtime.impl.assets.texture.atlas;
+
+import com.akjostudios.engine.api.assets.texture.Texture;
+import com.akjostudios.engine.api.assets.texture.TextureRegion;
+import com.akjostudios.engine.api.assets.texture.TextureResolution;
+import com.akjostudios.engine.api.resource.file.ResourcePath;
+import com.akjostudios.engine.runtime.util.OpenGLUtil;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.Accessors;
+import org.lwjgl.opengl.GL11;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A texture that has been packed into a page of a {@link TextureAtlas}.
+ * Disposing it does not free its space on the page, the page is only deleted together with the atlas.
+ */
+@RequiredArgsConstructor
+@Accessors(fluent = true)
+public final class AtlasTextureImpl implements Texture {
+    @Getter private final ResourcePath path;
+    private final TextureAtlas.Page page;
+    @Getter private final TextureResolution resolution;
+    @Getter private final TextureRegion region;
+
+    private final AtomicBoolean disposed = new AtomicBoolean(false);
+
+    @Override
+    public int id() { return page.id(); }
+
+    @Override
+    public void bind() {
+        if (disposed.get() || page.id() == 0) {
+            throw new IllegalStateException("❗ Attempted to bind a disposed texture at \"" + path + "\"!");
+        }
+        if (OpenGLUtil.contextFail()) { return; }
+        GL11.glBindTexture(GL11.GL_TEXTURE_2D, page.id());
+    }
+
+    @Override
+    public void dispose() {
+        disposed.set(true);
+    }
+
+    @Override
+    public String toString() {
+        return "AtlasTextureImpl[" + path + "]" + "(" +
+                "page=" + id() + ", " +
+                "width=" + resolution.width() + ", " +
+                "height=" + resolution.height() + ")";
+    }
+}
@@ -0,0 +1,140 @@
+package com.akjostudios.engine.runtime.impl.assets.texture.atlas;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Packs rectangles into a fixed area with the skyline bottom-left heuristic.
+ * The skyline is the lowest edge of all packed rectangles, stored as horizontal segments from left to right.
+ * Every rectangle is placed on the segment where its far edge ends up closest to the origin (ties go to the narrowest segment),
+ * which keeps the waste low for the similar-sized sprites that end up in an atlas.
+ * @apiNote Has no OpenGL dependency, so packing can happen on any thread. Not thread-safe.
+ */
+@SuppressWarnings("unused")
+public final class SkylinePacker {
+    /**
+     * A packed rectangle, y grows away from the origin like the rows of an image.
+     */
+    public record Rect(int x, int y, int width, int height) {}
+
+    private static final class Segment {
+        private int x;
+        private int y;
+        private int width;
+
+        private Segment(int x, int y, int width) {
+            this.x = x;
+            this.y = y;
+            this.width = width;
+        }
+    }
+
+    private final int width;
+    private final int height;
+    private final List<Segment> skyline = new ArrayList<>();
+
+    private long usedArea = 0;
+
+    public SkylinePacker(int width, int height) {
+        if (width < 1 || height < 1) {
+            throw new IllegalArgumentException("❗ Skyline packer needs a size of at least 1x1!");
+        }
+        this.width = width;
+        this.height = height;
+        skyline.add(new Segment(0, 0, width));
+    }
+
+    /**
+     * Packs a rectangle of the given size.
+     * @return The position of the rectangle or null if it does not fit anymore.
+     */
+    public @Nullable Rect insert(int rectWidth, int rectHeight) {
+        if (rectWidth < 1 || rectHeight < 1 || rectWidth > width || rectHeight > height) { return null; }
+
+        int bestIndex = -1;
+        int bestY = Integer.MAX_VALUE;
+        int bestSegmentWidth = Integer.MAX_VALUE;
+        for (int i = 0; i < skyline.size(); i++) {
+            int y = fit(i, rectWidth, rectHeight);
+            if (y < 0) { continue; }
+
+            int segmentWidth = skyline.get(i).width;
+            if (y < bestY || (y == bestY && segmentWidth < bestSegmentWidth)) {
+                bestIndex = i;
+                bestY = y;
+                bestSegmentWidth = segmentWidth;
+            }
+        }
+        if (bestIndex < 0) { return null; }
+
+        Rect rect = new Rect(skyline.get(bestIndex).x, bestY, rectWidth, rectHeight);
+        raise(bestIndex, rect);
+        usedArea += (long) rectWidth * rectHeight;
+        return rect;
+    }
+
+    public int width() { return width; }
+    public int height() { return height; }
+
+    /**
+     * @return The share of the area that is covered by packed rectangles.
+     */
+    public double occupancy() { return usedArea / ((double) width * height); }
+
+    /**
+     * @return The amount of segments the skyline currently consists of.
+     */
+    int segmentCount() { return skyline.size(); }
+
+    /**
+     * @return The lowest y a rectangle of the given size can be placed at when its left edge starts at the given segment or -1 if it does not fit there.
+     */
+    private int fit(int index, int rectWidth, int rectHeight) {
+        Segment first = skyline.get(index);
+        if (first.x + rectWidth > width) { return -1; }
+
+        int y = first.y;
+        int remaining = rectWidth;
+        for (int i = index; remaining > 0; i++) {
+            Segment segment = skyline.get(i);
+            y = Math.max(y, segment.y);
+            if (y + rectHeight > height) { return -1; }
+            remaining -= segment.width;
+        }
+        return y;
+    }
+
+    /**
+     * Adds the far edge of the given rectangle as a new segment and cuts away the segments it covers.
+     */
+    private void raise(int index, @NotNull Rect rect) {
+        skyline.add(index, new Segment(rect.x(), rect.y() + rect.height(), rect.width()));
+
+        for (int i = index + 1; i < skyline.size(); ) {
+            Segment previous = skyline.get(i - 1);
+            Segment segment = skyline.get(i);
+            int previousEnd = previous.x + previous.width;
+            if (segment.x >= previousEnd) { break; }
+
+            int shrink = previousEnd - segment.x;
+            segment.x += shrink;
+            segment.width -= shrink;
+            if (segment.width > 0) { break; }
+            skyline.remove(i);
+        }
+
+        for (int i = 1; i < skyline.size(); ) {
+            Segment previous = skyline.get(i - 1);
+            Segment segment = skyline.get(i);
+            if (previous.y == segment.y) {
+                previous.width += segment.width;
+                skyline.remove(i);
+            } else {
+                i++;
+            }
+        }
+    }
+}
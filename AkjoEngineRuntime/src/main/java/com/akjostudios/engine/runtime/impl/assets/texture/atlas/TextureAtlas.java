@@ -0,0 +1,234 @@
+package com.akjostudios.engine.runtime.impl.assets.texture.atlas;
+
+import com.akjostudios.engine.api.assets.texture.Texture;
+import com.akjostudios.engine.api.assets.texture.TextureRegion;
+import com.akjostudios.engine.api.assets.texture.TextureResolution;
+import com.akjostudios.engine.api.common.Disposable;
+import com.akjostudios.engine.api.resource.file.ResourcePath;
+import com.akjostudios.engine.runtime.util.OpenGLUtil;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.lwjgl.glfw.GLFW;
+import org.lwjgl.opengl.GL11;
+import org.lwjgl.opengl.GL12;
+import org.lwjgl.system.MemoryUtil;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Packs small textures into shared pages, so sprites of different textures can be drawn in one batch.
+ * Space is reserved by the asset workers while they decode an image ({@link #reserve(int, int)}),
+ * the render thread creates the pages and uploads the pixels into the reserved space ({@link #upload(ResourcePath, Slot, ByteBuffer)}).
+ * Reserved space is never reused, it is only freed together with all pages once the atlas is disposed.
+ * Pages have no mipmaps, so packed textures do not get any either.
+ */
+@SuppressWarnings("unused")
+public final class TextureAtlas implements Disposable {
+    public static final int DEFAULT_PAGE_SIZE = 2048;
+    public static final int DEFAULT_MAX_PACKED_SIZE = 256;
+    public static final int DEFAULT_PADDING = 2;
+
+    private static final int CHANNELS = 4;
+
+    /**
+     * The space that has been reserved for one texture.
+     * @param page The index of the page the space is on.
+     * @param rect The reserved space without its padding.
+     * @param padding The space around the rect that is filled with the edge pixels of the texture.
+     */
+    public record Slot(int page, @NotNull SkylinePacker.Rect rect, int padding, int pageSize) {
+        /**
+         * @return The reserved space including its padding on all sides.
+         */
+        public @NotNull SkylinePacker.Rect padded() {
+            return new SkylinePacker.Rect(
+                    rect.x() - padding, rect.y() - padding,
+                    rect.width() + 2 * padding, rect.height() + 2 * padding
+            );
+        }
+
+        /**
+         * @return The texture coordinates of the reserved space on its page.
+         */
+        public @NotNull TextureRegion region() {
+            float size = pageSize;
+            return new TextureRegion(
+                    rect.x() / size,
+                    rect.y() / size,
+                    (rect.x() + rect.width()) / size,
+                    (rect.y() + rect.height()) / size
+            );
+        }
+    }
+
+    static final class Page {
+        private final SkylinePacker packer;
+        private volatile int id = 0;
+
+        private Page(int size) {
+            this.packer = new SkylinePacker(size, size);
+        }
+
+        int id() { return id; }
+    }
+
+    private final int pageSize;
+    private final int maxPackedSize;
+    private final int padding;
+
+    private final List<Page> pages = new ArrayList<>();
+    private volatile boolean disposed = false;
+
+    public TextureAtlas() {
+        this(DEFAULT_PAGE_SIZE, DEFAULT_MAX_PACKED_SIZE, DEFAULT_PADDING);
+    }
+
+    /**
+     * @param pageSize The width and height of a page in pixels.
+     * @param maxPackedSize The largest width or height of a texture that is packed into a page.
+     * @param padding The space around every packed texture in pixels, it repeats the edge pixels of the texture
+     *                so linear filtering neither bleeds into the neighbours nor fades the edges out.
+     */
+    public TextureAtlas(int pageSize, int maxPackedSize, int padding) {
+        if (maxPackedSize + 2 * Math.max(0, padding) > pageSize) {
+            throw new IllegalArgumentException("❗ Texture atlas pages must be larger than the largest packed texture with its padding!");
+        }
+        this.pageSize = pageSize;
+        this.maxPackedSize = maxPackedSize;
+        this.padding = Math.max(0, padding);
+    }
+
+    /**
+     * @return If a texture of the given size is small enough to be packed.
+     */
+    public boolean accepts(int width, int height) {
+        return width > 0 && height > 0 && width <= maxPackedSize && height <= maxPackedSize;
+    }
+
+    /**
+     * Reserves space for a texture of the given size, on a new page if no existing page has space left.
+     * @return The reserved space or null if the texture is too large to be packed or the atlas is disposed.
+     */
+    public synchronized @Nullable Slot reserve(int width, int height) {
+        if (disposed || !accepts(width, height)) { return null; }
+
+        for (int index = 0; index < pages.size(); index++) {
+            Slot slot = reserveOn(index, width, height);
+            if (slot != null) { return slot; }
+        }
+        pages.add(new Page(pageSize));
+        return reserveOn(pages.size() - 1, width, height);
+    }
+
+    /**
+     * Copies the given RGBA pixels of a texture into a new buffer of the size of the padded slot,
+     * the padding repeats the nearest edge pixel of the texture.
+     * @return The pixels to {@link #upload(ResourcePath, Slot, ByteBuffer)}, they have to be freed with {@link MemoryUtil#memFree(java.nio.Buffer)}.
+     * @apiNote Has no OpenGL dependency, so the asset workers can extrude the pixels right after decoding them.
+     */
+    public static @NotNull ByteBuffer extrude(@NotNull Slot slot, @NotNull ByteBuffer pixels) {
+        int width = slot.rect().width();
+        int height = slot.rect().height();
+        int padding = slot.padding();
+        int paddedWidth = width + 2 * padding;
+        int paddedHeight = height + 2 * padding;
+
+        ByteBuffer padded = MemoryUtil.memAlloc(paddedWidth * paddedHeight * CHANNELS);
+        for (int y = 0; y < paddedHeight; y++) {
+            int sourceRow = Math.clamp(y - padding, 0, height - 1) * width;
+            int targetRow = y * paddedWidth;
+            for (int x = 0; x < paddedWidth; x++) {
+                int source = sourceRow + Math.clamp(x - padding, 0, width - 1);
+                padded.putInt((targetRow + x) * CHANNELS, pixels.getInt(source * CHANNELS));
+            }
+        }
+        return padded;
+    }
+
+    /**
+     * Copies the given extruded RGBA pixels ({@link #extrude(Slot, ByteBuffer)}) into the padded space, creating the page first if necessary.
+     * @return The texture that covers the reserved space without its padding.
+     * @apiNote Must be called on the render thread. The pixels are not freed.
+     */
+    public @NotNull Texture upload(@NotNull ResourcePath path, @NotNull Slot slot, @NotNull ByteBuffer pixels) {
+        OpenGLUtil.contextFail("upload texture at \"" + path + "\" into atlas page " + slot.page());
+
+        Page page;
+        synchronized (this) {
+            if (disposed) {
+                throw new IllegalStateException("❗ Attempted to upload texture at \"" + path + "\" into a disposed texture atlas!");
+            }
+            page = pages.get(slot.page());
+        }
+        if (page.id == 0) { page.id = createPage(); }
+
+        SkylinePacker.Rect rect = slot.padded();
+        GL11.glBindTexture(GL11.GL_TEXTURE_2D, page.id);
+        GL11.glTexSubImage2D(
+                GL11.GL_TEXTURE_2D, 0,
+                rect.x(), rect.y(), rect.width(), rect.height(),
+                GL11.GL_RGBA, GL11.GL_UNSIGNED_BYTE, pixels
+        );
+
+        return new AtlasTextureImpl(
+                path, page,
+                new TextureResolution(slot.rect().width(), slot.rect().height()),
+                slot.region()
+        );
+    }
+
+    public synchronized int pageCount() { return pages.size(); }
+
+    /**
+     * @return The share of the area of all pages that is covered by packed textures.
+     */
+    public synchronized double occupancy() {
+        if (pages.isEmpty()) { return 0.0; }
+        return pages.stream().mapToDouble(page -> page.packer.occupancy()).sum() / pages.size();
+    }
+
+    /**
+     * Deletes all pages, textures that have been packed can no longer be bound afterward.
+     */
+    @Override
+    public synchronized void dispose() {
+        if (disposed) { return; }
+        disposed = true;
+        boolean hasContext = GLFW.glfwGetCurrentContext() != 0L;
+        for (Page page : pages) {
+            if (hasContext && page.id != 0) { GL11.glDeleteTextures(page.id); }
+            page.id = 0;
+        }
+        pages.clear();
+    }
+
+    private @Nullable Slot reserveOn(int index, int width, int height) {
+        SkylinePacker.Rect padded = pages.get(index).packer.insert(width + 2 * padding, height + 2 * padding);
+        if (padded == null) { return null; }
+        return new Slot(index, new SkylinePacker.Rect(padded.x() + padding, padded.y() + padding, width, height), padding, pageSize);
+    }
+
+    /**
+     * Creates the OpenGL texture of a page.
+     * Pages have no mipmaps, as a padding that keeps every level apart would have to double with each level.
+     * Packed textures that are drawn scaled down therefore alias more than standalone textures, which get mipmaps.
+     */
+    private int createPage() {
+        int id = GL11.glGenTextures();
+        GL11.glBindTexture(GL11.GL_TEXTURE_2D, id);
+
+        GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_MIN_FILTER, GL11.GL_LINEAR);
+        GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_MAG_FILTER, GL11.GL_LINEAR);
+        GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_WRAP_S, GL12.GL_CLAMP_TO_EDGE);
+        GL11.glTexParameteri(GL11.GL_TEXTURE_2D, GL11.GL_TEXTURE_WRAP_T, GL12.GL_CLAMP_TO_EDGE);
+
+        GL11.glTexImage2D(
+                GL11.GL_TEXTURE_2D, 0, GL11.GL_RGBA8,
+                pageSize, pageSize, 0,
+                GL11.GL_RGBA, GL11.GL_UNSIGNED_BYTE, (ByteBuffer) null
+        );
+        return id;
+    }
+}
@@ -2,6 +2,7 @@ package com.akjostudios.engine.runtime.impl.canvas;
 
 import com.akjostudios.engine.api.assets.texture.Texture;
 import com.akjostudios.engine.api.canvas.Canvas;
+import com.akjostudios.engine.api.canvas.TextureDrawOptions;
 import com.akjostudios.engine.api.common.base.color.IColor;
 import com.akjostudios.engine.api.render.IRenderPosition;
 import com.akjostudios.engine.api.render.command.RenderCommand;
@@ -45,6 +46,46 @@ public final class CanvasImpl implements Canvas {
         drawTexture(texture, position.retrieve(window));
     }
 
+    @Override
+    public void drawTexture(
+            @NotNull Texture texture,
+            @NotNull IRenderPosition position,
+            int layer
+    ) {
+        queueRef.get().add(new DrawTextureCommand(texture, position, layer));
+        window.requestRender();
+    }
+
+    @Override
+    public void drawTexture(
+            @NotNull Texture texture,
+            @NotNull WindowPositionProvider position,
+            int layer
+    ) {
+        drawTexture(texture, position.retrieve(window), layer);
+    }
+
+    @Override
+    public void drawTexture(
+            @NotNull Texture texture,
+            @NotNull IRenderPosition position,
+            int layer,
+            @NotNull TextureDrawOptions options
+    ) {
+        queueRef.get().add(new DrawTextureCommand(texture, position, layer, options));
+        window.requestRender();
+    }
+
+    @Override
+    public void drawTexture(
+            @NotNull Texture texture,
+            @NotNull WindowPositionProvider position,
+            int layer,
+            @NotNull TextureDrawOptions options
+    ) {
+        drawTexture(texture, position.retrieve(window), layer, options);
+    }
+
     public @NotNull ConcurrentLinkedQueue<RenderCommand> swapQueue() {
         return queueRef.getAndSet(new ConcurrentLinkedQueue<>());
     }
@@ -0,0 +1,45 @@
+package com.akjostudios.engine.runtime.impl.canvas;
+
+import com.akjostudios.engine.api.assets.texture.Texture;
+import com.akjostudios.engine.api.canvas.Canvas;
+import com.akjostudios.engine.api.canvas.TextureDrawOptions;
+import com.akjostudios.engine.api.common.base.color.IColor;
+import com.akjostudios.engine.api.render.IRenderPosition;
+import com.akjostudios.engine.api.window.WindowPositionProvider;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The canvas of a headless window, which discards everything that is drawn to it.
+ */
+public final class HeadlessCanvas implements Canvas {
+    @Override
+    public void clear(@NotNull IColor color) {}
+
+    @Override
+    public void drawTexture(@NotNull Texture texture, @NotNull IRenderPosition position) {}
+
+    @Override
+    public void drawTexture(@NotNull Texture texture, @NotNull WindowPositionProvider position) {}
+
+    @Override
+    public void drawTexture(@NotNull Texture texture, @NotNull IRenderPosition position, int layer) {}
+
+    @Override
+    public void drawTexture(@NotNull Texture texture, @NotNull WindowPositionProvider position, int layer) {}
+
+    @Override
+    public void drawTexture(
+            @NotNull Texture texture,
+            @NotNull IRenderPosition position,
+            int layer,
+            @NotNull TextureDrawOptions options
+    ) {}
+
+    @Override
+    public void drawTexture(
+            @NotNull Texture texture,
+            @NotNull WindowPositionProvider position,
+            int layer,
+            @NotNull TextureDrawOptions options
+    ) {}
+}
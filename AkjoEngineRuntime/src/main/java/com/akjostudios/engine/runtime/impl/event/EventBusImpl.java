@@ -3,36 +3,117 @@ package com.akjostudios.engine.runtime.impl.event;
 import com.akjostudios.engine.api.event.*;
 import com.akjostudios.engine.api.lifecycle.Lifecycle;
 import com.akjostudios.engine.api.logging.Logger;
+import com.akjostudios.engine.api.metrics.Counter;
+import com.akjostudios.engine.api.metrics.MetricsRegistry;
 import com.akjostudios.engine.api.scheduling.Scheduler;
+import com.akjostudios.engine.api.window.events.FramebufferResizedEvent;
+import com.akjostudios.engine.api.window.events.WindowMovedEvent;
+import com.akjostudios.engine.api.window.events.WindowResizedEvent;
+import com.akjostudios.engine.runtime.impl.jfr.EventDispatchEvent;
 import com.akjostudios.engine.runtime.impl.threading.ThreadingImpl;
-import com.akjostudios.engine.runtime.util.ImmutableArrayList;
+import jdk.jfr.EventType;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
 
-@RequiredArgsConstructor
 @SuppressWarnings("unused")
 public final class EventBusImpl implements EventBus {
+    private static final Subscription<?>[] NO_SUBSCRIPTIONS = new Subscription<?>[0];
+    // Checked before every dispatch, so the recording event is only allocated while a recording captures it
+    private static final EventType DISPATCH_RECORDING = EventType.getEventType(EventDispatchEvent.class);
+    private static final Comparator<Subscription<?>> DISPATCH_ORDER = Comparator
+            .<Subscription<?>>comparingInt(subscription -> subscription.priority).reversed()
+            .thenComparingLong(subscription -> subscription.sequence);
+
     private final Lifecycle lifecycle;
     private final ThreadingImpl threading;
     private final Scheduler scheduler;
+    private final MetricsRegistry metrics;
     private final Logger log;
 
     private final Map<Class<? extends Event>, ListenerList<? extends Event>> listeners = new ConcurrentHashMap<>();
     private final Map<Class<? extends Event>, EventLane> defaultLanes = new ConcurrentHashMap<>();
+    private final Map<Class<? extends Event>, CoalescingRule<? extends Event>> coalescingRules = new ConcurrentHashMap<>();
+
+    private final LaneQueue logicQueue = new LaneQueue();
+    private final LaneQueue renderQueue = new LaneQueue();
+    private final LaneQueue audioQueue = new LaneQueue();
+
+    private final AtomicLong subscriptionSequence = new AtomicLong();
+    // Every dispatched type has exactly one slot, the map is only walked when subscriptions change
+    private final Map<Class<?>, DispatchSlot> slots = new ConcurrentHashMap<>();
+    private final ClassValue<DispatchSlot> dispatchSlots = new ClassValue<>() {
+        @Override
+        protected DispatchSlot computeValue(@NotNull Class<?> type) {
+            return slots.computeIfAbsent(type, _ -> new DispatchSlot(
+                    type, eventTypesOf(type),
+                    metrics.counter("events.dispatched." + type.getName())
+            ));
+        }
+    };
+
+    public EventBusImpl(
+            @NotNull Lifecycle lifecycle,
+            @NotNull ThreadingImpl threading,
+            @NotNull Scheduler scheduler,
+            @NotNull MetricsRegistry metrics,
+            @NotNull Logger log
+    ) {
+        this.lifecycle = lifecycle;
+        this.threading = threading;
+        this.scheduler = scheduler;
+        this.metrics = metrics;
+        this.log = log;
+
+        // Flush the queued events of every lane once per tick or frame
+        scheduler.logic().everyTick(() -> flush(logicQueue, EventLane.LOGIC));
+        scheduler.render().everyFrame(() -> flush(renderQueue, EventLane.RENDER));
+        scheduler.audio().everyFrame(() -> flush(audioQueue, EventLane.AUDIO));
+
+        // Window state events only need to be delivered once per flush, the window holds the current state
+        setCoalescing(WindowMovedEvent.class, WindowMovedEvent::window, (previous, latest) -> new WindowMovedEvent(
+                latest.window(), previous.oldPosition(), previous.oldMonitorPosition()
+        ));
+        setCoalescing(WindowResizedEvent.class, WindowResizedEvent::window, (previous, latest) -> new WindowResizedEvent(
+                latest.window(), previous.oldResolution()
+        ));
+        setCoalescing(FramebufferResizedEvent.class, FramebufferResizedEvent::window, (previous, latest) -> new FramebufferResizedEvent(
+                latest.window(), previous.oldResolution()
+        ));
+    }
 
     @Override
     public <T extends Event> EventSubscription subscribe(
             @NotNull Class<T> type,
-            @NotNull EventListener<T> listener
+            @NotNull EventListener<T> listener,
+            int priority,
+            @Nullable EventLane lane
     ) {
         ListenerList<T> list = getOrCreate(type);
-        Subscription<T> subscription = new Subscription<>(type, listener, list);
+        Subscription<T> subscription = new Subscription<>(
+                type, listener, priority, lane,
+                subscriptionSequence.getAndIncrement(),
+                list
+        );
         list.subscriptions.add(subscription);
+        invalidate(type);
         return subscription;
     }
 
@@ -42,19 +123,22 @@ public final class EventBusImpl implements EventBus {
         publish(event, lane);
     }
 
+    /**
+     * Queues the event for the given lane, the queue of a lane is dispatched as one batch on its next tick or frame.
+     * Events of a type with a coalescing rule are merged with an already queued event of the same key.
+     */
     @Override
     public void publish(@NotNull Event event, @NotNull EventLane lane) {
-        Runnable dispatch = () -> dispatch(event);
         switch (lane) {
-            case RENDER -> scheduler.render().afterFrames(1, dispatch);
-            case LOGIC -> scheduler.logic().afterTicks(1, dispatch);
-            case AUDIO -> scheduler.audio().afterFrames(1, dispatch);
-            case WORKER -> threading.runOnWorker(dispatch);
+            case RENDER -> enqueue(renderQueue, event);
+            case LOGIC -> enqueue(logicQueue, event);
+            case AUDIO -> enqueue(audioQueue, event);
+            case WORKER -> threading.runOnWorker(() -> dispatch(event, EventLane.WORKER));
         }
     }
 
     @Override
-    public <T extends Event> void publishImmediate(@NotNull T event) { dispatch(event); }
+    public <T extends Event> void publishImmediate(@NotNull T event) { dispatch(event, currentLane()); }
 
     /**
      * Sets the given lane as the default lane for the given event type.
@@ -63,52 +147,282 @@ public final class EventBusImpl implements EventBus {
         defaultLanes.put(type, lane);
     }
 
+    /**
+     * Sets a coalescing rule for the given event type.
+     * While an event of that type is queued on a lane, further events with the same key are merged into it instead of being queued.
+     * @param key The function that selects what events are merged (for example the window of the event).
+     * @param merge The function that merges the queued event with the newly published one.
+     */
+    public <T extends Event> void setCoalescing(
+            @NotNull Class<T> type,
+            @NotNull Function<T, ?> key,
+            @NotNull BinaryOperator<T> merge
+    ) {
+        coalescingRules.put(type, new CoalescingRule<>(key, merge));
+    }
+
+    /**
+     * Removes the coalescing rule for the given event type.
+     */
+    public void removeCoalescing(@NotNull Class<? extends Event> type) {
+        coalescingRules.remove(type);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void enqueue(@NotNull LaneQueue queue, @NotNull Event event) {
+        CoalescingRule rule = coalescingRules.get(event.getClass());
+        if (rule == null) {
+            queue.add(event);
+            return;
+        }
+
+        CoalescingKey key = new CoalescingKey(event.getClass(), rule.key.apply(event));
+        for (;;) {
+            CoalescedEvent pending = queue.coalesced.get(key);
+            if (pending == null) {
+                CoalescedEvent created = new CoalescedEvent(key, event);
+                if (queue.coalesced.putIfAbsent(key, created) == null) {
+                    queue.add(created);
+                    return;
+                }
+                continue;
+            }
+
+            Event previous;
+            do {
+                previous = pending.event.get();
+                if (previous == null) { break; }
+            } while (!pending.event.compareAndSet(previous, (Event) rule.merge.apply(previous, event)));
+            if (previous != null) { return; }
+
+            // The pending event has already been flushed, so it must not be merged into anymore
+            queue.coalesced.remove(key, pending);
+        }
+    }
+
+    private void flush(@NotNull LaneQueue queue, @NotNull EventLane lane) {
+        // Only the events queued before the flush started are dispatched, events published by listeners wait for the next one
+        int count = queue.size.get();
+        if (count == 0) { return; }
+        queue.size.addAndGet(-count);
+
+        for (int i = 0; i < count; i++) {
+            Object entry = queue.events.poll();
+            if (entry == null) { break; }
+            if (entry instanceof CoalescedEvent pending) {
+                Event event = pending.event.getAndSet(null);
+                queue.coalesced.remove(pending.key, pending);
+                if (event != null) { dispatch(event, lane); }
+            } else {
+                dispatch((Event) entry, lane);
+            }
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private <T extends Event> ListenerList<T> getOrCreate(@NotNull Class<T> type) {
-        return (ListenerList<T>) listeners.computeIfAbsent(type, k -> new ListenerList<T>());
+        return (ListenerList<T>) listeners.computeIfAbsent(type, _ -> new ListenerList<T>(() -> invalidate(type)));
     }
 
-    @SuppressWarnings("unchecked")
-    private <T extends Event> void dispatch(@NotNull T event) {
-        ListenerList<T> list = (ListenerList<T>) listeners.get(event.getClass());
-        if (list == null) { return; }
+    /**
+     * Bumps the listener version of every dispatched type that is the given type or one of its subtypes,
+     * so only their dispatch tables are rebuilt on their next dispatch.
+     */
+    private void invalidate(@NotNull Class<?> type) {
+        for (DispatchSlot slot : slots.values()) {
+            if (type.isAssignableFrom(slot.type)) { slot.version.incrementAndGet(); }
+        }
+    }
 
-        list.subscriptions.forEach(subscription -> {
-            if (!subscription.isActive()) { return; }
-            try {
-                subscription.listener.onEvent(event);
-            } catch (IllegalStateException e) {
-                log.error(e, "Got an unrecoverable error from event listener \"{}\"!", event.getClass().getSimpleName());
-                threading.handleUncaught(e);
-                lifecycle.stopApplication(e);
-            } catch (Throwable t) {
-                try {
-                    log.error(t, "Event listener threw an exception for \"{}\"!", event.getClass().getSimpleName());
-                    threading.handleUncaught(t);
-                } catch (Throwable ignored) {}
+    /**
+     * Calls all listeners of the event in priority order.
+     * Listeners that are bound to another lane than the given one are handed over to their lane instead.
+     * @param lane The lane the event is dispatched on or null if it is dispatched outside any lane.
+     */
+    private void dispatch(@NotNull Event event, @Nullable EventLane lane) {
+        EventDispatchEvent dispatchEvent = null;
+        if (DISPATCH_RECORDING.isEnabled()) {
+            dispatchEvent = new EventDispatchEvent();
+            dispatchEvent.begin();
+        }
+        DispatchSlot slot = dispatchSlots.get(event.getClass());
+        slot.dispatched.increment();
+        Subscription<?>[] table = dispatchTable(slot);
+
+        for (Subscription<?> subscription : table) {
+            if (!subscription.isActive()) { continue; }
+            if (subscription.lane == null || subscription.lane == lane) {
+                invoke(subscription, event);
+            } else {
+                handOver(subscription, event, subscription.lane);
             }
-        });
+        }
+
+        if (dispatchEvent != null && dispatchEvent.shouldCommit()) {
+            dispatchEvent.eventType(event.getClass())
+                    .lane(lane == null ? "NONE" : lane.name())
+                    .listeners(table.length)
+                    .commit();
+        }
+    }
+
+    private void handOver(@NotNull Subscription<?> subscription, @NotNull Event event, @NotNull EventLane lane) {
+        Runnable call = () -> {
+            if (subscription.isActive()) { invoke(subscription, event); }
+        };
+        switch (lane) {
+            case RENDER -> threading.renderMailbox().postOrThrow(call);
+            case LOGIC -> threading.logicMailbox().postOrThrow(call);
+            case AUDIO -> threading.audioMailbox().postOrThrow(call);
+            case WORKER -> threading.runOnWorker(call);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void invoke(@NotNull Subscription subscription, @NotNull Event event) {
+        try {
+            subscription.listener.onEvent(event);
+        } catch (IllegalStateException e) {
+            log.error(e, "Got an unrecoverable error from event listener \"{}\"!", event.getClass().getSimpleName());
+            threading.handleUncaught(e);
+            lifecycle.stopApplication(e);
+        } catch (Throwable t) {
+            try {
+                log.error(t, "Event listener threw an exception for \"{}\"!", event.getClass().getSimpleName());
+                threading.handleUncaught(t);
+            } catch (Throwable ignored) {}
+        }
+    }
+
+    private @Nullable EventLane currentLane() {
+        if (threading.isLogicThread()) { return EventLane.LOGIC; }
+        if (threading.isRenderThread()) { return EventLane.RENDER; }
+        if (threading.isAudioThread()) { return EventLane.AUDIO; }
+        return null;
+    }
+
+    /**
+     * @return The flattened listeners of the concrete event type of the given slot and all of its event supertypes in dispatch order.
+     * @implNote The table is cached per event type and only rebuilt after a subscription to the type or one of its supertypes has been added or closed.
+     * Any number of subscription changes between two dispatches therefore cost a single rebuild.
+     */
+    private Subscription<?>@NotNull[] dispatchTable(@NotNull DispatchSlot slot) {
+        DispatchTable table = slot.table;
+        long version = slot.version.get();
+        if (table != null && table.version == version) { return table.subscriptions; }
+
+        List<Subscription<?>> collected = new ArrayList<>();
+        for (Class<?> eventType : slot.eventTypes) {
+            ListenerList<?> list = listeners.get(eventType);
+            if (list != null) { list.subscriptions.forEach(collected::add); }
+        }
+
+        collected.sort(DISPATCH_ORDER);
+        table = new DispatchTable(
+                collected.isEmpty() ? NO_SUBSCRIPTIONS : collected.toArray(Subscription<?>[]::new),
+                version
+        );
+        slot.table = table;
+        return table.subscriptions;
+    }
+
+    /**
+     * @return The given type followed by its superclasses and all of its interfaces that are events.
+     */
+    private static @NotNull Class<?>@NotNull[] eventTypesOf(@NotNull Class<?> type) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            if (Event.class.isAssignableFrom(current)) { types.add(current); }
+        }
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            collectInterfaces(current, types);
+        }
+        return types.toArray(Class<?>[]::new);
+    }
+
+    private static void collectInterfaces(@NotNull Class<?> type, @NotNull Set<Class<?>> types) {
+        for (Class<?> candidate : type.getInterfaces()) {
+            if (!Event.class.isAssignableFrom(candidate)) { continue; }
+            if (types.add(candidate)) { collectInterfaces(candidate, types); }
+        }
+    }
+
+    private static final class LaneQueue {
+        private final ConcurrentLinkedQueue<Object> events = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final Map<CoalescingKey, CoalescedEvent> coalesced = new ConcurrentHashMap<>();
+
+        private void add(@NotNull Object entry) {
+            events.add(entry);
+            size.incrementAndGet();
+        }
     }
 
+    private record CoalescingRule<T extends Event>(
+            @NotNull Function<T, ?> key,
+            @NotNull BinaryOperator<T> merge
+    ) {}
+
+    private record CoalescingKey(
+            @NotNull Class<?> type,
+            Object key
+    ) {}
+
+    private static final class CoalescedEvent {
+        private final CoalescingKey key;
+        private final AtomicReference<Event> event;
+
+        private CoalescedEvent(@NotNull CoalescingKey key, @NotNull Event event) {
+            this.key = key;
+            this.event = new AtomicReference<>(event);
+        }
+    }
+
+    /**
+     * The dispatch state of one concrete event type, the event types are collected once when the type is dispatched first.
+     */
+    @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+    private static final class DispatchSlot {
+        private final Class<?> type;
+        private final Class<?>@NotNull[] eventTypes;
+        private final Counter dispatched;
+        private final AtomicLong version = new AtomicLong();
+        private volatile DispatchTable table;
+    }
+
+    private record DispatchTable(
+            Subscription<?>@NotNull[] subscriptions,
+            long version
+    ) {}
+
+    @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
     private static final class ListenerList<T extends Event> {
-        public final ImmutableArrayList<Subscription<T>> subscriptions = new ImmutableArrayList<>();
+        public final ConcurrentSkipListSet<Subscription<T>> subscriptions = new ConcurrentSkipListSet<>(DISPATCH_ORDER);
+        private final Runnable invalidate;
+
+        public void remove(@NotNull Subscription<T> subscription) {
+            if (subscriptions.remove(subscription)) { invalidate.run(); }
+        }
     }
 
     @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
     private static final class Subscription<T extends Event> implements EventSubscription {
         private final Class<T> type;
         private final EventListener<T> listener;
+        private final int priority;
+        private final EventLane lane;
+        private final long sequence;
         private final ListenerList<T> owner;
         private final AtomicBoolean active = new AtomicBoolean(true);
 
         @Override
         public void close() {
             if (active.compareAndSet(true, false)) {
-                owner.subscriptions.remove(this);
+                owner.remove(this);
             }
         }
 
         @Override
         public boolean isActive() { return active.get(); }
     }
-}
\ No newline at end of file
+}
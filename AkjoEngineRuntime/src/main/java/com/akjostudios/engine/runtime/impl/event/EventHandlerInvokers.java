@@ -0,0 +1,97 @@
+package com.akjostudios.engine.runtime.impl.event;
+
+import com.akjostudios.engine.api.event.Event;
+import com.akjostudios.engine.api.event.EventListener;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Binds {@link com.akjostudios.engine.api.event.EventHandler event handler} methods to event listeners.
+ * Handlers are bound once through {@link LambdaMetafactory}, so calling them is a plain interface call
+ * that the JIT can inline like a hand-written listener.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class EventHandlerInvokers {
+    private static final String LISTENER_METHOD_NAME = "onEvent";
+    private static final MethodType LISTENER_METHOD_TYPE = MethodType.methodType(void.class, Event.class);
+
+    /**
+     * Creates a listener that calls the given handler method on the given bean.
+     * Falls back to a reflective listener if the handler cannot be bound directly (for example for interface-based proxies).
+     * @return The bound event listener.
+     */
+    public static <T extends Event> @NotNull EventListener<T> bind(
+            @NotNull Class<T> type,
+            @NotNull Object bean,
+            @NotNull Method method
+    ) {
+        boolean isStatic = Modifier.isStatic(method.getModifiers());
+        if (!isStatic && !method.getDeclaringClass().isInstance(bean)) { return reflective(bean, method); }
+
+        try {
+            return generated(type, isStatic ? null : bean, method);
+        } catch (Throwable _) {
+            return reflective(bean, method);
+        }
+    }
+
+    /**
+     * @return A listener that calls the given handler method through a generated lambda class.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Event> @NotNull EventListener<T> generated(
+            @NotNull Class<T> type,
+            Object bean,
+            @NotNull Method method
+    ) throws Throwable {
+        Class<?> owner = method.getDeclaringClass();
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+        MethodHandle handle = lookup.unreflect(method);
+
+        MethodType factoryType = bean == null
+                ? MethodType.methodType(EventListener.class)
+                : MethodType.methodType(EventListener.class, owner);
+        CallSite site = LambdaMetafactory.metafactory(
+                lookup,
+                LISTENER_METHOD_NAME,
+                factoryType,
+                LISTENER_METHOD_TYPE,
+                handle,
+                MethodType.methodType(void.class, type)
+        );
+
+        return bean == null
+                ? (EventListener<T>) site.getTarget().invoke()
+                : (EventListener<T>) site.getTarget().invoke(bean);
+    }
+
+    /**
+     * @return A listener that calls the given handler method through core reflection.
+     */
+    public static <T extends Event> @NotNull EventListener<T> reflective(
+            @NotNull Object bean,
+            @NotNull Method method
+    ) {
+        return event -> {
+            try {
+                method.invoke(bean, event);
+            } catch (InvocationTargetException e) {
+                switch (e.getCause()) {
+                    case Exception cause -> throw cause;
+                    case Error error -> throw error;
+                    case null, default -> throw e;
+                }
+            }
+        };
+    }
+}
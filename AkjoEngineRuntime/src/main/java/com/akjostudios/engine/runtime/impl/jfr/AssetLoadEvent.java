@@ -0,0 +1,33 @@
+package com.akjostudios.engine.runtime.impl.jfr;
+
+import jdk.jfr.*;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+/**
+ * One stage of loading an asset.
+ * READ covers reading and decoding the raw data on an asset worker,
+ * CREATE covers creating the asset on its lane (uploading it to the GPU for textures and shaders).
+ */
+@Name("com.akjostudios.engine.AssetLoad")
+@Label("Asset Load")
+@Category({"AkjoEngine", "Assets"})
+@StackTrace(false)
+@Setter
+@Accessors(fluent = true, chain = true)
+public final class AssetLoadEvent extends Event {
+    public static final String STAGE_READ = "READ";
+    public static final String STAGE_CREATE = "CREATE";
+
+    @Label("Stage")
+    private String stage;
+
+    @Label("Path")
+    private String path;
+
+    @Label("Asset Type")
+    private Class<?> assetType;
+
+    @Label("Succeeded")
+    private boolean succeeded;
+}
@@ -0,0 +1,25 @@
+package com.akjostudios.engine.runtime.impl.jfr;
+
+import jdk.jfr.*;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+/**
+ * The buffer swap of a window (which blocks on vsync).
+ */
+@Name("com.akjostudios.engine.BufferSwap")
+@Label("Buffer Swap")
+@Category({"AkjoEngine", "Rendering"})
+@StackTrace(false)
+@Setter
+@Accessors(fluent = true, chain = true)
+public final class BufferSwapEvent extends Event {
+    @Label("Window")
+    private long window;
+
+    @Label("Width")
+    private int width;
+
+    @Label("Height")
+    private int height;
+}
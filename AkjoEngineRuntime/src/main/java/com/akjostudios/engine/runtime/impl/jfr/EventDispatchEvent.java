@@ -0,0 +1,26 @@
+package com.akjostudios.engine.runtime.impl.jfr;
+
+import jdk.jfr.*;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+/**
+ * The dispatch of one engine event to its listeners (listeners on other lanes are only handed over).
+ */
+@Name("com.akjostudios.engine.EventDispatch")
+@Label("Event Dispatch")
+@Category({"AkjoEngine", "Events"})
+@StackTrace(false)
+@Setter
+@Accessors(fluent = true, chain = true)
+public final class EventDispatchEvent extends Event {
+    @Label("Event Type")
+    private Class<?> eventType;
+
+    @Label("Lane")
+    @Description("The lane the event was dispatched on or NONE if it was dispatched outside of a lane")
+    private String lane;
+
+    @Label("Listeners")
+    private int listeners;
+}
@@ -0,0 +1,30 @@
+package com.akjostudios.engine.runtime.impl.jfr;
+
+import jdk.jfr.*;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+/**
+ * A loop iteration of the logic thread that had to drop time it could not catch up with.
+ */
+@Name("com.akjostudios.engine.LogicOverload")
+@Label("Logic Overload")
+@Category({"AkjoEngine", "Threading"})
+@StackTrace(false)
+@Setter
+@Accessors(fluent = true, chain = true)
+public final class LogicOverloadEvent extends Event {
+    @Label("Lost Ticks")
+    @Description("The amount of ticks that have been dropped in this iteration")
+    private long lostTicks;
+
+    @Label("Load")
+    @Description("How much of its step a tick needed recently")
+    private double load;
+
+    @Label("Time Scale")
+    private double timeScale;
+
+    @Label("Rate Scale")
+    private double rateScale;
+}
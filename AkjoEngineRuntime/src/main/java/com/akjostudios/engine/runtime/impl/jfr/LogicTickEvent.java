@@ -0,0 +1,23 @@
+package com.akjostudios.engine.runtime.impl.jfr;
+
+import jdk.jfr.*;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+/**
+ * A fixed step of the logic thread, including the update callback and the tick scheduler.
+ */
+@Name("com.akjostudios.engine.LogicTick")
+@Label("Logic Tick")
+@Category({"AkjoEngine", "Threading"})
+@StackTrace(false)
+@Setter
+@Accessors(fluent = true, chain = true)
+public final class LogicTickEvent extends Event {
+    @Label("Tick")
+    private long tick;
+
+    @Label("Update Index")
+    @Description("The index of the update within one loop iteration, values above 0 are catch-up updates")
+    private int updateIndex;
+}
@@ -0,0 +1,31 @@
+package com.akjostudios.engine.runtime.impl.jfr;
+
+import jdk.jfr.*;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+/**
+ * A drain of a thread mailbox that executed at least one task.
+ */
+@Name("com.akjostudios.engine.MailboxDrain")
+@Label("Mailbox Drain")
+@Category({"AkjoEngine", "Threading"})
+@StackTrace(false)
+@Setter
+@Accessors(fluent = true, chain = true)
+public final class MailboxDrainEvent extends Event {
+    @Label("Mailbox")
+    private String mailbox;
+
+    @Label("Tasks")
+    @Description("The amount of tasks that have been executed")
+    private int tasks;
+
+    @Label("Remaining")
+    @Description("The amount of tasks that were still queued after the drain")
+    private int remaining;
+
+    @Label("Deferred")
+    @Description("The amount of tasks that were left behind because the time budget of the drain was used up")
+    private int deferred;
+}
@@ -0,0 +1,28 @@
+package com.akjostudios.engine.runtime.impl.jfr;
+
+import jdk.jfr.*;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+/**
+ * The render commands of one canvas frame and how many batches sorting them has saved.
+ */
+@Name("com.akjostudios.engine.RenderBatch")
+@Label("Render Batch")
+@Category({"AkjoEngine", "Rendering"})
+@StackTrace(false)
+@Setter
+@Accessors(fluent = true, chain = true)
+public final class RenderBatchEvent extends Event {
+    @Label("Commands")
+    @Description("The amount of render commands of the frame")
+    private int commands;
+
+    @Label("Batches Before Sort")
+    @Description("The amount of batches the commands would have needed in submission order")
+    private int batchesBeforeSort;
+
+    @Label("Batches After Sort")
+    @Description("The amount of batches the commands needed after sorting")
+    private int batchesAfterSort;
+}
@@ -0,0 +1,23 @@
+package com.akjostudios.engine.runtime.impl.jfr;
+
+import jdk.jfr.*;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+/**
+ * A frame of the render thread, from publishing its time until its scheduler work is done.
+ */
+@Name("com.akjostudios.engine.RenderFrame")
+@Label("Render Frame")
+@Category({"AkjoEngine", "Threading"})
+@StackTrace(false)
+@Setter
+@Accessors(fluent = true, chain = true)
+public final class RenderFrameEvent extends Event {
+    @Label("Frame")
+    private long frame;
+
+    @Label("Delta Time")
+    @Description("The delta time of the frame in seconds")
+    private double deltaTime;
+}
@@ -0,0 +1,48 @@
+package com.akjostudios.engine.runtime.impl.jfr;
+
+import jdk.jfr.*;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+/**
+ * A tick of the logic thread that took longer than its budget, split into the work it consisted of.
+ */
+@Name("com.akjostudios.engine.TickBudget")
+@Label("Tick Over Budget")
+@Category({"AkjoEngine", "Threading"})
+@StackTrace(false)
+@Setter
+@Accessors(fluent = true, chain = true)
+public final class TickBudgetEvent extends Event {
+    @Label("Tick")
+    private long tick;
+
+    @Label("Budget")
+    @Timespan(Timespan.NANOSECONDS)
+    private long budget;
+
+    @Label("Tasks")
+    @Description("How long the logic tasks executed since the previous tick ran")
+    @Timespan(Timespan.NANOSECONDS)
+    private long tasks;
+
+    @Label("Task Count")
+    private int taskCount;
+
+    @Label("Update")
+    @Description("How long the update callback of the application ran")
+    @Timespan(Timespan.NANOSECONDS)
+    private long update;
+
+    @Label("Scheduler")
+    @Timespan(Timespan.NANOSECONDS)
+    private long scheduler;
+
+    @Label("Slowest Task")
+    @Description("The type of the longest running logic task, only known while the logic mailbox is sampled")
+    private Class<?> slowestTask;
+
+    @Label("Slowest Task Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long slowestTaskTime;
+}
@@ -0,0 +1,79 @@
+package com.akjostudios.engine.runtime.impl.metrics;
+
+import com.akjostudios.engine.api.metrics.*;
+import com.akjostudios.engine.api.time.Time;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+@RequiredArgsConstructor
+public final class MetricsRegistryImpl implements MetricsRegistry {
+    private final Time time;
+
+    private final Map<String, Object> metrics = new ConcurrentHashMap<>();
+
+    @Override
+    public @NotNull Counter counter(@NotNull String name) throws IllegalArgumentException {
+        return lookup(name, Counter.class, metrics.computeIfAbsent(name, _ -> new Counter()));
+    }
+
+    @Override
+    public @NotNull Histogram histogram(@NotNull String name) throws IllegalArgumentException {
+        return lookup(name, Histogram.class, metrics.computeIfAbsent(name, _ -> new Histogram()));
+    }
+
+    @Override
+    public void gauge(@NotNull String name, @NotNull Gauge gauge) throws IllegalArgumentException {
+        metrics.compute(name, (_, existing) -> {
+            if (existing != null && !(existing instanceof Gauge)) {
+                throw new IllegalArgumentException("❗ Metric '" + name + "' is already registered as " + existing.getClass().getSimpleName() + "!");
+            }
+            return gauge;
+        });
+    }
+
+    @Override
+    public boolean remove(@NotNull String name) { return metrics.remove(name) != null; }
+
+    @Override
+    public @NotNull MetricsSnapshot snapshot() {
+        Map<String, Long> counters = new TreeMap<>();
+        Map<String, Double> gauges = new TreeMap<>();
+        Map<String, Histogram.Snapshot> histograms = new TreeMap<>();
+
+        metrics.forEach((name, metric) -> {
+            switch (metric) {
+                case Counter counter -> counters.put(name, counter.sum());
+                case Gauge gauge -> gauges.put(name, read(gauge));
+                case Histogram histogram -> histograms.put(name, histogram.snapshot());
+                default -> {}
+            }
+        });
+
+        return new MetricsSnapshot(
+                time.nowNanos(),
+                Collections.unmodifiableMap(counters),
+                Collections.unmodifiableMap(gauges),
+                Collections.unmodifiableMap(histograms)
+        );
+    }
+
+    private static double read(@NotNull Gauge gauge) {
+        try {
+            return gauge.value();
+        } catch (RuntimeException e) {
+            return Double.NaN;
+        }
+    }
+
+    private static <T> @NotNull T lookup(@NotNull String name, @NotNull Class<T> type, @NotNull Object metric) {
+        if (!type.isInstance(metric)) {
+            throw new IllegalArgumentException("❗ Metric '" + name + "' is already registered as " + metric.getClass().getSimpleName() + "!");
+        }
+        return type.cast(metric);
+    }
+}
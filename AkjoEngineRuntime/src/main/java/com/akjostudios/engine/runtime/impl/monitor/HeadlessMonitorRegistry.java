@@ -0,0 +1,62 @@
+package com.akjostudios.engine.runtime.impl.monitor;
+
+import com.akjostudios.engine.api.event.EventBus;
+import com.akjostudios.engine.api.internal.token.EngineTokens;
+import com.akjostudios.engine.api.monitor.Monitor;
+import com.akjostudios.engine.api.monitor.MonitorRegistry;
+import com.akjostudios.engine.api.scheduling.FrameScheduler;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Objects;
+
+import static com.akjostudios.engine.runtime.impl.threading.ThreadingImpl.RENDER_THREAD_NAME;
+
+/**
+ * The monitor registry of the headless runtime, which never has any monitors connected.
+ */
+public final class HeadlessMonitorRegistry implements MonitorRegistry {
+    @Override
+    public @NotNull List<Monitor> getMonitors() { return List.of(); }
+
+    @Override
+    public @Nullable Monitor getPrimaryMonitor() { return null; }
+
+    @Override
+    public @Nullable Monitor getMonitorById(long id) { return null; }
+
+    /**
+     * Initializes the monitor registry (without loading any monitors).
+     * @apiNote Must be called by the runtime implementation of the engine AND from the render thread.
+     * @throws IllegalCallerException When this method is called externally.
+     * @throws IllegalStateException When this method is not called from the render thread.
+     */
+    @Override
+    public void __engine_init(
+            @NotNull Object token,
+            @NotNull FrameScheduler renderScheduler,
+            @NotNull EventBus events
+    ) throws IllegalCallerException, IllegalStateException {
+        EngineTokens.verify(token);
+        if (!Objects.equals(Thread.currentThread().getName(), RENDER_THREAD_NAME)) {
+            throw new IllegalStateException("❗ Monitor registry is not being initialized on render thread! This is likely a bug in the engine - please report it using the issue tracker.");
+        }
+    }
+
+    /**
+     * Stops the monitor registry.
+     * @apiNote Must be called by the runtime implementation of the engine AND from the render thread.
+     * @throws IllegalCallerException When this method is called externally.
+     * @throws IllegalStateException When this method is not called from the render thread.
+     */
+    @Override
+    public void __engine_stop(
+            @NotNull Object token
+    ) throws IllegalCallerException, IllegalStateException {
+        EngineTokens.verify(token);
+        if (!Objects.equals(Thread.currentThread().getName(), RENDER_THREAD_NAME)) {
+            throw new IllegalStateException("❗ Monitor registry is not being stopped on render thread! This is likely a bug in the engine - please report it using the issue tracker.");
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.akjostudios.engine.runtime.impl.render.backend;
 
 import com.akjostudios.engine.api.assets.texture.Texture;
+import com.akjostudios.engine.api.canvas.TextureDrawOptions;
 import com.akjostudios.engine.api.common.base.color.IColor;
 import com.akjostudios.engine.api.render.IRenderPosition;
 import com.akjostudios.engine.api.render.backend.RenderBackend;
@@ -8,22 +9,58 @@ import com.akjostudios.engine.api.render.command.RenderCommand;
 import com.akjostudios.engine.api.render.context.FrameInfo;
 import com.akjostudios.engine.api.render.context.RenderDevice;
 import com.akjostudios.engine.runtime.exceptions.RenderResourceNotReadyException;
+import com.akjostudios.engine.runtime.impl.jfr.RenderBatchEvent;
+import com.akjostudios.engine.runtime.impl.render.buffer.StreamingBuffer;
 import com.akjostudios.engine.runtime.impl.render.command.ClearCommand;
 import com.akjostudios.engine.runtime.impl.render.command.DrawTextureCommand;
 import com.akjostudios.engine.runtime.impl.render.renderers.SpriteRenderer;
 import com.akjostudios.engine.runtime.util.OpenGLUtil;
+import jdk.jfr.EventType;
+import lombok.Getter;
+import lombok.experimental.Accessors;
 import org.jetbrains.annotations.NotNull;
 import org.lwjgl.opengl.GL11;
 
+/**
+ * Collects the commands of a frame and executes them at its end, with the draws between two clears sorted by their sort key
+ * (see {@link com.akjostudios.engine.runtime.impl.render.command.RenderSortKey}) so draws that share a texture end up in one batch.
+ */
+@Accessors(fluent = true)
 public final class CanvasRenderBackend implements RenderBackend {
+    // Checked once per frame, so the recording event is only allocated while a recording captures it
+    private static final EventType BATCH_RECORDING = EventType.getEventType(RenderBatchEvent.class);
+
+    /**
+     * @param commands The amount of render commands of the frame.
+     * @param batchesBeforeSort The amount of batches the commands would have needed in submission order.
+     * @param batchesAfterSort The amount of batches the commands needed after sorting.
+     */
+    public record FrameStats(int commands, int batchesBeforeSort, int batchesAfterSort) {
+        public static final FrameStats NONE = new FrameStats(0, 0, 0);
+    }
+
     private RenderDevice device;
     private FrameInfo currentFrame;
 
+    private final RenderCommandSorter commands = new RenderCommandSorter();
+    @Getter private volatile FrameStats lastFrameStats = FrameStats.NONE;
+
     private IColor lastClearColor;
 
-    private final SpriteRenderer sprites = new SpriteRenderer();
+    private final SpriteRenderer sprites;
     private boolean spritesBegun = false;
 
+    public CanvasRenderBackend() {
+        this(StreamingBuffer.Strategy.PERSISTENT);
+    }
+
+    /**
+     * @param streaming How the sprite renderer streams its instances to the GPU.
+     */
+    public CanvasRenderBackend(@NotNull StreamingBuffer.Strategy streaming) {
+        this.sprites = new SpriteRenderer(streaming);
+    }
+
     @Override
     public void init(@NotNull RenderDevice device) {
         this.device = device;
@@ -35,11 +72,68 @@ public final class CanvasRenderBackend implements RenderBackend {
     }
 
     @Override
-    public void execute(@NotNull RenderCommand command) throws Exception {
-        if (OpenGLUtil.contextFail()) { return; }
+    public void execute(@NotNull RenderCommand command) {
+        commands.add(command);
+    }
+
+    @Override
+    public void endFrame() throws Exception {
+        try {
+            if (!OpenGLUtil.contextFail()) { executeSorted(); }
+        } finally {
+            commands.clear();
+            if (spritesBegun) {
+                sprites.end();
+                spritesBegun = false;
+            }
+        }
+        flushClearIfNeeded();
+        this.currentFrame = null;
+    }
+
+    @Override
+    public void dispose() {
+        sprites.dispose();
+    }
+
+    private void executeSorted() throws Exception {
+        int batchesBeforeSort = commands.countBatches(sprites.textureSlots());
+        commands.sort();
+        int batchesAfterSort = commands.countBatches(sprites.textureSlots());
+
+        for (int i = 0; i < commands.size(); i++) {
+            run(commands.get(i));
+        }
+
+        // The stats of a steady scene repeat every frame, so they are only replaced once they change
+        FrameStats stats = lastFrameStats;
+        if (stats.commands() != commands.size()
+                || stats.batchesBeforeSort() != batchesBeforeSort
+                || stats.batchesAfterSort() != batchesAfterSort) {
+            lastFrameStats = new FrameStats(commands.size(), batchesBeforeSort, batchesAfterSort);
+        }
+
+        if (!BATCH_RECORDING.isEnabled()) { return; }
+        RenderBatchEvent batchEvent = new RenderBatchEvent();
+        if (batchEvent.shouldCommit()) {
+            batchEvent.commands(commands.size())
+                    .batchesBeforeSort(batchesBeforeSort)
+                    .batchesAfterSort(batchesAfterSort)
+                    .commit();
+        }
+    }
+
+    private void run(@NotNull RenderCommand command) throws Exception {
         switch (command) {
-            case ClearCommand(IColor color) -> lastClearColor = color;
-            case DrawTextureCommand(Texture texture, IRenderPosition position) -> {
+            case ClearCommand(IColor color) -> {
+                // A clear is a barrier, the sprites batched before it must be drawn before it
+                if (spritesBegun) {
+                    sprites.end();
+                    spritesBegun = false;
+                }
+                lastClearColor = color;
+            }
+            case DrawTextureCommand(Texture texture, IRenderPosition position, int _, TextureDrawOptions options) -> {
                 flushClearIfNeeded();
 
                 if (!spritesBegun) {
@@ -51,27 +145,12 @@ public final class CanvasRenderBackend implements RenderBackend {
                     }
                 }
 
-                sprites.draw(texture, position);
+                if (spritesBegun) { sprites.draw(texture, position, options); }
             }
             default -> {}
         }
     }
 
-    @Override
-    public void endFrame() {
-        if (spritesBegun) {
-            sprites.end();
-            spritesBegun = false;
-        }
-        flushClearIfNeeded();
-        this.currentFrame = null;
-    }
-
-    @Override
-    public void dispose() {
-        sprites.dispose();
-    }
-
     private void flushClearIfNeeded() {
         if (lastClearColor == null) {
             return;
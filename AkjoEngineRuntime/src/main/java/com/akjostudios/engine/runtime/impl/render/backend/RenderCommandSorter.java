@@ -0,0 +1,140 @@
+package com.akjostudios.engine.runtime.impl.render.backend;
+
+import com.akjostudios.engine.api.render.command.RenderCommand;
+import com.akjostudios.engine.runtime.impl.render.command.SortableCommand;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Collects the render commands of a frame and sorts the sortable commands between two barriers by their sort key.
+ * The sort is a stable LSD radix sort over the key bytes that differ within a segment, so draws that only differ
+ * in texture and sequence need five passes instead of eight. Once the buffers have grown to the size of a frame, sorting does not allocate.
+ * @apiNote Not thread-safe, must only be used by the render thread.
+ */
+@SuppressWarnings("unused")
+public final class RenderCommandSorter {
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+
+    private RenderCommand[] commands = new RenderCommand[INITIAL_CAPACITY];
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private RenderCommand[] scratchCommands = new RenderCommand[INITIAL_CAPACITY];
+    private long[] scratchKeys = new long[INITIAL_CAPACITY];
+    private final int[] offsets = new int[RADIX];
+    private int[] batchTextures = new int[1];
+
+    private int size = 0;
+
+    public void add(@NotNull RenderCommand command) {
+        if (size == commands.length) { grow(); }
+        commands[size] = command;
+        keys[size] = command instanceof SortableCommand sortable ? sortable.sortKey(size) : 0L;
+        size++;
+    }
+
+    /**
+     * Sorts every segment of sortable commands between two barriers by the sort keys.
+     */
+    public void sort() {
+        int start = 0;
+        for (int i = 0; i <= size; i++) {
+            if (i == size || !(commands[i] instanceof SortableCommand)) {
+                sortRange(start, i);
+                start = i + 1;
+            }
+        }
+    }
+
+    /**
+     * @param textureSlots The amount of different textures one batch can bind.
+     * @return The amount of batches the commands need in their current order,
+     *         a new batch starts after every barrier and whenever a texture does not fit into the slots of the open batch anymore.
+     */
+    public int countBatches(int textureSlots) {
+        if (batchTextures.length < textureSlots) { batchTextures = new int[textureSlots]; }
+
+        int batches = 0;
+        int used = 0;
+        boolean open = false;
+        for (int i = 0; i < size; i++) {
+            if (!(commands[i] instanceof SortableCommand sortable)) {
+                open = false;
+                continue;
+            }
+            int texture = sortable.batchTexture();
+            if (open && isBound(texture, used)) { continue; }
+            if (!open || used >= textureSlots) {
+                batches++;
+                used = 0;
+                open = true;
+            }
+            batchTextures[used++] = texture;
+        }
+        return batches;
+    }
+
+    public int size() { return size; }
+
+    public @NotNull RenderCommand get(int index) {
+        if (index < 0 || index >= size) { throw new IndexOutOfBoundsException(index); }
+        return commands[index];
+    }
+
+    /**
+     * Removes all commands, so they can be collected.
+     */
+    public void clear() {
+        Arrays.fill(commands, 0, size, null);
+        size = 0;
+    }
+
+    private void sortRange(int from, int to) {
+        int count = to - from;
+        if (count < 2) { return; }
+
+        // Only the bytes that differ between any two keys of the segment need a pass
+        long first = keys[from];
+        long differing = 0L;
+        for (int i = from + 1; i < to; i++) { differing |= keys[i] ^ first; }
+
+        for (int shift = 0; shift < Long.SIZE; shift += RADIX_BITS) {
+            if (((differing >>> shift) & (RADIX - 1)) == 0L) { continue; }
+
+            Arrays.fill(offsets, 0);
+            for (int i = from; i < to; i++) { offsets[digit(keys[i], shift)]++; }
+            for (int digit = 0, position = from; digit < RADIX; digit++) {
+                int digitCount = offsets[digit];
+                offsets[digit] = position;
+                position += digitCount;
+            }
+            for (int i = from; i < to; i++) {
+                int position = offsets[digit(keys[i], shift)]++;
+                scratchKeys[position] = keys[i];
+                scratchCommands[position] = commands[i];
+            }
+
+            System.arraycopy(scratchKeys, from, keys, from, count);
+            System.arraycopy(scratchCommands, from, commands, from, count);
+        }
+        Arrays.fill(scratchCommands, from, to, null);
+    }
+
+    private void grow() {
+        int capacity = commands.length * 2;
+        commands = Arrays.copyOf(commands, capacity);
+        keys = Arrays.copyOf(keys, capacity);
+        scratchCommands = new RenderCommand[capacity];
+        scratchKeys = new long[capacity];
+    }
+
+    private boolean isBound(int texture, int used) {
+        for (int slot = 0; slot < used; slot++) {
+            if (batchTextures[slot] == texture) { return true; }
+        }
+        return false;
+    }
+
+    private static int digit(long key, int shift) { return (int) (key >>> shift) & (RADIX - 1); }
+}
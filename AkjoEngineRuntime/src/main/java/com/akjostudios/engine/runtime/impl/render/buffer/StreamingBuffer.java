@@ -0,0 +1,243 @@
+package com.akjostudios.engine.runtime.impl.render.buffer;
+
+import com.akjostudios.engine.api.common.Disposable;
+import com.akjostudios.engine.api.logging.Logger;
+import com.akjostudios.engine.runtime.util.OpenGLUtil;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.jetbrains.annotations.NotNull;
+import org.lwjgl.glfw.GLFW;
+import org.lwjgl.opengl.*;
+import org.lwjgl.system.MemoryUtil;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A vertex buffer that is rewritten several times per frame, without making the driver wait for draws that still read the old data.
+ * Every upload returns the offset its data ended up at, together with {@link #id()} that is where the vertex attributes have to point.
+ * The buffer grows whenever an upload does not fit into it.
+ * @apiNote Must only be used on the render thread with the context current that created it.
+ */
+@Accessors(fluent = true)
+@SuppressWarnings("unused")
+public final class StreamingBuffer implements Disposable {
+    /**
+     * How a streaming buffer avoids writing into data that is still in use by the GPU.
+     */
+    public enum Strategy {
+        /** Overwrites the start of one buffer with glBufferSubData, the driver synchronizes. Only meant as a baseline. */
+        SUB_DATA,
+        /** Appends to one buffer with unsynchronized mappings and orphans the whole buffer once it is full. */
+        ORPHAN,
+        /** Cycles through {@link #SECTIONS} buffers, so the next upload goes to the buffer that was drawn from the longest time ago. */
+        ROUND_ROBIN,
+        /**
+         * Keeps one buffer mapped persistently (ARB_buffer_storage) and appends to it as a ring of {@link #SECTIONS} sections,
+         * a fence per section makes sure the GPU is done with it before it is written again. Falls back to {@link #ORPHAN} when not supported.
+         */
+        PERSISTENT
+    }
+
+    public static final int SECTIONS = 3;
+    private static final int ALIGNMENT = 16;
+    private static final long FENCE_TIMEOUT_NS = 1_000_000L;
+
+    private static final int PERSISTENT_FLAGS = GL30.GL_MAP_WRITE_BIT | GL44.GL_MAP_PERSISTENT_BIT | GL44.GL_MAP_COHERENT_BIT;
+
+    @Getter private final Strategy strategy;
+
+    private final int[] buffers;
+    private final long[] fences = new long[SECTIONS];
+
+    private int current = 0;
+    private long sectionBytes;
+    private long cursor = 0;
+    private long mapped = 0L;
+    @Getter private long fenceWaits = 0;
+
+    /**
+     * @param requested The strategy to use, if it is not supported by the current context the buffer falls back to {@link Strategy#ORPHAN}.
+     * @param initialBytes The size the buffer starts with, for {@link Strategy#PERSISTENT} per section.
+     */
+    public StreamingBuffer(@NotNull Strategy requested, long initialBytes, @NotNull Logger log) {
+        OpenGLUtil.contextFail("create streaming buffer");
+
+        Strategy resolved = requested;
+        if (requested == Strategy.PERSISTENT && !supportsPersistentMapping()) {
+            log.warn("⚠️ Persistent buffer mapping (ARB_buffer_storage) is not supported - streaming vertex data with buffer orphaning instead!");
+            resolved = Strategy.ORPHAN;
+        }
+        this.strategy = resolved;
+        this.sectionBytes = align(Math.max(ALIGNMENT, initialBytes));
+        this.buffers = new int[strategy == Strategy.ROUND_ROBIN ? SECTIONS : 1];
+
+        for (int i = 0; i < buffers.length; i++) { buffers[i] = GL15.glGenBuffers(); }
+        allocate();
+    }
+
+    /**
+     * @return The OpenGL buffer the last upload went to, it is bound to GL_ARRAY_BUFFER right after the upload.
+     */
+    public int id() { return buffers[strategy == Strategy.ROUND_ROBIN ? current : 0]; }
+
+    /**
+     * Copies the remaining bytes of the given data into the buffer and leaves the buffer bound to GL_ARRAY_BUFFER.
+     * The position of the data is not changed.
+     * @return The offset of the data in the buffer.
+     */
+    public long upload(@NotNull ByteBuffer data) {
+        long bytes = data.remaining();
+        if (bytes == 0L) {
+            GL15.glBindBuffer(GL15.GL_ARRAY_BUFFER, id());
+            return 0L;
+        }
+        if (bytes > sectionBytes) { grow(bytes); }
+
+        return switch (strategy) {
+            case SUB_DATA -> uploadSubData(data);
+            case ORPHAN -> uploadOrphan(data, bytes);
+            case ROUND_ROBIN -> uploadRoundRobin(data);
+            case PERSISTENT -> uploadPersistent(data, bytes);
+        };
+    }
+
+    /**
+     * @return The size of the buffer in bytes, for {@link Strategy#PERSISTENT} and {@link Strategy#ROUND_ROBIN} of one section or buffer.
+     */
+    public long capacity() { return sectionBytes; }
+
+    @Override
+    public void dispose() {
+        if (GLFW.glfwGetCurrentContext() == 0L) { return; }
+        deleteFences();
+        if (mapped != 0L) {
+            GL15.glBindBuffer(GL15.GL_ARRAY_BUFFER, buffers[0]);
+            GL15.glUnmapBuffer(GL15.GL_ARRAY_BUFFER);
+            mapped = 0L;
+        }
+        GL15.glDeleteBuffers(buffers);
+    }
+
+    private long uploadSubData(@NotNull ByteBuffer data) {
+        GL15.glBindBuffer(GL15.GL_ARRAY_BUFFER, buffers[0]);
+        GL15.glBufferSubData(GL15.GL_ARRAY_BUFFER, 0L, data);
+        return 0L;
+    }
+
+    private long uploadOrphan(@NotNull ByteBuffer data, long bytes) {
+        GL15.glBindBuffer(GL15.GL_ARRAY_BUFFER, buffers[0]);
+        if (cursor + bytes > sectionBytes) {
+            // The driver hands out new storage, draws that are still queued keep reading the old one
+            GL15.glBufferData(GL15.GL_ARRAY_BUFFER, sectionBytes, GL15.GL_STREAM_DRAW);
+            cursor = 0;
+        }
+
+        long offset = cursor;
+        ByteBuffer target = GL30.glMapBufferRange(
+                GL15.GL_ARRAY_BUFFER, offset, bytes,
+                GL30.GL_MAP_WRITE_BIT | GL30.GL_MAP_UNSYNCHRONIZED_BIT | GL30.GL_MAP_INVALIDATE_RANGE_BIT
+        );
+        if (target != null) {
+            MemoryUtil.memCopy(MemoryUtil.memAddress(data), MemoryUtil.memAddress(target), bytes);
+        }
+        if (target == null || !GL15.glUnmapBuffer(GL15.GL_ARRAY_BUFFER)) {
+            // The mapping failed or its contents were lost, the copy through the driver is slower but always works
+            GL15.glBufferSubData(GL15.GL_ARRAY_BUFFER, offset, data);
+        }
+
+        cursor = align(offset + bytes);
+        return offset;
+    }
+
+    private long uploadRoundRobin(@NotNull ByteBuffer data) {
+        current = (current + 1) % buffers.length;
+        GL15.glBindBuffer(GL15.GL_ARRAY_BUFFER, buffers[current]);
+        GL15.glBufferSubData(GL15.GL_ARRAY_BUFFER, 0L, data);
+        return 0L;
+    }
+
+    private long uploadPersistent(@NotNull ByteBuffer data, long bytes) {
+        if (cursor + bytes > sectionBytes) {
+            fences[current] = GL32.glFenceSync(GL32.GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+            current = (current + 1) % SECTIONS;
+            awaitFence(current);
+            cursor = 0;
+        }
+
+        long offset = current * sectionBytes + cursor;
+        MemoryUtil.memCopy(MemoryUtil.memAddress(data), mapped + offset, bytes);
+        cursor = align(cursor + bytes);
+
+        GL15.glBindBuffer(GL15.GL_ARRAY_BUFFER, buffers[0]);
+        return offset;
+    }
+
+    private void awaitFence(int section) {
+        long fence = fences[section];
+        if (fence == 0L) { return; }
+
+        int result = GL32.glClientWaitSync(fence, 0, 0L);
+        if (result == GL32.GL_TIMEOUT_EXPIRED) {
+            fenceWaits++;
+            do {
+                result = GL32.glClientWaitSync(fence, GL32.GL_SYNC_FLUSH_COMMANDS_BIT, FENCE_TIMEOUT_NS);
+            } while (result == GL32.GL_TIMEOUT_EXPIRED);
+        }
+        GL32.glDeleteSync(fence);
+        fences[section] = 0L;
+    }
+
+    /**
+     * Replaces the storage with a larger one, data that is still read by queued draws stays valid until they are done.
+     */
+    private void grow(long bytes) {
+        sectionBytes = align(Math.max(bytes, sectionBytes * 2));
+        cursor = 0;
+        if (strategy == Strategy.PERSISTENT) {
+            // Storage of buffer_storage buffers is immutable, so the buffer itself has to be replaced
+            deleteFences();
+            GL15.glBindBuffer(GL15.GL_ARRAY_BUFFER, buffers[0]);
+            GL15.glUnmapBuffer(GL15.GL_ARRAY_BUFFER);
+            GL15.glDeleteBuffers(buffers[0]);
+            buffers[0] = GL15.glGenBuffers();
+            mapped = 0L;
+        }
+        allocate();
+    }
+
+    private void allocate() {
+        if (strategy == Strategy.PERSISTENT) {
+            long bytes = sectionBytes * SECTIONS;
+            GL15.glBindBuffer(GL15.GL_ARRAY_BUFFER, buffers[0]);
+            GL44.glBufferStorage(GL15.GL_ARRAY_BUFFER, bytes, PERSISTENT_FLAGS);
+            ByteBuffer target = GL30.glMapBufferRange(GL15.GL_ARRAY_BUFFER, 0L, bytes, PERSISTENT_FLAGS);
+            if (target == null) {
+                throw new IllegalStateException("❗ Failed to persistently map a streaming buffer of " + bytes + " bytes!");
+            }
+            mapped = MemoryUtil.memAddress(target);
+            current = 0;
+            return;
+        }
+
+        for (int buffer : buffers) {
+            GL15.glBindBuffer(GL15.GL_ARRAY_BUFFER, buffer);
+            GL15.glBufferData(GL15.GL_ARRAY_BUFFER, sectionBytes, GL15.GL_STREAM_DRAW);
+        }
+    }
+
+    private void deleteFences() {
+        for (int section = 0; section < SECTIONS; section++) {
+            if (fences[section] != 0L) {
+                GL32.glDeleteSync(fences[section]);
+                fences[section] = 0L;
+            }
+        }
+    }
+
+    private static boolean supportsPersistentMapping() {
+        GLCapabilities capabilities = GL.getCapabilities();
+        return capabilities.OpenGL44 || capabilities.GL_ARB_buffer_storage;
+    }
+
+    private static long align(long bytes) { return (bytes + ALIGNMENT - 1) & -ALIGNMENT; }
+}
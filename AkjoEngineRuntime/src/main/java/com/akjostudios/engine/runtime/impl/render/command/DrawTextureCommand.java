@@ -1,11 +1,30 @@
 package com.akjostudios.engine.runtime.impl.render.command;
 
 import com.akjostudios.engine.api.assets.texture.Texture;
+import com.akjostudios.engine.api.canvas.TextureDrawOptions;
 import com.akjostudios.engine.api.render.IRenderPosition;
-import com.akjostudios.engine.api.render.command.RenderCommand;
 import org.jetbrains.annotations.NotNull;
 
 public record DrawTextureCommand(
         @NotNull Texture texture,
-        @NotNull IRenderPosition position
-) implements RenderCommand {}
\ No newline at end of file
+        @NotNull IRenderPosition position,
+        int layer,
+        @NotNull TextureDrawOptions options
+) implements SortableCommand {
+    public DrawTextureCommand(@NotNull Texture texture, @NotNull IRenderPosition position) {
+        this(texture, position, 0);
+    }
+
+    public DrawTextureCommand(@NotNull Texture texture, @NotNull IRenderPosition position, int layer) {
+        this(texture, position, layer, TextureDrawOptions.DEFAULT);
+    }
+
+    @Override
+    public long sortKey(int sequence) {
+        // Sprites share one blend mode and shader for now
+        return RenderSortKey.of(layer, 0, 0, texture.id(), sequence);
+    }
+
+    @Override
+    public int batchTexture() { return texture.id(); }
+}
@@ -0,0 +1,52 @@
+package com.akjostudios.engine.runtime.impl.render.command;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Builds the 64-bit keys that the draws of a frame are sorted by, compared as unsigned values.
+ * From the most to the least significant bits: layer (16), blend mode (4), shader (8), texture (16) and sequence (20).
+ * Sorting by these keys keeps the layer order and groups the draws of a layer by their state,
+ * the sequence keeps draws with the same state in submission order.
+ * Sequences saturate at {@link #MAX_SEQUENCE} instead of wrapping, the draws past it share the last sequence
+ * and keep their submission order only because the sort is stable.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RenderSortKey {
+    private static final int SEQUENCE_BITS = 20;
+    private static final int TEXTURE_BITS = 16;
+    private static final int SHADER_BITS = 8;
+    private static final int BLEND_BITS = 4;
+
+    private static final int TEXTURE_SHIFT = SEQUENCE_BITS;
+    private static final int SHADER_SHIFT = TEXTURE_SHIFT + TEXTURE_BITS;
+    private static final int BLEND_SHIFT = SHADER_SHIFT + SHADER_BITS;
+    private static final int LAYER_SHIFT = BLEND_SHIFT + BLEND_BITS;
+
+    public static final int MIN_LAYER = Short.MIN_VALUE;
+    public static final int MAX_LAYER = Short.MAX_VALUE;
+    public static final int MAX_SEQUENCE = (1 << SEQUENCE_BITS) - 1;
+
+    /**
+     * @param layer The layer of the draw, clamped to the range of a short.
+     * @param blend The blend mode of the draw (only the lowest 4 bits are used).
+     * @param shader The shader of the draw (only the lowest 8 bits are used).
+     * @param texture The OpenGL ID of the texture of the draw (only the lowest 16 bits are used,
+     *                textures that share them are still drawn correctly but may end up in separate batches).
+     * @param sequence The position of the draw in the frame, clamped to {@link #MAX_SEQUENCE}.
+     */
+    public static long of(int layer, int blend, int shader, int texture, int sequence) {
+        long biasedLayer = Math.clamp(layer, MIN_LAYER, MAX_LAYER) - MIN_LAYER;
+        return biasedLayer << LAYER_SHIFT
+                | (long) (blend & mask(BLEND_BITS)) << BLEND_SHIFT
+                | (long) (shader & mask(SHADER_BITS)) << SHADER_SHIFT
+                | (long) (texture & mask(TEXTURE_BITS)) << TEXTURE_SHIFT
+                | Math.clamp(sequence, 0, MAX_SEQUENCE);
+    }
+
+    public static int layer(long key) { return (int) (key >>> LAYER_SHIFT) + MIN_LAYER; }
+
+    public static int texture(long key) { return (int) (key >>> TEXTURE_SHIFT) & mask(TEXTURE_BITS); }
+
+    private static int mask(int bits) { return (1 << bits) - 1; }
+}
@@ -0,0 +1,20 @@
+package com.akjostudios.engine.runtime.impl.render.command;
+
+import com.akjostudios.engine.api.render.command.RenderCommand;
+
+/**
+ * A render command that may be reordered with the other sortable commands between two barriers.
+ * Commands that are not sortable (like clears) are barriers, no command is moved across them.
+ */
+public interface SortableCommand extends RenderCommand {
+    /**
+     * @param sequence The position of the command in the frame.
+     * @return The key the command is sorted by (see {@link RenderSortKey}).
+     */
+    long sortKey(int sequence);
+
+    /**
+     * @return The OpenGL ID of the texture the command draws with, commands with different textures cannot share a batch.
+     */
+    int batchTexture();
+}
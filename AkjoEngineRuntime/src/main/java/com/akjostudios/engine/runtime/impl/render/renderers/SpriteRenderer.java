@@ -2,38 +2,63 @@ package com.akjostudios.engine.runtime.impl.render.renderers;
 
 import com.akjostudios.engine.api.assets.Shader;
 import com.akjostudios.engine.api.assets.texture.Texture;
+import com.akjostudios.engine.api.assets.texture.TextureRegion;
+import com.akjostudios.engine.api.canvas.TextureDrawOptions;
+import com.akjostudios.engine.api.common.base.color.IColor;
 import com.akjostudios.engine.api.render.IRenderPosition;
 import com.akjostudios.engine.api.render.context.FrameInfo;
 import com.akjostudios.engine.api.render.context.RenderDevice;
 import com.akjostudios.engine.res.ShaderResources;
 import com.akjostudios.engine.runtime.exceptions.RenderResourceNotReadyException;
+import com.akjostudios.engine.runtime.impl.render.buffer.StreamingBuffer;
+import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.joml.Matrix4f;
 import org.lwjgl.opengl.*;
 import org.lwjgl.system.MemoryUtil;
 
-import java.nio.FloatBuffer;
-
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Draws textured quads as instances of one shared unit quad, every sprite only uploads its own attributes
+ * (rect, texture region, rotation, texture slot and tint, {@link #INSTANCE_BYTES} bytes in total).
+ * A batch binds up to {@link #MAX_TEXTURE_SLOTS} textures to separate texture units and every instance carries the slot of its texture,
+ * so a batch is only flushed once all slots are taken or {@link #MAX_INSTANCES} sprites have been drawn.
+ * The instances are uploaded through a {@link StreamingBuffer}, which starts small and grows with the largest batch.
+ */
+@RequiredArgsConstructor
 public final class SpriteRenderer extends AbstractCanvasRenderer {
-    private static final int MAX_SPRITES = 2000;
+    private static final int INITIAL_INSTANCES = 1024;
+    private static final int MAX_INSTANCES = 1 << 20;
+    /** The size of the sampler array in sprite.frag, the minimum amount of fragment texture units OpenGL 3.3 guarantees. */
+    public static final int MAX_TEXTURE_SLOTS = 16;
 
-    private static final int VERTEX_FLOATS = 4;
-    private static final int VERTICES_PER_SPRITE = 4;
+    private static final int INSTANCE_FLOATS = 10;
+    private static final int INSTANCE_BYTES = INSTANCE_FLOATS * Float.BYTES + 4;
     private static final int INDICES_PER_SPRITE = 6;
 
     private static final String PROJECTION_UNIFORM = "uProjection";
-    private static final String TEXTURE_UNIFORM = "uTexture";
+    private static final String TEXTURES_UNIFORM = "uTextures";
+
+    private final StreamingBuffer.Strategy streaming;
 
     private Shader shader;
-    private int vao, vbo, ebo;
+    private int vao, quadVbo, ebo;
+    private StreamingBuffer instances;
 
     private final Matrix4f projection = new Matrix4f();
 
-    private FloatBuffer vertexBuffer;
+    private ByteBuffer instanceBuffer;
     private int spriteCount = 0;
 
-    private Texture currentTexture;
+    private int textureSlots = 1;
+    private Texture[] slotTextures = new Texture[0];
+    private int[] slotIds = new int[0];
+    private int[] slotUnits = new int[0];
+    private int usedSlots = 0;
 
     @Override
     protected void init(@NotNull RenderDevice device, @NotNull FrameInfo info) throws Exception {
@@ -44,40 +69,39 @@ public final class SpriteRenderer extends AbstractCanvasRenderer {
             );
         }
 
-        int maxVertices = MAX_SPRITES * VERTICES_PER_SPRITE * VERTEX_FLOATS;
-        vertexBuffer = MemoryUtil.memAllocFloat(maxVertices);
+        textureSlots = Math.clamp(GL11.glGetInteger(GL20.GL_MAX_TEXTURE_IMAGE_UNITS), 1, MAX_TEXTURE_SLOTS);
+        slotTextures = new Texture[textureSlots];
+        slotIds = new int[textureSlots];
+        slotUnits = new int[textureSlots];
+        for (int slot = 0; slot < textureSlots; slot++) { slotUnits[slot] = slot; }
+
+        instanceBuffer = MemoryUtil.memAlloc(INITIAL_INSTANCES * INSTANCE_BYTES);
 
         vao = GL30.glGenVertexArrays();
-        vbo = GL15.glGenBuffers();
+        quadVbo = GL15.glGenBuffers();
         ebo = GL15.glGenBuffers();
 
         GL30.glBindVertexArray(vao);
 
-        GL15.glBindBuffer(GL15.GL_ARRAY_BUFFER, vbo);
-        GL15.glBufferData(
-                GL15.GL_ARRAY_BUFFER,
-                (long) maxVertices * Float.BYTES,
-                GL15.GL_DYNAMIC_DRAW
-        );
+        GL15.glBindBuffer(GL15.GL_ARRAY_BUFFER, quadVbo);
+        GL15.glBufferData(GL15.GL_ARRAY_BUFFER, buildQuad(), GL15.GL_STATIC_DRAW);
+        GL20.glVertexAttribPointer(0, 2, GL11.GL_FLOAT, false, 2 * Float.BYTES, 0L);
+        GL20.glEnableVertexAttribArray(0);
 
-        int[] indices = buildIndices();
         GL15.glBindBuffer(GL15.GL_ELEMENT_ARRAY_BUFFER, ebo);
-        GL15.glBufferData(
-                GL15.GL_ELEMENT_ARRAY_BUFFER,
-                indices,
-                GL15.GL_STATIC_DRAW
-        );
-
-        int stride = VERTEX_FLOATS * Float.BYTES;
-
-        GL20.glVertexAttribPointer(0, 2, GL11.GL_FLOAT, false, stride, 0L);
-        GL20.glEnableVertexAttribArray(0);
+        GL15.glBufferData(GL15.GL_ELEMENT_ARRAY_BUFFER, buildIndices(), GL15.GL_STATIC_DRAW);
 
-        GL20.glVertexAttribPointer(1, 2, GL11.GL_FLOAT, false, stride, 2L * Float.BYTES);
-        GL20.glEnableVertexAttribArray(1);
+        // The instance attributes are pointed at the streaming buffer on every flush, as the offset of the data changes
+        for (int index = 1; index <= 4; index++) {
+            GL20.glEnableVertexAttribArray(index);
+            GL33.glVertexAttribDivisor(index, 1);
+        }
 
         GL30.glBindVertexArray(0);
 
+        instances = new StreamingBuffer(streaming, (long) INITIAL_INSTANCES * INSTANCE_BYTES, device.log());
+        device.log().debug("Sprite renderer streams its instances with strategy {}", instances.strategy());
+
         GL11.glEnable(GL11.GL_BLEND);
         GL11.glBlendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
     }
@@ -85,8 +109,8 @@ public final class SpriteRenderer extends AbstractCanvasRenderer {
     @Override
     protected void onBegin(@NotNull RenderDevice device, @NotNull FrameInfo info) {
         spriteCount = 0;
-        currentTexture = null;
-        vertexBuffer.clear();
+        clearSlots();
+        instanceBuffer.clear();
 
         projection.identity().ortho(
                 0F, (float) info.resolution().width(),
@@ -96,34 +120,52 @@ public final class SpriteRenderer extends AbstractCanvasRenderer {
 
         shader.bind();
         shader.setUniform(PROJECTION_UNIFORM, projection);
-        shader.setUniform(TEXTURE_UNIFORM, 0);
+        shader.setUniform(TEXTURES_UNIFORM, slotUnits);
     }
 
     public void draw(@NotNull Texture texture, @NotNull IRenderPosition position) {
-        if (currentTexture != null && currentTexture != texture) {
-            flush();
-        }
-        currentTexture = texture;
+        draw(texture, position, TextureDrawOptions.DEFAULT);
+    }
 
-        if (spriteCount >= MAX_SPRITES) {
+    public void draw(@NotNull Texture texture, @NotNull IRenderPosition position, @NotNull TextureDrawOptions options) {
+        if (spriteCount >= MAX_INSTANCES) {
             flush();
         }
+        float slot = slotOf(texture);
+        ensureCapacity(spriteCount + 1);
+
+        TextureRegion region = texture.region();
+        IColor tint = options.tint();
+
+        // The size keeps the sign of the scale, the shader mirrors the quad around the center of the unsigned rect
+        instanceBuffer.putFloat(position.x())
+                .putFloat(position.y())
+                .putFloat(texture.resolution().width() * options.scaleX())
+                .putFloat(texture.resolution().height() * options.scaleY())
+                .putFloat(region.u0())
+                .putFloat(region.v0())
+                .putFloat(region.u1())
+                .putFloat(region.v1())
+                .putFloat(options.rotation())
+                .putFloat(slot)
+                .put(toByte(tint.red()))
+                .put(toByte(tint.green()))
+                .put(toByte(tint.blue()))
+                .put(toByte(tint.alpha()));
 
-        float x1 = position.x();
-        float y1 = position.y();
-
-        float width = texture.resolution().width();
-        float height = texture.resolution().height();
-
-        float x2 = x1 + width;
-        float y2 = y1 + height;
+        spriteCount++;
+    }
 
-        putVertex(x1, y2, 0f, 1f); // BL
-        putVertex(x2, y1, 1f, 0f); // TR
-        putVertex(x1, y1, 0f, 0f); // TL
-        putVertex(x2, y2, 1f, 1f); // BR
+    /**
+     * @return The amount of textures one batch can bind (1 until the renderer has been initialized).
+     */
+    public int textureSlots() { return textureSlots; }
 
-        spriteCount++;
+    /**
+     * @return The strategy the instances are actually streamed with, null until the renderer has been initialized.
+     */
+    public @Nullable StreamingBuffer.Strategy streamingStrategy() {
+        return instances == null ? null : instances.strategy();
     }
 
     @Override
@@ -136,13 +178,18 @@ public final class SpriteRenderer extends AbstractCanvasRenderer {
     protected void onDispose() {
         flush();
 
-        if (vertexBuffer != null) {
-            MemoryUtil.memFree(vertexBuffer);
-            vertexBuffer = null;
+        if (instanceBuffer != null) {
+            MemoryUtil.memFree(instanceBuffer);
+            instanceBuffer = null;
+        }
+
+        if (instances != null) {
+            instances.dispose();
+            instances = null;
         }
 
         GL30.glDeleteVertexArrays(vao);
-        GL15.glDeleteBuffers(vbo);
+        GL15.glDeleteBuffers(quadVbo);
         GL15.glDeleteBuffers(ebo);
     }
 
@@ -151,42 +198,83 @@ public final class SpriteRenderer extends AbstractCanvasRenderer {
             return;
         }
 
+        for (int slot = 0; slot < usedSlots; slot++) {
+            GL13.glActiveTexture(GL13.GL_TEXTURE0 + slot);
+            slotTextures[slot].bind();
+        }
         GL13.glActiveTexture(GL13.GL_TEXTURE0);
-        currentTexture.bind();
 
-        vertexBuffer.flip();
+        instanceBuffer.flip();
 
         GL30.glBindVertexArray(vao);
-        GL15.glBindBuffer(GL15.GL_ARRAY_BUFFER, vbo);
-        GL15.glBufferSubData(GL15.GL_ARRAY_BUFFER, 0, vertexBuffer);
+        pointInstanceAttributes(instances.upload(instanceBuffer));
 
-        int indexCount = spriteCount * INDICES_PER_SPRITE;
-        GL11.glDrawElements(GL11.GL_TRIANGLES, indexCount, GL11.GL_UNSIGNED_INT, 0L);
+        GL31.glDrawElementsInstanced(GL11.GL_TRIANGLES, INDICES_PER_SPRITE, GL11.GL_UNSIGNED_INT, 0L, spriteCount);
 
         GL30.glBindVertexArray(0);
 
-        vertexBuffer.clear();
+        instanceBuffer.clear();
         spriteCount = 0;
+        clearSlots();
     }
 
-    private void putVertex(float x, float y, float u, float v) {
-        vertexBuffer.put(x).put(y).put(u).put(v);
+    /**
+     * Grows the instance buffer to at least the given amount of instances, the streaming buffer follows on the next flush.
+     */
+    private void ensureCapacity(int instances) {
+        if (instances * INSTANCE_BYTES <= instanceBuffer.capacity()) { return; }
+        int capacity = Math.min(MAX_INSTANCES, Math.max(instances, instanceBuffer.capacity() / INSTANCE_BYTES * 2));
+        instanceBuffer = MemoryUtil.memRealloc(instanceBuffer, capacity * INSTANCE_BYTES);
+    }
+
+    /**
+     * @return The slot the given texture is bound to in the current batch, flushing the batch first if all slots are taken.
+     */
+    private int slotOf(@NotNull Texture texture) {
+        // Textures packed into the same atlas page share their OpenGL texture, so they share a slot
+        int id = texture.id();
+        for (int slot = 0; slot < usedSlots; slot++) {
+            if (slotIds[slot] == id) { return slot; }
+        }
+        if (usedSlots == textureSlots) { flush(); }
+
+        slotTextures[usedSlots] = texture;
+        slotIds[usedSlots] = id;
+        return usedSlots++;
+    }
+
+    private void clearSlots() {
+        Arrays.fill(slotTextures, 0, usedSlots, null);
+        usedSlots = 0;
+    }
+
+    /**
+     * Points the instance attributes of the bound VAO at the instances that start at the given offset of the bound buffer.
+     */
+    private static void pointInstanceAttributes(long base) {
+        GL20.glVertexAttribPointer(1, 4, GL11.GL_FLOAT, false, INSTANCE_BYTES, base); // x, y, width, height
+        GL20.glVertexAttribPointer(2, 4, GL11.GL_FLOAT, false, INSTANCE_BYTES, base + 4L * Float.BYTES); // u0, v0, u1, v1
+        GL20.glVertexAttribPointer(3, 2, GL11.GL_FLOAT, false, INSTANCE_BYTES, base + 8L * Float.BYTES); // rotation, texture slot
+        GL20.glVertexAttribPointer(4, 4, GL11.GL_UNSIGNED_BYTE, true, INSTANCE_BYTES, base + 10L * Float.BYTES); // tint
+    }
+
+    private static byte toByte(float channel) { return (byte) Math.round(Math.clamp(channel, 0F, 1F) * 255F); }
+
+    /**
+     * @return The corners of the shared quad in the order bottom left, top right, top left, bottom right.
+     */
+    @Contract(pure = true)
+    private static float@NotNull[] buildQuad() {
+        return new float[] {
+                0F, 1F,
+                1F, 0F,
+                0F, 0F,
+                1F, 1F
+        };
     }
 
     @Contract(pure = true)
     private static int@NotNull[] buildIndices() {
-        int[] indices = new int[MAX_SPRITES * INDICES_PER_SPRITE];
-        int offset = 0;
-        for (int i = 0; i < MAX_SPRITES; i++) {
-            int base = i * INDICES_PER_SPRITE;
-            indices[base] = offset + 2;
-            indices[base + 1] = offset + 1;
-            indices[base + 2] = offset;
-            indices[base + 3] = offset;
-            indices[base + 4] = offset + 1;
-            indices[base + 5] = offset + 3;
-            offset += 4;
-        }
-        return indices;
+        return new int[] { 2, 1, 0, 0, 1, 3 };
     }
 }
\ No newline at end of file
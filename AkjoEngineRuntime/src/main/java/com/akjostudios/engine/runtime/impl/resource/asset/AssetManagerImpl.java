@@ -4,6 +4,7 @@ import com.akjostudios.engine.api.assets.Shader;
 import com.akjostudios.engine.api.assets.Text;
 import com.akjostudios.engine.api.assets.texture.Texture;
 import com.akjostudios.engine.api.common.Disposable;
+import com.akjostudios.engine.api.common.mailbox.Mailbox;
 import com.akjostudios.engine.api.resource.asset.Asset;
 import com.akjostudios.engine.api.resource.asset.AssetHandle;
 import com.akjostudios.engine.api.resource.asset.AssetLoader;
@@ -13,9 +14,13 @@ import com.akjostudios.engine.api.resource.file.ResourcePath;
 import com.akjostudios.engine.api.scheduling.Scheduler;
 import com.akjostudios.engine.api.scheduling.SchedulerLane;
 import com.akjostudios.engine.res.EngineResources;
+import com.akjostudios.engine.runtime.impl.assets.shader.HeadlessShaderLoader;
 import com.akjostudios.engine.runtime.impl.assets.shader.ShaderLoader;
 import com.akjostudios.engine.runtime.impl.assets.text.TextLoader;
+import com.akjostudios.engine.runtime.impl.assets.texture.HeadlessTextureLoader;
 import com.akjostudios.engine.runtime.impl.assets.texture.TextureLoader;
+import com.akjostudios.engine.runtime.impl.assets.texture.atlas.TextureAtlas;
+import com.akjostudios.engine.runtime.impl.jfr.AssetLoadEvent;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -37,6 +42,8 @@ public final class AssetManagerImpl implements AssetManager, Disposable {
 
     private final Map<Key, CompletableFuture<? extends Asset>> inFlight = new ConcurrentHashMap<>();
 
+    private TextureAtlas atlas;
+
     public AssetManagerImpl(
             @NotNull FileSystem fs,
             @NotNull Scheduler scheduler,
@@ -55,13 +62,41 @@ public final class AssetManagerImpl implements AssetManager, Disposable {
     }
 
     public @NotNull AssetManagerImpl setup() {
+        return setup(false);
+    }
+
+    /**
+     * @param headless If textures and shaders should be loaded as placeholders that do not need a GPU.
+     */
+    public @NotNull AssetManagerImpl setup(boolean headless) {
         register(Text.class, new TextLoader(), SchedulerLane.LOGIC);
-        register(Texture.class, new TextureLoader(), SchedulerLane.RENDER);
-        register(Shader.class, new ShaderLoader(), SchedulerLane.RENDER);
+        if (headless) {
+            register(Texture.class, new HeadlessTextureLoader(), SchedulerLane.LOGIC);
+            register(Shader.class, new HeadlessShaderLoader(), SchedulerLane.LOGIC);
+        } else {
+            this.atlas = new TextureAtlas();
+            register(Texture.class, new TextureLoader(atlas), SchedulerLane.RENDER);
+            register(Shader.class, new ShaderLoader(), SchedulerLane.RENDER);
+        }
 
         return this;
     }
 
+    /**
+     * @return The amount of loaded assets in the cache.
+     */
+    public int cachedCount() { return cache.size(); }
+
+    /**
+     * @return The amount of assets that are currently being loaded.
+     */
+    public int inFlightCount() { return inFlight.size(); }
+
+    /**
+     * @return The amount of texture atlas pages that small textures have been packed into.
+     */
+    public int atlasPageCount() { return atlas != null ? atlas.pageCount() : 0; }
+
     private <T extends Asset, D> void register(@NotNull Class<T> type, @NotNull AssetLoader<T, D> loader, @NotNull SchedulerLane lane) {
         loaders.put(type, loader);
         laneMap.put(type, lane);
@@ -88,10 +123,21 @@ public final class AssetManagerImpl implements AssetManager, Disposable {
             CompletableFuture<T> future = new CompletableFuture<>();
 
             executor.submit(() -> {
+                AssetLoadEvent readEvent = new AssetLoadEvent();
+                readEvent.begin();
                 try {
-                    Object intermediate = loader.loadRaw(path, fs);
+                    Object intermediate;
+                    try {
+                        intermediate = loader.loadRaw(path, fs);
+                    } catch (Throwable t) {
+                        commitLoadEvent(readEvent, AssetLoadEvent.STAGE_READ, key, false);
+                        throw t;
+                    }
+                    commitLoadEvent(readEvent, AssetLoadEvent.STAGE_READ, key, true);
 
                     scheduler.runImmediately(() -> {
+                        AssetLoadEvent createEvent = new AssetLoadEvent();
+                        createEvent.begin();
                         try {
                             T asset = loader.createAsset(path, intermediate);
                             cache.put(key, asset);
@@ -100,8 +146,9 @@ public final class AssetManagerImpl implements AssetManager, Disposable {
                             future.completeExceptionally(t);
                         } finally {
                             inFlight.remove(key);
+                            commitLoadEvent(createEvent, AssetLoadEvent.STAGE_CREATE, key, !future.isCompletedExceptionally());
                         }
-                    }, laneMap.getOrDefault(type, SchedulerLane.RENDER));
+                    }, laneMap.getOrDefault(type, SchedulerLane.RENDER), Mailbox.Priority.BULK);
                 } catch (Throwable t) {
                     try {
                         future.completeExceptionally(t);
@@ -115,6 +162,20 @@ public final class AssetManagerImpl implements AssetManager, Disposable {
         });
     }
 
+    private static void commitLoadEvent(
+            @NotNull AssetLoadEvent event,
+            @NotNull String stage,
+            @NotNull Key key,
+            boolean succeeded
+    ) {
+        if (!event.shouldCommit()) { return; }
+        event.stage(stage)
+                .path(key.path().toString())
+                .assetType(key.type())
+                .succeeded(succeeded)
+                .commit();
+    }
+
     @Override
     public <T extends Asset> @NotNull CompletableFuture<T> loadAsync(@NotNull EngineResources<T> resource) {
         return loadAsync(resource.path(), resource.type());
@@ -159,7 +220,7 @@ public final class AssetManagerImpl implements AssetManager, Disposable {
     public <T extends Asset> void unload(@NotNull ResourcePath path, @NotNull Class<T> type) {
         Asset asset = cache.remove(new Key(path, type));
         if (asset != null) {
-            scheduler.render().immediate(asset::dispose);
+            scheduler.render().immediate(asset::dispose, Mailbox.Priority.BULK);
         }
     }
 
@@ -168,5 +229,6 @@ public final class AssetManagerImpl implements AssetManager, Disposable {
         executor.shutdown();
         cache.values().forEach(Asset::dispose);
         cache.clear();
+        if (atlas != null) { atlas.dispose(); }
     }
 }
\ No newline at end of file
@@ -1,79 +1,68 @@
 package com.akjostudios.engine.runtime.impl.scheduling;
 
 import com.akjostudios.engine.api.common.cancel.Cancellable;
+import com.akjostudios.engine.api.common.cancel.FlagCancellable;
 import com.akjostudios.engine.api.common.mailbox.Mailbox;
 import com.akjostudios.engine.api.internal.token.EngineTokens;
 import com.akjostudios.engine.api.scheduling.FrameScheduler;
-import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.Arrays;
 
-@RequiredArgsConstructor
 public final class FrameSchedulerImpl implements FrameScheduler {
-    private static final class Task implements Cancellable {
-        private final Runnable runnable;
-        private final AtomicBoolean cancelled = new AtomicBoolean(false);
-        private long remainingFrames;
-        private final boolean recurring;
-
-        Task(@NotNull Runnable runnable, long frames, boolean recurring) {
-            this.runnable = runnable;
-            this.remainingFrames = frames;
-            this.recurring = recurring;
-        }
+    private final TimingWheel wheel = new TimingWheel();
+    private final Mailbox mailbox;
+    private final TimingWheel.Dispatcher dispatcher;
 
-        @Override
-        public boolean cancel() { return cancelled.compareAndSet(false, true); }
+    private final Object postFrameTasksLock = new Object();
+    private volatile Runnable[] postFrameTasks = new Runnable[0];
 
-        @Override
-        public boolean isCancelled() { return cancelled.get(); }
+    public FrameSchedulerImpl(@NotNull Mailbox mailbox) {
+        this.mailbox = mailbox;
+        this.dispatcher = mailbox::postOrThrow;
     }
 
-    private final List<Task> tasks = new CopyOnWriteArrayList<>();
-    private final AtomicLong frame = new AtomicLong(0);
-
-    private final Mailbox mailbox;
-
-    private final List<Runnable> postFrameTasks = new CopyOnWriteArrayList<>();
-
     @Override
     public @NotNull Cancellable everyFrame(@NotNull Runnable task) {
-        Task t = new Task(task, 1, true);
-        tasks.add(t);
-        return t;
+        TimingWheel.Task scheduled = wheel.schedule(task, 1, true);
+        mailbox.wake();
+        return scheduled;
     }
 
     @Override
     public @NotNull Cancellable afterFrames(int frames, @NotNull Runnable task) {
-        Task t = new Task(task, Math.max(0, frames), false);
-        tasks.add(t);
-        return t;
+        TimingWheel.Task scheduled = wheel.schedule(task, frames, false);
+        mailbox.wake();
+        return scheduled;
     }
 
+    /**
+     * Normal tasks go through the wheel like {@link #immediate(Runnable)}, urgent and bulk tasks are posted to the mailbox directly.
+     */
     @Override
-    public long currentFrame() { return frame.get(); }
+    public @NotNull Cancellable immediate(@NotNull Runnable task, @NotNull Mailbox.Priority priority) {
+        if (priority == Mailbox.Priority.NORMAL) { return immediate(task); }
+        FlagCancellable cancellable = new FlagCancellable();
+        mailbox.postOrThrow(() -> cancellable.tryRun(task), priority);
+        return cancellable;
+    }
 
-    public void onFrame() {
-        frame.incrementAndGet();
+    @Override
+    public long currentFrame() { return wheel.time(); }
 
-        for (Task task : tasks) {
-            if (task.isCancelled()) { continue; }
-            if (task.remainingFrames > 0) { task.remainingFrames--; }
-            if (task.remainingFrames == 0) {
-                mailbox.postOrThrow(() -> {
-                    if (!task.isCancelled()) { task.runnable.run(); }
-                    if (task.recurring) { task.remainingFrames = 1; }
-                    else { task.cancel(); }
-                });
-            }
-        }
+    /**
+     * @return If there is no work that needs another frame, so a loop without a target rate can wait for the next posted task.
+     * @apiNote Must only be called by the thread that runs the frames.
+     */
+    public boolean isIdle() {
+        return wheel.isEmpty() && postFrameTasks.length == 0;
+    }
 
-        mailbox.postAll(postFrameTasks);
-        tasks.removeIf(Task::isCancelled);
+    public void onFrame() {
+        wheel.advance(dispatcher);
+        for (Runnable task : postFrameTasks) {
+            mailbox.postOrThrow(task);
+        }
     }
 
     /**
@@ -87,6 +76,11 @@ public final class FrameSchedulerImpl implements FrameScheduler {
             @NotNull Runnable task
     ) throws IllegalCallerException {
         EngineTokens.verify(token);
-        postFrameTasks.add(task);
+        synchronized (postFrameTasksLock) {
+            Runnable[] next = Arrays.copyOf(postFrameTasks, postFrameTasks.length + 1);
+            next[next.length - 1] = task;
+            postFrameTasks = next;
+        }
+        mailbox.wake();
     }
-}
\ No newline at end of file
+}
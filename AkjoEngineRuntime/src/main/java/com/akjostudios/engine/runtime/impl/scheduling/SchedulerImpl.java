@@ -75,6 +75,15 @@ public final class SchedulerImpl implements Scheduler {
         };
     }
 
+    @Override
+    public @NotNull Cancellable runImmediately(@NotNull Runnable task, @NotNull SchedulerLane lane, @NotNull Mailbox.Priority priority) {
+        return switch (lane) {
+            case RENDER -> renderScheduler.immediate(task, priority);
+            case LOGIC -> logicScheduler.immediate(task, priority);
+            case AUDIO -> audioScheduler.immediate(task, priority);
+        };
+    }
+
     @Override
     public boolean isScheduled(@NotNull Cancellable task) {
         return (task instanceof FlagCancellable cancellable) && !cancellable.isCancelled();
@@ -1,74 +1,54 @@
 package com.akjostudios.engine.runtime.impl.scheduling;
 
 import com.akjostudios.engine.api.common.cancel.Cancellable;
+import com.akjostudios.engine.api.common.cancel.FlagCancellable;
 import com.akjostudios.engine.api.common.mailbox.Mailbox;
 import com.akjostudios.engine.api.scheduling.TickScheduler;
-import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicLong;
-
-@RequiredArgsConstructor
 public final class TickSchedulerImpl implements TickScheduler {
-    private static final class Task implements Cancellable {
-        private final Runnable runnable;
-        private final AtomicBoolean cancelled = new AtomicBoolean(false);
-        private long remainingTicks;
-        private final boolean recurring;
-
-        Task(@NotNull Runnable runnable, long ticks, boolean recurring) {
-            this.runnable = runnable;
-            this.remainingTicks = ticks;
-            this.recurring = recurring;
-        }
-
-        @Override
-        public boolean cancel() { return cancelled.compareAndSet(false, true); }
+    private final TimingWheel wheel = new TimingWheel();
+    private final Mailbox logicMailbox;
+    private final TimingWheel.Dispatcher dispatcher;
 
-        @Override
-        public boolean isCancelled() { return cancelled.get(); }
+    public TickSchedulerImpl(@NotNull Mailbox logicMailbox) {
+        this.logicMailbox = logicMailbox;
+        this.dispatcher = logicMailbox::postOrThrow;
     }
 
-    private final List<Task> tasks = new CopyOnWriteArrayList<>();
-    private final AtomicLong tick = new AtomicLong(0);
-
-    private final Mailbox logicMailbox;
-
     @Override
     public @NotNull Cancellable everyTick(@NotNull Runnable task) {
-        Task t = new Task(task, 1, true);
-        tasks.add(t);
-        return t;
+        return wheel.schedule(task, 1, true);
     }
 
     @Override
     public @NotNull Cancellable afterTicks(int ticks, @NotNull Runnable task) {
-        Task t = new Task(task, Math.max(0, ticks), false);
-        tasks.add(t);
-        return t;
+        return wheel.schedule(task, ticks, false);
     }
 
+    /**
+     * Normal tasks go through the wheel like {@link #immediate(Runnable)}, urgent and bulk tasks are posted to the mailbox directly.
+     */
     @Override
-    public long currentTick() { return tick.get(); }
+    public @NotNull Cancellable immediate(@NotNull Runnable task, @NotNull Mailbox.Priority priority) {
+        if (priority == Mailbox.Priority.NORMAL) { return immediate(task); }
+        FlagCancellable cancellable = new FlagCancellable();
+        logicMailbox.postOrThrow(() -> cancellable.tryRun(task), priority);
+        return cancellable;
+    }
 
-    public void onTick() {
-        tick.incrementAndGet();
+    @Override
+    public long currentTick() { return wheel.time(); }
 
-        for (Task task : tasks) {
-            if (task.isCancelled()) { continue; }
-            if (task.remainingTicks > 0) { task.remainingTicks--; }
-            if (task.remainingTicks == 0) {
-                logicMailbox.postOrThrow(() -> {
-                    if (!task.isCancelled()) { task.runnable.run(); }
-                    if (task.recurring) { task.remainingTicks = 1; }
-                    else { task.cancel(); }
-                });
-            }
-        }
+    public void onTick() {
+        wheel.advance(dispatcher);
+    }
 
-        tasks.removeIf(Task::isCancelled);
+    /**
+     * Shuffles the order of tasks that are due on the same tick with the given seed (0 keeps the scheduling order).
+     * @apiNote Must be called before the logic thread starts ticking.
+     */
+    public void seedTieOrder(long seed) {
+        wheel.shuffleTies(seed);
     }
-}
\ No newline at end of file
+}
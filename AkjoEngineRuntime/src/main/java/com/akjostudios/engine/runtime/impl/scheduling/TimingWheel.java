@@ -0,0 +1,244 @@
+package com.akjostudios.engine.runtime.impl.scheduling;
+
+import com.akjostudios.engine.api.common.cancel.Cancellable;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A hierarchical timing wheel that counts in ticks or frames.
+ * Scheduling is O(1) from any thread, advancing only touches the bucket that is due (plus an occasional cascade).
+ * Cancelled tasks are not searched for, they are unlinked once their bucket comes up.
+ * Tasks are their own dispatch record, so dispatching a due (or recurring) task allocates nothing.
+ * @apiNote {@link #advance(Dispatcher)} must only be called by the thread that owns the wheel.
+ */
+@SuppressWarnings("unused")
+public final class TimingWheel {
+    public static final class Task implements Cancellable, Runnable {
+        private final Runnable runnable;
+        private final boolean recurring;
+        private final long id;
+        private final AtomicBoolean cancelled = new AtomicBoolean(false);
+
+        private long deadline;
+        private Task next;
+
+        private Task(@NotNull Runnable runnable, boolean recurring, long id) {
+            this.runnable = runnable;
+            this.recurring = recurring;
+            this.id = id;
+        }
+
+        public @NotNull Runnable runnable() { return runnable; }
+
+        public boolean recurring() { return recurring; }
+
+        @Override
+        public boolean cancel() { return cancelled.compareAndSet(false, true); }
+
+        @Override
+        public boolean isCancelled() { return cancelled.get(); }
+
+        /**
+         * Runs the scheduled runnable unless the task has been cancelled in the meantime.
+         * One-shot tasks are marked as done afterward.
+         */
+        @Override
+        public void run() {
+            if (isCancelled()) { return; }
+            try {
+                runnable.run();
+            } finally {
+                if (!recurring) { cancel(); }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface Dispatcher {
+        void dispatch(@NotNull Task task);
+    }
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_SPAN = 1L << (SLOT_BITS * LEVELS);
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final Task[] heads = new Task[LEVELS * SLOTS];
+    private final Task[] tails = new Task[LEVELS * SLOTS];
+
+    private final ConcurrentLinkedQueue<Task> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicLong time = new AtomicLong(0);
+    private final AtomicLong sequence = new AtomicLong(0);
+
+    private int size = 0;
+
+    private long tieSeed = 0L;
+    private Task[] due = new Task[0];
+
+    /**
+     * Schedules the given task to be dispatched after the given amount of ticks (at least one).
+     * @return The task which can be used to cancel the scheduled run.
+     */
+    public @NotNull Task schedule(@NotNull Runnable runnable, long delay, boolean recurring) {
+        Task task = new Task(runnable, recurring, sequence.getAndIncrement());
+        task.deadline = time.get() + Math.max(1L, delay);
+        pending.add(task);
+        return task;
+    }
+
+    /**
+     * @return The amount of ticks this wheel has advanced.
+     */
+    public long time() { return time.get(); }
+
+    /**
+     * @return The amount of tasks that are currently linked into the wheel (including lazily cancelled ones).
+     */
+    public int size() { return size; }
+
+    /**
+     * @return If no task is linked into the wheel or waiting to be linked (including lazily cancelled ones).
+     * @apiNote Must only be called by the thread that owns the wheel.
+     */
+    public boolean isEmpty() { return size == 0 && pending.isEmpty(); }
+
+    /**
+     * Dispatches tasks that are due on the same tick in an order derived from the given seed instead of the scheduling order.
+     * The due tasks are sorted by the order they were scheduled in and then shuffled with a generator seeded from the seed and the tick,
+     * so the order of a tick does not depend on the ticks before it or on how the tasks moved through the wheel.
+     * A seeded run replays exactly as long as the tasks are scheduled in the same order, which holds when they are scheduled
+     * from the thread that owns the wheel. Tasks that are posted to a mailbox instead are not covered by the seed.
+     * @param seed The seed of the order or 0 to dispatch in scheduling order.
+     * @apiNote Must only be called by the thread that owns the wheel (or before it starts advancing).
+     */
+    public void shuffleTies(long seed) {
+        this.tieSeed = seed;
+    }
+
+    /**
+     * Advances the wheel by one tick and dispatches all tasks that are due.
+     * Recurring tasks are re-linked for the next tick after being dispatched.
+     */
+    public void advance(@NotNull Dispatcher dispatcher) {
+        long now = time.get();
+        for (Task task; (task = pending.poll()) != null; ) {
+            task.deadline = Math.max(task.deadline, now + 1);
+            link(task, now);
+            size++;
+        }
+
+        now = time.incrementAndGet();
+
+        int crossed = 1;
+        while (crossed < LEVELS && (now & ((1L << (SLOT_BITS * crossed)) - 1)) == 0) { crossed++; }
+        for (int level = crossed - 1; level >= 1; level--) {
+            cascade(level, now);
+        }
+
+        int bucket = (int) (now & SLOT_MASK);
+        Task task = heads[bucket];
+        heads[bucket] = null;
+        tails[bucket] = null;
+
+        boolean shuffle = tieSeed != 0L;
+        int dueCount = 0;
+        while (task != null) {
+            Task next = task.next;
+            task.next = null;
+
+            if (task.isCancelled()) {
+                size--;
+            } else if (task.deadline > now) {
+                link(task, now);
+            } else if (!shuffle) {
+                dispatch(task, now, dispatcher);
+            } else {
+                if (dueCount == due.length) { due = Arrays.copyOf(due, Math.max(16, dueCount * 2)); }
+                due[dueCount++] = task;
+            }
+
+            task = next;
+        }
+
+        // Insertion sort, as the bucket is mostly in scheduling order already (and it does not allocate)
+        for (int i = 1; i < dueCount; i++) {
+            Task current = due[i];
+            int j = i - 1;
+            for (; j >= 0 && due[j].id > current.id; j--) { due[j + 1] = due[j]; }
+            due[j + 1] = current;
+        }
+        long state = mix(tieSeed ^ mix(now));
+        for (int i = dueCount - 1; i > 0; i--) {
+            state += GOLDEN_GAMMA;
+            int swap = (int) Math.floorMod(mix(state), (long) (i + 1));
+            Task tmp = due[i];
+            due[i] = due[swap];
+            due[swap] = tmp;
+        }
+        for (int i = 0; i < dueCount; i++) {
+            dispatch(due[i], now, dispatcher);
+            due[i] = null;
+        }
+    }
+
+    private void dispatch(@NotNull Task task, long now, @NotNull Dispatcher dispatcher) {
+        dispatcher.dispatch(task);
+        if (task.recurring && !task.isCancelled()) {
+            task.deadline = now + 1;
+            link(task, now);
+        } else {
+            size--;
+        }
+    }
+
+    private void cascade(int level, long now) {
+        int bucket = level * SLOTS + (int) ((now >>> (SLOT_BITS * level)) & SLOT_MASK);
+        Task task = heads[bucket];
+        heads[bucket] = null;
+        tails[bucket] = null;
+
+        while (task != null) {
+            Task next = task.next;
+            task.next = null;
+            if (task.isCancelled()) { size--; }
+            else { link(task, now); }
+            task = next;
+        }
+    }
+
+    /**
+     * The SplitMix64 finalizer, so every tick gets its own well-mixed generator state without allocating one.
+     */
+    private static long mix(long z) {
+        z += GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private void link(@NotNull Task task, long now) {
+        long delta = Math.max(0L, task.deadline - now);
+
+        int bucket;
+        if (delta >= MAX_SPAN) {
+            // Parks the task in the top level bucket that is cascaded last, it will be re-linked from there
+            int level = LEVELS - 1;
+            bucket = level * SLOTS + (int) ((now >>> (SLOT_BITS * level)) & SLOT_MASK);
+        } else {
+            int level = 0;
+            while (delta >= (1L << (SLOT_BITS * (level + 1)))) { level++; }
+            bucket = level * SLOTS + (int) ((task.deadline >>> (SLOT_BITS * level)) & SLOT_MASK);
+        }
+
+        Task tail = tails[bucket];
+        if (tail == null) { heads[bucket] = task; }
+        else { tail.next = task; }
+        tails[bucket] = task;
+    }
+}
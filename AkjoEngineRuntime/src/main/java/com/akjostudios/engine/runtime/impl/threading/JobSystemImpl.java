@@ -0,0 +1,201 @@
+package com.akjostudios.engine.runtime.impl.threading;
+
+import com.akjostudios.engine.api.threading.JobHandle;
+import com.akjostudios.engine.api.threading.JobSystem;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * A job graph on top of the compute worker pool.
+ * Every job is a range of chunks that are claimed one by one, by the pool threads as well as by threads that wait for the job,
+ * so a waiting thread never idles while there is work left.
+ */
+@SuppressWarnings("unused")
+public final class JobSystemImpl implements JobSystem {
+    private final WorkerPool pool;
+    private final int parallelism;
+
+    /**
+     * @param pool The pool the jobs are executed on (should be work-stealing).
+     * @param parallelism The amount of threads of the pool.
+     */
+    public JobSystemImpl(@NotNull WorkerPool pool, int parallelism) {
+        this.pool = pool;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    @Override
+    public @NotNull JobHandle schedule(@NotNull Runnable job, @NotNull JobHandle... dependsOn) {
+        return submit(new Job(this, 0, 1, 1, _ -> job.run(), jobsOf(dependsOn)));
+    }
+
+    @Override
+    public @NotNull JobHandle parallelFor(
+            int from,
+            int to,
+            int grain,
+            @NotNull IntConsumer body,
+            @NotNull JobHandle... dependsOn
+    ) {
+        if (to < from) {
+            throw new IllegalArgumentException("❗ Range of parallel job is invalid: [" + from + ", " + to + ")!");
+        }
+        return submit(new Job(this, from, to, Math.max(1, grain), body, jobsOf(dependsOn)));
+    }
+
+    @Override
+    public int parallelism() { return parallelism; }
+
+    private @NotNull Job submit(@NotNull Job job) {
+        for (Job dependency : job.dependencies) {
+            if (!dependency.addDependent(job)) { job.dependencyDone(dependency); }
+        }
+        // Releases the extra count that keeps the job from starting while its dependencies are registered
+        job.dependencyDone(null);
+        return job;
+    }
+
+    private static Job@NotNull[] jobsOf(@NotNull JobHandle@NotNull[] handles) {
+        Job[] jobs = new Job[handles.length];
+        for (int i = 0; i < handles.length; i++) {
+            if (!(handles[i] instanceof Job job)) {
+                throw new IllegalArgumentException("❗ Job dependency must be a handle of the engine job system!");
+            }
+            jobs[i] = job;
+        }
+        return jobs;
+    }
+
+    private static final class Job implements JobHandle {
+        private final JobSystemImpl system;
+
+        private final int from;
+        private final int to;
+        private final int grain;
+        private final int chunkCount;
+        private final IntConsumer body;
+
+        private Job[] dependencies;
+        private final AtomicInteger pendingDependencies;
+        private final AtomicInteger nextChunk = new AtomicInteger();
+        private final AtomicInteger remainingChunks;
+
+        private List<Job> dependents = new ArrayList<>();
+        private boolean finished = false;
+
+        private volatile Throwable failure;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        private Job(
+                @NotNull JobSystemImpl system,
+                int from,
+                int to,
+                int grain,
+                @NotNull IntConsumer body,
+                Job@NotNull[] dependencies
+        ) {
+            this.system = system;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+            this.chunkCount = (int) ((to - (long) from + grain - 1) / grain);
+            this.body = body;
+            this.dependencies = dependencies;
+            this.pendingDependencies = new AtomicInteger(dependencies.length + 1);
+            this.remainingChunks = new AtomicInteger(chunkCount);
+        }
+
+        @Override
+        public boolean isDone() { return done.isDone(); }
+
+        @Override
+        public boolean isFailed() { return failure != null; }
+
+        @Override
+        public void complete() {
+            help();
+
+            Throwable cause = failure;
+            if (cause == null) { return; }
+            switch (cause) {
+                case RuntimeException re -> throw re;
+                case Error e -> throw e;
+                default -> throw new CompletionException(cause);
+            }
+        }
+
+        /**
+         * Executes the remaining chunks of the dependencies and of this job on the current thread and waits for the rest.
+         */
+        private void help() {
+            if (isDone()) { return; }
+            Job[] pending = dependencies;
+            if (pending != null) {
+                for (Job dependency : pending) { dependency.help(); }
+            }
+            runChunks();
+            done.join();
+        }
+
+        private synchronized boolean addDependent(@NotNull Job dependent) {
+            if (finished) { return false; }
+            dependents.add(dependent);
+            return true;
+        }
+
+        private void dependencyDone(Job dependency) {
+            if (dependency != null && dependency.failure != null && failure == null) {
+                failure = dependency.failure;
+            }
+            if (pendingDependencies.decrementAndGet() != 0) { return; }
+
+            dependencies = null;
+            if (failure != null || chunkCount == 0) {
+                finish();
+                return;
+            }
+
+            int runners = Math.min(chunkCount, system.parallelism);
+            for (int i = 0; i < runners; i++) {
+                system.pool.execute(this::runChunks);
+            }
+        }
+
+        /**
+         * Claims and executes chunks until none are left.
+         */
+        private void runChunks() {
+            if (pendingDependencies.get() != 0) { return; }
+
+            for (int chunk; (chunk = nextChunk.getAndIncrement()) < chunkCount; ) {
+                if (failure == null) {
+                    int start = (int) (from + (long) chunk * grain);
+                    int end = (int) Math.min(to, (long) start + grain);
+                    try {
+                        for (int index = start; index < end; index++) { body.accept(index); }
+                    } catch (Throwable t) {
+                        failure = t;
+                    }
+                }
+                if (remainingChunks.decrementAndGet() == 0) { finish(); }
+            }
+        }
+
+        private void finish() {
+            List<Job> waiting;
+            synchronized (this) {
+                finished = true;
+                waiting = dependents;
+                dependents = null;
+            }
+            for (Job dependent : waiting) { dependent.dependencyDone(this); }
+            done.complete(null);
+        }
+    }
+}
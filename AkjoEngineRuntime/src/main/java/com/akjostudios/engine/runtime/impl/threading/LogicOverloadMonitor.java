@@ -0,0 +1,204 @@
+package com.akjostudios.engine.runtime.impl.threading;
+
+import com.akjostudios.engine.api.common.mailbox.Mailbox;
+import com.akjostudios.engine.api.logging.Logger;
+import com.akjostudios.engine.api.threading.CatchUpPolicy;
+import com.akjostudios.engine.api.threading.Threading;
+import com.akjostudios.engine.runtime.impl.jfr.LogicOverloadEvent;
+import com.akjostudios.engine.runtime.impl.jfr.TickBudgetEvent;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Measures how much of its step a logic tick needs, lets the catch-up policy respond to it
+ * and reports dropped time and ticks that exceeded their budget.
+ * The work of a tick includes the logic tasks that were executed since the previous tick.
+ * @apiNote Must only be used by the logic thread, except for {@link #snapshot()} and {@link #skipOptional()}.
+ */
+@SuppressWarnings("unused")
+public final class LogicOverloadMonitor {
+    private static final double LOAD_SMOOTHING = 0.1;
+    private static final long REPORT_INTERVAL_NS = 1_000_000_000L;
+
+    private final long baseStepNanos;
+    private final long budgetNanos;
+    private final Logger log;
+
+    private CatchUpPolicy.Response response = CatchUpPolicy.Response.NONE;
+    private boolean policyFailed = false;
+
+    private volatile double load = 0.0;
+    private volatile CatchUpPolicy.Response publishedResponse = CatchUpPolicy.Response.NONE;
+    private volatile long lostTicks = 0;
+    private volatile long budgetOverruns = 0;
+
+    private long taskNanos = 0;
+    private int taskCount = 0;
+    private Class<?> slowestTask;
+    private long slowestTaskNanos = 0;
+
+    private long lostNanos = 0;
+    private long lastReport = System.nanoTime();
+    private long lostTicksSinceReport = 0;
+    private long overrunsSinceReport = 0;
+    private long worstOverrunNanos = 0;
+
+    /**
+     * @param baseStepNanos The duration of one step at the configured logic rate.
+     */
+    public LogicOverloadMonitor(long baseStepNanos, @NotNull Threading.Overload config, @NotNull Logger log) {
+        this.baseStepNanos = baseStepNanos;
+        this.budgetNanos = (long) (baseStepNanos * Math.max(0.0, config.tickBudget()));
+        this.log = log;
+    }
+
+    public @NotNull CatchUpPolicy.Response response() { return response; }
+
+    /**
+     * @return The duration of one step with the rate scale of the current response applied.
+     */
+    public long stepNanos() { return (long) (baseStepNanos * response.rateScale()); }
+
+    public boolean skipOptional() { return publishedResponse.skipOptional(); }
+
+    /**
+     * Records a drain of the logic mailbox, its tasks count towards the work of the next tick.
+     */
+    public void drained(@NotNull Mailbox mailbox, int tasks, long nanos) {
+        if (tasks <= 0) { return; }
+        taskNanos += nanos;
+        taskCount += tasks;
+
+        long slowest = mailbox.slowestTaskNanosOfLastDrain();
+        if (slowest > slowestTaskNanos) {
+            slowestTaskNanos = slowest;
+            slowestTask = mailbox.slowestTaskOfLastDrain();
+        }
+    }
+
+    /**
+     * Records a tick and checks it against the tick budget.
+     */
+    @SuppressWarnings("NonAtomicOperationOnVolatileField")
+    public void ticked(long tick, long updateNanos, long schedulerNanos) {
+        long work = taskNanos + updateNanos + schedulerNanos;
+        load += (work / (double) baseStepNanos - load) * LOAD_SMOOTHING;
+
+        if (budgetNanos > 0 && work > budgetNanos) {
+            budgetOverruns++;
+            overrunsSinceReport++;
+            worstOverrunNanos = Math.max(worstOverrunNanos, work);
+
+            TickBudgetEvent budgetEvent = new TickBudgetEvent();
+            if (budgetEvent.shouldCommit()) {
+                budgetEvent.tick(tick)
+                        .budget(budgetNanos)
+                        .tasks(taskNanos)
+                        .taskCount(taskCount)
+                        .update(updateNanos)
+                        .scheduler(schedulerNanos)
+                        .slowestTask(slowestTask)
+                        .slowestTaskTime(slowestTaskNanos)
+                        .commit();
+            }
+            if (overrunsSinceReport == 1) { logOverrun(work, updateNanos, schedulerNanos); }
+        }
+
+        taskNanos = 0;
+        taskCount = 0;
+        slowestTask = null;
+        slowestTaskNanos = 0;
+    }
+
+    /**
+     * Records time that the loop could not catch up with and has dropped.
+     */
+    @SuppressWarnings("NonAtomicOperationOnVolatileField")
+    public void dropped(long nanos) {
+        long stepNanos = stepNanos();
+        lostNanos += nanos;
+        long ticks = lostNanos / stepNanos;
+        lostNanos %= stepNanos;
+        if (ticks == 0) { return; }
+
+        lostTicks += ticks;
+        lostTicksSinceReport += ticks;
+
+        LogicOverloadEvent overloadEvent = new LogicOverloadEvent();
+        if (overloadEvent.shouldCommit()) {
+            overloadEvent.lostTicks(ticks)
+                    .load(load)
+                    .timeScale(response.timeScale())
+                    .rateScale(response.rateScale())
+                    .commit();
+        }
+    }
+
+    /**
+     * Asks the given policy how the loop runs until the next iteration.
+     */
+    public void adjust(@NotNull CatchUpPolicy policy) {
+        CatchUpPolicy.Response next = response;
+        try {
+            next = policy.respond(load, response);
+            policyFailed = false;
+        } catch (Throwable t) {
+            if (!policyFailed) { log.error(t, "❗ Logic catch-up policy threw an exception - keeping its last response!"); }
+            policyFailed = true;
+        }
+
+        if (!next.equals(response)) {
+            log.debug(
+                    "Logic catch-up policy responded to a load of {} with time scale {}, rate scale {} and skip optional {}",
+                    load, next.timeScale(), next.rateScale(), next.skipOptional()
+            );
+            response = next;
+            publishedResponse = next;
+        }
+    }
+
+    /**
+     * Logs a summary of the last second if the loop dropped time or ticks exceeded their budget, at most once per second.
+     */
+    public void report() {
+        long now = System.nanoTime();
+        if (now - lastReport < REPORT_INTERVAL_NS) { return; }
+        if (lostTicksSinceReport > 0) {
+            log.warn(
+                    "⚠️ Logic thread is overloaded - dropped {} ticks in the last second at a load of {}!",
+                    lostTicksSinceReport, load
+            );
+        }
+        if (overrunsSinceReport > 1) {
+            log.warn(
+                    "⚠️ {} logic ticks exceeded their budget of {} ms in the last second, the worst took {} ms!",
+                    overrunsSinceReport, budgetNanos / 1_000_000.0, worstOverrunNanos / 1_000_000.0
+            );
+        }
+        lastReport = now;
+        lostTicksSinceReport = 0;
+        overrunsSinceReport = 0;
+        worstOverrunNanos = 0;
+    }
+
+    public @NotNull Threading.LogicLoad snapshot() {
+        CatchUpPolicy.Response current = publishedResponse;
+        return new Threading.LogicLoad(
+                load,
+                current.timeScale(),
+                current.rateScale(),
+                current.skipOptional(),
+                lostTicks,
+                budgetOverruns
+        );
+    }
+
+    private void logOverrun(long work, long updateNanos, long schedulerNanos) {
+        log.warn(
+                "⚠️ Logic tick took {} ms with a budget of {} ms - tasks {} ms ({} tasks, slowest {} with {} ms), update {} ms, scheduler {} ms!",
+                work / 1_000_000.0, budgetNanos / 1_000_000.0,
+                taskNanos / 1_000_000.0, taskCount,
+                slowestTask == null ? "unknown" : slowestTask.getName(), slowestTaskNanos / 1_000_000.0,
+                updateNanos / 1_000_000.0, schedulerNanos / 1_000_000.0
+        );
+    }
+}
@@ -0,0 +1,135 @@
+package com.akjostudios.engine.runtime.impl.threading;
+
+import com.akjostudios.engine.api.common.mailbox.Mailbox;
+import com.akjostudios.engine.api.common.mailbox.Waiter;
+import com.akjostudios.engine.api.threading.Threading;
+import com.akjostudios.engine.api.time.TimeSource;
+import com.akjostudios.engine.runtime.impl.time.TimeImpl;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Lets a loop thread wait for the deadline of its next frame or tick and measures how late it wakes up.
+ * The wait ends early once a task is posted to the mailbox of the thread.
+ * @apiNote {@link #waitUntil(long)} must only be called by the thread that owns the pacer.
+ */
+@SuppressWarnings("unused")
+public final class Pacer {
+    private static final long SPIN_THRESHOLD_NS = 250_000L;
+    private static final long LOW_POWER_GRANULARITY_NS = 1_000_000L;
+    private static final int AVERAGE_WINDOW = 64;
+
+    private final TimeSource clock;
+    private final Waiter waiter;
+    private final BooleanSupplier hasTasks;
+    private final BooleanSupplier hasTasksOrWork;
+    private final Threading.PacingMode mode;
+    private final double targetHz;
+    private final long intervalNanos;
+
+    private volatile long waits = 0;
+    private volatile long lastLatency = 0;
+    private volatile long averageLatency = 0;
+    private volatile long maxLatency = 0;
+
+    /**
+     * @param clock The clock the deadlines of the loop are measured with.
+     * @param targetHz The target rate of the loop or 0 if it is not limited.
+     */
+    public Pacer(
+            @NotNull TimeSource clock,
+            @NotNull Waiter waiter,
+            @NotNull Mailbox mailbox,
+            @NotNull Threading.PacingMode mode,
+            double targetHz
+    ) {
+        this(clock, waiter, mailbox, mode, targetHz, () -> false);
+    }
+
+    /**
+     * @param clock The clock the deadlines of the loop are measured with.
+     * @param targetHz The target rate of the loop or 0 if it is not limited.
+     * @param hasWork If the loop has work besides its mailbox (or has to stop), which ends {@link #awaitTask()} as well.
+     *                Whoever makes it true has to wake the waiter afterward.
+     */
+    public Pacer(
+            @NotNull TimeSource clock,
+            @NotNull Waiter waiter,
+            @NotNull Mailbox mailbox,
+            @NotNull Threading.PacingMode mode,
+            double targetHz,
+            @NotNull BooleanSupplier hasWork
+    ) {
+        this.clock = clock;
+        this.waiter = waiter;
+        this.hasTasks = () -> !mailbox.isEmpty();
+        this.hasTasksOrWork = () -> !mailbox.isEmpty() || hasWork.getAsBoolean();
+        this.mode = mode;
+        this.targetHz = Math.max(0.0, targetHz);
+        this.intervalNanos = this.targetHz > 0.0 ? (long) (TimeImpl.NANOS_PER_SECOND / this.targetHz) : 0L;
+    }
+
+    /**
+     * @return The time between two deadlines in nanoseconds or 0 if the loop is not limited.
+     */
+    public long intervalNanos() { return intervalNanos; }
+
+    /**
+     * @return The deadline after the given one, skipping missed deadlines instead of catching up with them.
+     */
+    public long nextDeadline(long deadline, long now) {
+        long next = deadline + intervalNanos;
+        return next <= now ? now + intervalNanos : next;
+    }
+
+    /**
+     * Waits until the given deadline is reached or the waiter is woken.
+     * @return If the deadline has been reached (false if the thread was woken early).
+     */
+    @SuppressWarnings("NonAtomicOperationOnVolatileField")
+    public boolean waitUntil(long deadline) {
+        long remaining = deadline - clock.nanoTime();
+        if (remaining <= 0) { return true; }
+
+        switch (mode) {
+            case HYBRID -> {
+                if (remaining > SPIN_THRESHOLD_NS) {
+                    waiter.park(remaining - SPIN_THRESHOLD_NS, hasTasks);
+                    if (deadline - clock.nanoTime() > SPIN_THRESHOLD_NS) { return false; }
+                }
+                while (clock.nanoTime() < deadline) {
+                    if (hasTasks.getAsBoolean()) { return false; }
+                    Thread.onSpinWait();
+                }
+            }
+            case SLEEP -> waiter.park(remaining, hasTasks);
+            case LOW_POWER -> waiter.park(
+                    (remaining + LOW_POWER_GRANULARITY_NS - 1) / LOW_POWER_GRANULARITY_NS * LOW_POWER_GRANULARITY_NS,
+                    hasTasks
+            );
+        }
+
+        long latency = clock.nanoTime() - deadline;
+        if (latency < 0) { return false; }
+
+        long count = waits + 1;
+        waits = count;
+        lastLatency = latency;
+        averageLatency += (latency - averageLatency) / Math.min(count, AVERAGE_WINDOW);
+        if (latency > maxLatency) { maxLatency = latency; }
+        return true;
+    }
+
+    /**
+     * Waits until a task is posted to the mailbox or the loop has other work, without any timeout.
+     * Used by loops without a target rate once there is nothing left to do, so they neither spin nor wake up on a fixed timer.
+     */
+    public void awaitTask() {
+        waiter.park(Long.MAX_VALUE, hasTasksOrWork);
+    }
+
+    public @NotNull Threading.PacingStats stats() {
+        return new Threading.PacingStats(mode, targetHz, waits, lastLatency, averageLatency, maxLatency);
+    }
+}
@@ -6,10 +6,16 @@ import com.akjostudios.engine.api.internal.token.EngineTokens;
 import com.akjostudios.engine.api.logging.Logger;
 import com.akjostudios.engine.api.scheduling.FrameScheduler;
 import com.akjostudios.engine.api.scheduling.TickScheduler;
+import com.akjostudios.engine.api.threading.CatchUpPolicy;
+import com.akjostudios.engine.api.threading.JobSystem;
 import com.akjostudios.engine.api.threading.Threading;
+import com.akjostudios.engine.runtime.impl.jfr.LogicTickEvent;
+import com.akjostudios.engine.runtime.impl.jfr.MailboxDrainEvent;
+import com.akjostudios.engine.runtime.impl.jfr.RenderFrameEvent;
 import com.akjostudios.engine.runtime.impl.scheduling.FrameSchedulerImpl;
 import com.akjostudios.engine.runtime.impl.scheduling.TickSchedulerImpl;
 import com.akjostudios.engine.runtime.impl.time.TimeImpl;
+import com.akjostudios.engine.runtime.impl.time.VirtualTimeSource;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.jetbrains.annotations.NotNull;
@@ -31,16 +37,20 @@ public final class ThreadingImpl implements Threading {
     public static final String AUDIO_THREAD_NAME = "Audio";
     public static final String LIFECYCLE_THREAD_NAME = "Lifecycle";
     public static final String WORKER_THREAD_PREFIX = "Worker";
+    public static final String COMPUTE_THREAD_PREFIX = "Compute";
+    /** The amount of dedicated lane threads (render, logic and audio) that are busy for the whole run. */
+    public static final int LANE_THREAD_COUNT = 3;
 
     private static final int MAILBOX_DRAIN_SIZE = 1024;
+    /** The share of its frame or tick time a thread spends on normal and bulk tasks per drain. */
+    private static final double MAILBOX_DRAIN_BUDGET_SHARE = 0.25;
+    /** The frame rate the drain budget of threads without a target rate is derived from. */
+    private static final double UNLIMITED_DRAIN_BUDGET_HZ = 60.0;
     private static final long MAILBOX_EMPTY_PARK_TIME_NS = 1_000_000L;
     private static final int THREAD_JOIN_TIMEOUT_MS = 5000;
 
     private static final double LARGE_DELTA_TIME_THRESHOLD = 0.25;
 
-    private static final int LOGIC_MAX_UPDATES = 5;
-    private static final int LOGIC_YIELD_DIVISOR = 2;
-
     private static final ThreadLocal<Boolean> IS_RENDER = ThreadLocal.withInitial(() -> false);
     private static final ThreadLocal<Boolean> IS_LOGIC = ThreadLocal.withInitial(() -> false);
     private static final ThreadLocal<Boolean> IS_AUDIO = ThreadLocal.withInitial(() -> false);
@@ -64,18 +74,24 @@ public final class ThreadingImpl implements Threading {
     private final Mailbox renderMailbox;
 
     private FrameSchedulerImpl renderScheduler;
+    private volatile Pacer renderPacer;
 
     // Logic thread
     private volatile Thread logicThread;
     private final AtomicBoolean logicRunning = new AtomicBoolean(false);
     private volatile double logicStepSeconds;
     private volatile LogicCallback logicCallback;
+    private volatile VirtualTimeSource logicClock;
+    private volatile CatchUpPolicy catchUpPolicy;
+    private volatile LogicOverloadMonitor logicOverload;
+    private volatile int logicMaxUpdates;
 
     private final Waiter logicWaiter = new Waiter();
     @Getter
     private final Mailbox logicMailbox;
 
     private TickSchedulerImpl logicScheduler;
+    private volatile Pacer logicPacer;
 
     // Audio thread
     private volatile Thread audioThread;
@@ -86,30 +102,41 @@ public final class ThreadingImpl implements Threading {
     private final Mailbox audioMailbox;
 
     private FrameSchedulerImpl audioScheduler;
+    private volatile Pacer audioPacer;
 
     // Worker threads
-    private ExecutorService workerPool;
+    private volatile WorkerPool workerPool;
+    private volatile WorkerPool computePool;
     private final AtomicInteger workerId = new AtomicInteger(1);
+    private final AtomicInteger computeId = new AtomicInteger(1);
+    private volatile JobSystemImpl jobs;
 
 
     @Override
-    public void runOnWorker(@NotNull Runnable task) {
-        ensureWorkers();
-        if (workerPool.isShutdown()) {
-            throw new IllegalStateException("❗ Worker pool has been shutdown! This is likely a bug in the engine - please report it using the issue tracker.");
-        }
-        workerPool.submit(task);
+    public void runOnWorker(@NotNull TaskKind kind, @NotNull Runnable task) {
+        poolFor(kind).execute(task);
     }
 
     @Override
-    public <T> @NotNull CompletableFuture<T> runOnWorker(@NotNull Callable<T> task) {
-        ensureWorkers();
-        if (workerPool.isShutdown()) {
-            throw new IllegalStateException("❗ Worker pool has been shutdown! This is likely a bug in the engine - please report it using the issue tracker.");
+    public <T> @NotNull CompletableFuture<T> runOnWorker(@NotNull TaskKind kind, @NotNull Callable<T> task) {
+        WorkerPool pool = poolFor(kind);
+        CompletableFuture<T> future = new CompletableFuture<>();
+        pool.execute(() -> {
+            try { future.complete(task.call()); } catch (Throwable t) { future.completeExceptionally(t); }
+        });
+        return future;
+    }
+
+    @Override
+    public @NotNull WorkerStats workerStats(@NotNull TaskKind kind) { return poolFor(kind).stats(); }
+
+    @Override
+    public @NotNull JobSystem jobs() {
+        JobSystemImpl finalJobs = jobs;
+        if (finalJobs == null) {
+            throw new IllegalStateException("❗ Job system has not been initialized yet! Please do not schedule jobs until the threading system has been started.");
         }
-        return CompletableFuture.supplyAsync(() -> {
-            try { return task.call(); } catch (Exception e) { throw new RuntimeException(e); }
-        }, workerPool);
+        return finalJobs;
     }
 
     @Override
@@ -121,6 +148,31 @@ public final class ThreadingImpl implements Threading {
     @Override
     public boolean isAudioThread() { return Boolean.TRUE.equals(IS_AUDIO.get()); }
 
+    @Override
+    public @NotNull PacingStats renderPacing() { return statsOf(renderPacer); }
+
+    @Override
+    public @NotNull PacingStats logicPacing() { return statsOf(logicPacer); }
+
+    @Override
+    public @NotNull PacingStats audioPacing() { return statsOf(audioPacer); }
+
+    @Override
+    public @NotNull LogicLoad logicLoad() {
+        LogicOverloadMonitor monitor = logicOverload;
+        if (monitor == null) { return new LogicLoad(0.0, 1.0, 1.0, false, 0L, 0L); }
+        return monitor.snapshot();
+    }
+
+    @Override
+    public void setCatchUpPolicy(@NotNull CatchUpPolicy policy) { this.catchUpPolicy = policy; }
+
+    @Override
+    public boolean shouldSkipOptional() {
+        LogicOverloadMonitor monitor = logicOverload;
+        return monitor != null && monitor.skipOptional();
+    }
+
     @Override
     public void requestRender() { renderWaiter.wake(); }
 
@@ -160,6 +212,11 @@ public final class ThreadingImpl implements Threading {
         renderMailbox.errorHandler(this::handleUncaught);
         logicMailbox.errorHandler(this::handleUncaught);
         audioMailbox.errorHandler(this::handleUncaught);
+
+        // Wake parked threads once a task is posted to their mailbox
+        renderMailbox.waiter(renderWaiter);
+        logicMailbox.waiter(logicWaiter);
+        audioMailbox.waiter(audioWaiter);
     }
 
     /**
@@ -183,18 +240,74 @@ public final class ThreadingImpl implements Threading {
 
         this.logicStepSeconds = 1.0 / Math.max(1.0, config.logicHz());
         this.logicCallback = logicCallback;
+        logicWaiter.wake();
+
+        // Initialize simulation clock
+        Simulation simulation = config.simulation();
+        if (simulation.clock() == ClockMode.FAST_FORWARD) {
+            if (!(time.source() instanceof VirtualTimeSource clock)) {
+                throw new IllegalStateException("❗ Fast-forward simulation needs a virtual time source! This is likely a bug in the engine - please report it using the issue tracker.");
+            }
+            this.logicClock = clock;
+        }
+        if (logicScheduler != null) {
+            logicScheduler.seedTieOrder(simulation.seed());
+        }
+
+        // Initialize overload handling (a policy set by the application before the start takes precedence)
+        Overload overload = config.overload();
+        if (catchUpPolicy == null) { this.catchUpPolicy = CatchUpPolicy.of(overload.catchUp()); }
+        this.logicMaxUpdates = Math.max(1, overload.maxUpdates());
+        this.logicOverload = new LogicOverloadMonitor((long) (logicStepSeconds * NANOS_PER_SECOND), overload, log);
+
+        // Initialize loop pacing
+        Pacing pacing = config.pacing();
+        // Only the logic thread runs on the virtual clock of a fast-forward simulation, frames keep following the wall clock
+        this.renderPacer = new Pacer(
+                time.frameSource(), renderWaiter, renderMailbox, pacing.render(), pacing.renderHz(),
+                () -> !renderRunning.get() || hasFrameWork(renderScheduler)
+        );
+        this.logicPacer = new Pacer(time.source(), logicWaiter, logicMailbox, pacing.logic(), 1.0 / logicStepSeconds);
+        this.audioPacer = new Pacer(
+                time.frameSource(), audioWaiter, audioMailbox, pacing.audio(), pacing.audioHz(),
+                () -> !audioRunning.get() || hasFrameWork(audioScheduler)
+        );
 
-        // Initialize worker thread pool
-        int threads = Math.max(1, config.workerThreads());
-        this.workerPool = Executors.newFixedThreadPool(
-                threads,
-                runnable -> {
-                    Thread thread = new Thread(runnable, WORKER_THREAD_PREFIX + workerId.getAndIncrement());
+        // Initialize worker thread pools
+        this.workerPool = switch (config.workerMode()) {
+            case PLATFORM -> {
+                int threads = Math.max(1, config.workerThreads());
+                yield new WorkerPool(TaskKind.BLOCKING, Executors.newFixedThreadPool(
+                        threads,
+                        runnable -> {
+                            Thread thread = new Thread(runnable, WORKER_THREAD_PREFIX + workerId.getAndIncrement());
+                            thread.setDaemon(true);
+                            thread.setUncaughtExceptionHandler(exceptionHandler);
+                            return thread;
+                        }
+                ), threads);
+            }
+            case VIRTUAL -> new WorkerPool(TaskKind.BLOCKING, Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual()
+                            .name(WORKER_THREAD_PREFIX, workerId.getAndIncrement())
+                            .uncaughtExceptionHandler(exceptionHandler)
+                            .factory()
+            ), -1);
+        };
+
+        int computeThreads = Math.max(1, config.computeThreads());
+        this.computePool = new WorkerPool(TaskKind.COMPUTE, new ForkJoinPool(
+                computeThreads,
+                pool -> {
+                    ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+                    thread.setName(COMPUTE_THREAD_PREFIX + computeId.getAndIncrement());
                     thread.setDaemon(true);
-                    thread.setUncaughtExceptionHandler(exceptionHandler);
                     return thread;
-                }
-        );
+                },
+                exceptionHandler,
+                false
+        ), computeThreads);
+        this.jobs = new JobSystemImpl(computePool, computeThreads);
 
         // Start render thread
         renderRunning.set(true);
@@ -204,7 +317,7 @@ public final class ThreadingImpl implements Threading {
 
         // Start logic thread
         logicRunning.set(true);
-        logicThread = new Thread(this::logicLoop, LOGIC_THREAD_NAME);
+        logicThread = new Thread(logicClock == null ? this::logicLoop : this::fastForwardLogicLoop, LOGIC_THREAD_NAME);
         logicThread.setUncaughtExceptionHandler(exceptionHandler);
         logicThread.start();
 
@@ -250,18 +363,8 @@ public final class ThreadingImpl implements Threading {
         join(renderThread);
 
         // Stop all worker threads
-        if (workerPool != null) {
-            workerPool.shutdown();
-            try {
-                if (!workerPool.awaitTermination(THREAD_JOIN_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
-                    log.warn("⚠️ Worker threads did not terminate in time - some tasks may not have been completed!");
-                }
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            } finally {
-                workerPool.shutdownNow();
-            }
-        }
+        stopWorkers(workerPool);
+        stopWorkers(computePool);
     }
 
     /**
@@ -333,22 +436,34 @@ public final class ThreadingImpl implements Threading {
     private void renderLoop() {
         IS_RENDER.set(true);
         try {
-            long lastTime = time.nowNanos();
+            final Pacer pacer = renderPacer;
+            final long drainBudget = drainBudgetOf(pacer);
+            long lastTime = time.frameNanos();
+            long deadline = lastTime;
             while (renderRunning.get()) {
-                renderMailbox.drain(MAILBOX_DRAIN_SIZE);
+                drain(renderMailbox, RENDER_THREAD_NAME, MAILBOX_DRAIN_SIZE, drainBudget);
 
-                long currentTime = time.nowNanos();
-                double deltaTime = (currentTime - lastTime) / NANOS_PER_SECOND;
-                deltaTime = Math.clamp(deltaTime, 0.0, LARGE_DELTA_TIME_THRESHOLD);
-                time.publishRender(currentTime, deltaTime);
-                lastTime = currentTime;
+                long currentTime = time.frameNanos();
+                if (currentTime >= deadline) {
+                    RenderFrameEvent frameEvent = new RenderFrameEvent();
+                    frameEvent.begin();
+
+                    double deltaTime = (currentTime - lastTime) / NANOS_PER_SECOND;
+                    deltaTime = Math.clamp(deltaTime, 0.0, LARGE_DELTA_TIME_THRESHOLD);
+                    time.publishRender(currentTime, deltaTime);
+                    lastTime = currentTime;
 
-                if (renderScheduler != null) {
-                    renderScheduler.onFrame();
+                    if (renderScheduler != null) {
+                        renderScheduler.onFrame();
+                    }
+                    if (frameEvent.shouldCommit()) {
+                        frameEvent.frame(time.render().index()).deltaTime(deltaTime).commit();
+                    }
+                    deadline = pacer.nextDeadline(deadline, currentTime);
                 }
 
                 if (renderMailbox.isEmpty()) {
-                    renderWaiter.park(MAILBOX_EMPTY_PARK_TIME_NS);
+                    idle(pacer, deadline);
                 }
             }
         } catch (Exception e) {
@@ -362,49 +477,47 @@ public final class ThreadingImpl implements Threading {
     private void logicLoop() {
         IS_LOGIC.set(true);
         try {
-            final long stepNanos = (long) (logicStepSeconds * NANOS_PER_SECOND);
-            long lastTime = System.nanoTime();
+            final Pacer pacer = logicPacer;
+            final long drainBudget = drainBudgetOf(pacer);
+            final LogicOverloadMonitor overload = logicOverload;
+            final int maxUpdates = logicMaxUpdates;
+            long lastTime = time.nowNanos();
             long accumulator = 0L;
-            long maxAccumulator = stepNanos * LOGIC_MAX_UPDATES;
 
             while (logicRunning.get() && !Thread.currentThread().isInterrupted()) {
-                logicMailbox.drain(MAILBOX_DRAIN_SIZE);
+                drain(logicMailbox, LOGIC_THREAD_NAME, MAILBOX_DRAIN_SIZE, drainBudget, overload);
+
+                // The step and time scale can be changed by the catch-up policy after every iteration with ticks
+                CatchUpPolicy.Response response = overload.response();
+                long stepNanos = overload.stepNanos();
+                long maxAccumulator = stepNanos * maxUpdates;
 
-                long currentTime = System.nanoTime();
+                long currentTime = time.nowNanos();
                 long frameTime = currentTime - lastTime;
                 lastTime = currentTime;
 
-                frameTime = Math.min(frameTime, stepNanos * LOGIC_MAX_UPDATES);
-                accumulator += frameTime;
-
-                accumulator = Math.min(accumulator, maxAccumulator);
+                accumulator += (long) (frameTime * response.timeScale());
+                if (accumulator > maxAccumulator) {
+                    overload.dropped(accumulator - maxAccumulator);
+                    accumulator = maxAccumulator;
+                }
 
-                boolean didUpdate = false;
                 int updateCount = 0;
 
-                while (accumulator >= stepNanos && logicRunning.get() && updateCount < LOGIC_MAX_UPDATES) {
-                    try {
-                        if (logicCallback != null) {
-                            time.publishLogic(currentTime, logicStepSeconds);
-                            logicCallback.onUpdate(logicStepSeconds);
-                            if (logicScheduler != null) {
-                                logicScheduler.onTick();
-                            }
-                            didUpdate = true;
-                            updateCount++;
-                        }
-                    } catch (Throwable t) {
-                        handleUncaught(t);
+                while (accumulator >= stepNanos && logicRunning.get() && updateCount < maxUpdates) {
+                    if (logicCallback != null) {
+                        tick(currentTime, updateCount, stepNanos, overload);
+                        updateCount++;
                     }
                     accumulator -= stepNanos;
                 }
+                time.publishLogicInterpolation(currentTime, accumulator, stepNanos);
+                if (updateCount > 0) { overload.adjust(catchUpPolicy); }
+                overload.report();
 
-                if (!didUpdate && logicMailbox.isEmpty()) {
-                    logicWaiter.park(MAILBOX_EMPTY_PARK_TIME_NS);
-                } else if (accumulator < stepNanos / LOGIC_YIELD_DIVISOR) {
-                    Thread.yield();
-                } else {
-                    Thread.onSpinWait();
+                if (logicMailbox.isEmpty()) {
+                    // The next step is due once the accumulator has caught up with the step size (in scaled time)
+                    pacer.waitUntil(currentTime + (long) ((stepNanos - accumulator) / response.timeScale()));
                 }
             }
         } catch (Exception e) {
@@ -415,25 +528,71 @@ public final class ThreadingImpl implements Threading {
         }
     }
 
+    /**
+     * Runs ticks back-to-back on the virtual clock, which is moved by exactly one step per tick.
+     * Until the logic callback is installed the loop parks and only delivers tasks, the clock stays at its start.
+     * Tasks are only delivered between ticks (all tasks that have been posted until then), so no task ever sees a partial tick.
+     */
+    private void fastForwardLogicLoop() {
+        IS_LOGIC.set(true);
+        try {
+            final VirtualTimeSource clock = logicClock;
+            final LogicOverloadMonitor overload = logicOverload;
+            final long stepNanos = (long) (logicStepSeconds * NANOS_PER_SECOND);
+
+            while (logicRunning.get() && !Thread.currentThread().isInterrupted()) {
+                // Only the tasks that are queued at the tick boundary, tasks they post run at the next boundary
+                int queued = logicMailbox.depth();
+                if (queued > 0) { drain(logicMailbox, LOGIC_THREAD_NAME, queued, 0L, overload); }
+
+                // Virtual time only moves with ticks, so how long the app takes to install its callback cannot shift the simulation
+                if (logicCallback == null) {
+                    logicWaiter.park(
+                            MAILBOX_EMPTY_PARK_TIME_NS,
+                            () -> logicCallback != null || !logicRunning.get() || !logicMailbox.isEmpty()
+                    );
+                    continue;
+                }
+
+                clock.advance(stepNanos);
+                long currentTime = time.nowNanos();
+                tick(currentTime, 0, stepNanos, overload);
+                time.publishLogicInterpolation(currentTime, 0L, stepNanos);
+                overload.report();
+            }
+        } catch (Exception e) {
+            log.error("⚠️ Logic thread encountered an exception - shutting down logic thread!");
+        } finally {
+            logicMailbox.shutdownAndDrainAll();
+            IS_LOGIC.remove();
+        }
+    }
+
     private void audioLoop() {
         IS_AUDIO.set(true);
         try {
-            long lastTime = time.nowNanos();
+            final Pacer pacer = audioPacer;
+            final long drainBudget = drainBudgetOf(pacer);
+            long lastTime = time.frameNanos();
+            long deadline = lastTime;
             while (audioRunning.get()) {
-                audioMailbox.drain(MAILBOX_DRAIN_SIZE);
+                drain(audioMailbox, AUDIO_THREAD_NAME, MAILBOX_DRAIN_SIZE, drainBudget);
 
-                long currentTime = time.nowNanos();
-                double deltaTime = (currentTime - lastTime) / NANOS_PER_SECOND;
-                deltaTime = Math.clamp(deltaTime, 0.0, LARGE_DELTA_TIME_THRESHOLD);
-                time.publishAudio(currentTime, deltaTime);
-                lastTime = currentTime;
+                long currentTime = time.frameNanos();
+                if (currentTime >= deadline) {
+                    double deltaTime = (currentTime - lastTime) / NANOS_PER_SECOND;
+                    deltaTime = Math.clamp(deltaTime, 0.0, LARGE_DELTA_TIME_THRESHOLD);
+                    time.publishAudio(currentTime, deltaTime);
+                    lastTime = currentTime;
 
-                if (audioScheduler != null) {
-                    audioScheduler.onFrame();
+                    if (audioScheduler != null) {
+                        audioScheduler.onFrame();
+                    }
+                    deadline = pacer.nextDeadline(deadline, currentTime);
                 }
 
                 if (audioMailbox.isEmpty()) {
-                    audioWaiter.park(MAILBOX_EMPTY_PARK_TIME_NS);
+                    idle(pacer, deadline);
                 }
             }
         } catch (Exception e) {
@@ -444,6 +603,79 @@ public final class ThreadingImpl implements Threading {
         }
     }
 
+    /**
+     * Runs one fixed step of the logic thread.
+     * The update and the scheduler are timed against the system clock, the virtual clock of a fast-forward simulation does not move during a tick.
+     * @param updateIndex The index of the update within the current loop iteration.
+     * @param stepNanos The duration of the step.
+     */
+    private void tick(long currentTime, int updateIndex, long stepNanos, @NotNull LogicOverloadMonitor overload) {
+        LogicTickEvent tickEvent = new LogicTickEvent();
+        tickEvent.begin();
+        double stepSeconds = stepNanos / NANOS_PER_SECOND;
+        long updateStart = System.nanoTime();
+        long schedulerStart = updateStart;
+        try {
+            time.publishLogic(currentTime, stepSeconds);
+            logicCallback.onUpdate(stepSeconds);
+            schedulerStart = System.nanoTime();
+            if (logicScheduler != null) {
+                logicScheduler.onTick();
+            }
+        } catch (Throwable t) {
+            handleUncaught(t);
+        }
+        long end = System.nanoTime();
+        long tick = time.logic().index();
+        overload.ticked(tick, schedulerStart - updateStart, end - schedulerStart);
+        if (tickEvent.shouldCommit()) {
+            tickEvent.tick(tick).updateIndex(updateIndex).commit();
+        }
+    }
+
+    /**
+     * Drains the given mailbox and records the drain for flight recordings if it executed any tasks.
+     * @param budgetNanos The time the drain may spend on normal and bulk tasks or 0 to only limit it by the amount of tasks.
+     */
+    private static int drain(@NotNull Mailbox mailbox, @NotNull String name, int maxTasks, long budgetNanos) {
+        MailboxDrainEvent drainEvent = new MailboxDrainEvent();
+        drainEvent.begin();
+        int tasks = mailbox.drain(maxTasks, budgetNanos);
+        if (tasks > 0 && drainEvent.shouldCommit()) {
+            drainEvent.mailbox(name)
+                    .tasks(tasks)
+                    .remaining(mailbox.depth())
+                    .deferred(budgetNanos > 0 ? mailbox.lastDeferred() : 0)
+                    .commit();
+        }
+        return tasks;
+    }
+
+    /**
+     * Drains the given mailbox and counts the executed tasks towards the work of the next tick.
+     */
+    private static void drain(
+            @NotNull Mailbox mailbox,
+            @NotNull String name,
+            int maxTasks,
+            long budgetNanos,
+            @NotNull LogicOverloadMonitor overload
+    ) {
+        long start = System.nanoTime();
+        int tasks = drain(mailbox, name, maxTasks, budgetNanos);
+        overload.drained(mailbox, tasks, System.nanoTime() - start);
+    }
+
+    /**
+     * @return The time budget of one mailbox drain, a share of the frame or tick time of the given pacer.
+     */
+    private static long drainBudgetOf(@NotNull Pacer pacer) {
+        long intervalNanos = pacer.intervalNanos() > 0
+                ? pacer.intervalNanos()
+                : (long) (NANOS_PER_SECOND / UNLIMITED_DRAIN_BUDGET_HZ);
+        return (long) (intervalNanos * MAILBOX_DRAIN_BUDGET_SHARE);
+    }
+
     public void handleUncaught(Throwable t) {
         try {
             if (exceptionHandler == null) {
@@ -480,9 +712,48 @@ public final class ThreadingImpl implements Threading {
         }
     }
 
-    private void ensureWorkers() {
-        if (workerPool == null) {
+    /**
+     * Waits for the next frame deadline, loops without a target rate wait for the next posted task instead.
+     * As long as its scheduler has work that needs another frame, such a loop does not wait and keeps running frames.
+     */
+    private static void idle(@NotNull Pacer pacer, long deadline) {
+        if (pacer.intervalNanos() > 0) { pacer.waitUntil(deadline); }
+        else { pacer.awaitTask(); }
+    }
+
+    private static boolean hasFrameWork(FrameSchedulerImpl scheduler) {
+        return scheduler != null && !scheduler.isIdle();
+    }
+
+    private @NotNull PacingStats statsOf(Pacer pacer) {
+        if (pacer == null) {
+            throw new IllegalStateException("❗ Loop pacing has not been initialized yet! Please do not query pacing stats until the threading system has been started.");
+        }
+        return pacer.stats();
+    }
+
+    private @NotNull WorkerPool poolFor(@NotNull TaskKind kind) {
+        WorkerPool pool = switch (kind) {
+            case BLOCKING -> workerPool;
+            case COMPUTE -> computePool;
+        };
+        if (pool == null) {
             throw new IllegalStateException("❗ Worker pool has not been initialized yet! Please do not supply worker threads to the threading system until it has been started.");
         }
+        return pool;
+    }
+
+    private void stopWorkers(WorkerPool pool) {
+        if (pool == null) { return; }
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(THREAD_JOIN_TIMEOUT_MS)) {
+                log.warn("⚠️ Worker threads did not terminate in time - some tasks may not have been completed!");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            pool.shutdownNow();
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.akjostudios.engine.runtime.impl.threading;
+
+import com.akjostudios.engine.api.threading.Threading;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An executor for one worker task kind that keeps track of its load.
+ */
+@SuppressWarnings("unused")
+public final class WorkerPool {
+    private final Threading.TaskKind kind;
+    private final ExecutorService executor;
+    private final int threads;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder started = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final AtomicInteger active = new AtomicInteger();
+
+    /**
+     * @param threads The maximum amount of threads of the executor or -1 if it is unbounded.
+     */
+    public WorkerPool(@NotNull Threading.TaskKind kind, @NotNull ExecutorService executor, int threads) {
+        this.kind = kind;
+        this.executor = executor;
+        this.threads = threads;
+    }
+
+    /**
+     * Submits the given task to the executor.
+     * @throws IllegalStateException When the pool has been shutdown.
+     */
+    public void execute(@NotNull Runnable task) throws IllegalStateException {
+        submitted.increment();
+        try {
+            executor.execute(() -> {
+                started.increment();
+                active.incrementAndGet();
+                try {
+                    task.run();
+                } finally {
+                    active.decrementAndGet();
+                    completed.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            submitted.decrement();
+            throw new IllegalStateException("❗ Worker pool for " + kind + " tasks has been shutdown! This is likely a bug in the engine - please report it using the issue tracker.", e);
+        }
+    }
+
+    public @NotNull Threading.WorkerStats stats() {
+        long submittedCount = submitted.sum();
+        return new Threading.WorkerStats(
+                kind,
+                threads,
+                active.get(),
+                Math.max(0L, submittedCount - started.sum()),
+                submittedCount,
+                completed.sum()
+        );
+    }
+
+    public void shutdown() { executor.shutdown(); }
+
+    public boolean awaitTermination(long timeoutMs) throws InterruptedException {
+        return executor.awaitTermination(timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void shutdownNow() { executor.shutdownNow(); }
+
+    public boolean isShutdown() { return executor.isShutdown(); }
+}
@@ -0,0 +1,108 @@
+package com.akjostudios.engine.runtime.impl.time;
+
+/**
+ * A fixed-size ring of the last frame or tick durations in nanoseconds.
+ * Min, max and mean are kept up to date on every sample (monotonic queues and a running sum),
+ * percentiles are read from a histogram with a fixed amount of buckets.
+ * @apiNote Not thread-safe, the owner has to guard concurrent reads (see {@link ThreadTimeImpl}).
+ */
+@SuppressWarnings("unused")
+public final class FrameTimeRing {
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private static final long BUCKET_WIDTH_NS = 100_000L;
+    private static final int BUCKET_COUNT = 2560;
+
+    private final int capacity;
+    private final int mask;
+    private final long[] samples;
+    private final long[] minQueue;
+    private final long[] maxQueue;
+    private final int[] buckets = new int[BUCKET_COUNT + 1];
+
+    private long count = 0;
+    private long sum = 0;
+    private long minHead = 0;
+    private long minTail = 0;
+    private long maxHead = 0;
+    private long maxTail = 0;
+
+    public FrameTimeRing() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity The amount of samples that are kept, rounded up to the next power of two.
+     */
+    public FrameTimeRing(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("❗ Frame time ring needs a capacity of at least 1!");
+        }
+        this.capacity = Math.max(2, Integer.highestOneBit(capacity - 1) << 1);
+        this.mask = this.capacity - 1;
+        this.samples = new long[this.capacity];
+        this.minQueue = new long[this.capacity];
+        this.maxQueue = new long[this.capacity];
+    }
+
+    /**
+     * Adds the given duration and evicts the oldest one if the ring is full.
+     */
+    public void add(long nanos) {
+        long sequence = count;
+        if (sequence >= capacity) {
+            long evicted = sequence - capacity;
+            long old = samples[(int) evicted & mask];
+            sum -= old;
+            buckets[bucketOf(old)]--;
+            if (minQueue[(int) minHead & mask] == evicted) { minHead++; }
+            if (maxQueue[(int) maxHead & mask] == evicted) { maxHead++; }
+        }
+
+        samples[(int) sequence & mask] = nanos;
+        sum += nanos;
+        buckets[bucketOf(nanos)]++;
+
+        while (minTail > minHead && samples[(int) minQueue[(int) (minTail - 1) & mask] & mask] >= nanos) { minTail--; }
+        minQueue[(int) minTail++ & mask] = sequence;
+        while (maxTail > maxHead && samples[(int) maxQueue[(int) (maxTail - 1) & mask] & mask] <= nanos) { maxTail--; }
+        maxQueue[(int) maxTail++ & mask] = sequence;
+
+        count = sequence + 1;
+    }
+
+    public int capacity() { return capacity; }
+
+    /**
+     * @return The amount of samples in the ring.
+     */
+    public int size() { return (int) Math.min(count, capacity); }
+
+    public long min() { return size() == 0 ? 0L : samples[(int) minQueue[(int) minHead & mask] & mask]; }
+
+    public long max() { return size() == 0 ? 0L : samples[(int) maxQueue[(int) maxHead & mask] & mask]; }
+
+    public long mean() { return size() == 0 ? 0L : sum / size(); }
+
+    /**
+     * @param percentile The percentile between 0 and 1.
+     * @return The duration that the given share of samples does not exceed (at a resolution of 0.1 ms).
+     */
+    public long percentile(double percentile) {
+        int size = size();
+        if (size == 0) { return 0L; }
+
+        long rank = Math.max(1L, (long) Math.ceil(Math.clamp(percentile, 0.0, 1.0) * size));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += buckets[bucket];
+            // Not clamped with Math.clamp, a reader racing the owner may see min > max (and retries afterward)
+            if (seen >= rank) { return Math.max(min(), Math.min(max(), (bucket + 1) * BUCKET_WIDTH_NS)); }
+        }
+        return max();
+    }
+
+    private static int bucketOf(long nanos) {
+        return (int) Math.clamp(nanos / BUCKET_WIDTH_NS, 0L, BUCKET_COUNT);
+    }
+}
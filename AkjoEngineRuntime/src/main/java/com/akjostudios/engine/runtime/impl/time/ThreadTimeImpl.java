@@ -1,50 +1,228 @@
 package com.akjostudios.engine.runtime.impl.time;
 
 import com.akjostudios.engine.api.time.ThreadTime;
-import com.akjostudios.engine.runtime.util.MathUtil;
-import lombok.RequiredArgsConstructor;
+import com.akjostudios.engine.api.time.ThreadTimeSnapshot;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.VarHandle;
+import java.util.function.LongSupplier;
 
 import static com.akjostudios.engine.runtime.impl.time.TimeImpl.NANOS_PER_SECOND;
 
-@RequiredArgsConstructor
+/**
+ * The time of one thread, published by its owner once per frame or tick.
+ * All values are guarded by a sequence lock: the owner makes the sequence odd while it writes,
+ * readers retry until they have read all values under the same even sequence.
+ * Reads therefore never allocate and never see values of two different frames.
+ */
 public final class ThreadTimeImpl implements ThreadTime {
-    private volatile long index;
-    private volatile long nowNanos;
-    private volatile double nowSeconds;
-    private volatile double deltaTime;
-    private volatile double scaledDeltaTime;
-    private volatile double averageDeltaTime;
+    private final LongSupplier clock;
+
+    private volatile long sequence = 0;
+
+    private long index;
+    private long nowNanos;
+    private double nowSeconds;
+    private double deltaTime;
+    private double scaledDeltaTime;
+
+    private long stepNanos;
+    private long residualNanos;
+    private long residualNowNanos;
+
+    private final FrameTimeRing history = new FrameTimeRing();
+
+    /**
+     * @param clock The clock that the interpolation alpha is measured against.
+     */
+    public ThreadTimeImpl(@NotNull LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public long index() {
+        for (;;) {
+            long start = beginRead();
+            long value = index;
+            if (endRead(start)) { return value; }
+        }
+    }
+
+    @Override
+    public double deltaTime() {
+        for (;;) {
+            long start = beginRead();
+            double value = deltaTime;
+            if (endRead(start)) { return value; }
+        }
+    }
+
+    @Override
+    public double scaledDeltaTime() {
+        for (;;) {
+            long start = beginRead();
+            double value = scaledDeltaTime;
+            if (endRead(start)) { return value; }
+        }
+    }
+
+    @Override
+    public double averageDeltaTime() {
+        for (;;) {
+            long start = beginRead();
+            long value = history.mean();
+            if (endRead(start)) { return value / NANOS_PER_SECOND; }
+        }
+    }
+
+    @Override
+    public double minDeltaTime() {
+        for (;;) {
+            long start = beginRead();
+            long value = history.min();
+            if (endRead(start)) { return value / NANOS_PER_SECOND; }
+        }
+    }
 
     @Override
-    public long index() { return index; }
+    public double maxDeltaTime() {
+        for (;;) {
+            long start = beginRead();
+            long value = history.max();
+            if (endRead(start)) { return value / NANOS_PER_SECOND; }
+        }
+    }
 
     @Override
-    public double deltaTime() { return deltaTime; }
+    public double deltaTimePercentile(double percentile) {
+        for (;;) {
+            long start = beginRead();
+            long value = history.percentile(percentile);
+            if (endRead(start)) { return value / NANOS_PER_SECOND; }
+        }
+    }
 
     @Override
-    public double scaledDeltaTime() { return scaledDeltaTime; }
+    public int historySize() {
+        for (;;) {
+            long start = beginRead();
+            int value = history.size();
+            if (endRead(start)) { return value; }
+        }
+    }
 
     @Override
-    public double averageDeltaTime() { return averageDeltaTime; }
+    public double interpolationAlpha() {
+        for (;;) {
+            long start = beginRead();
+            long step = stepNanos;
+            long residual = residualNanos;
+            long residualNow = residualNowNanos;
+            if (endRead(start)) { return alphaOf(step, residual, residualNow); }
+        }
+    }
 
     @Override
-    public long lastNowNanos() { return nowNanos; }
+    public long lastNowNanos() {
+        for (;;) {
+            long start = beginRead();
+            long value = nowNanos;
+            if (endRead(start)) { return value; }
+        }
+    }
 
     @Override
-    public double lastNowSeconds() { return nowSeconds; }
+    public double lastNowSeconds() {
+        for (;;) {
+            long start = beginRead();
+            double value = nowSeconds;
+            if (endRead(start)) { return value; }
+        }
+    }
 
+    @Override
+    public @NotNull ThreadTimeSnapshot snapshot(@NotNull ThreadTimeSnapshot into) {
+        for (;;) {
+            long start = beginRead();
+            long snapshotIndex = index;
+            long snapshotNowNanos = nowNanos;
+            double snapshotNowSeconds = nowSeconds;
+            double snapshotDeltaTime = deltaTime;
+            double snapshotScaledDeltaTime = scaledDeltaTime;
+            long snapshotAverage = history.mean();
+            long step = stepNanos;
+            long residual = residualNanos;
+            long residualNow = residualNowNanos;
+            if (endRead(start)) {
+                into.set(
+                        snapshotIndex,
+                        snapshotNowNanos,
+                        snapshotNowSeconds,
+                        snapshotDeltaTime,
+                        snapshotScaledDeltaTime,
+                        snapshotAverage / NANOS_PER_SECOND,
+                        alphaOf(step, residual, residualNow)
+                );
+                return into;
+            }
+        }
+    }
+
+    /**
+     * Publishes the values of a new frame or tick.
+     * @apiNote Must only be called by the thread that owns this time.
+     */
     @SuppressWarnings("NonAtomicOperationOnVolatileField")
     public void publish(long nowNanos, double deltaTime, double scaledDeltaTime) {
+        long current = sequence;
+        sequence = current + 1;
+        VarHandle.storeStoreFence();
+
         this.nowNanos = nowNanos;
         this.nowSeconds = nowNanos / NANOS_PER_SECOND;
         this.deltaTime = deltaTime;
         this.scaledDeltaTime = scaledDeltaTime;
+        this.history.add((long) (deltaTime * NANOS_PER_SECOND));
+        this.index++;
 
-        this.averageDeltaTime = MathUtil.lerp(
-                this.averageDeltaTime == 0.0 ? deltaTime : this.averageDeltaTime,
-                deltaTime, 0.1
-        );
+        sequence = current + 2;
+    }
 
-        this.index++;
+    /**
+     * Publishes the time that is left in the accumulator of a fixed-step thread after its ticks.
+     * @param nowNanos The time the accumulator was measured at.
+     * @param residualNanos The accumulated time that has not been consumed by a tick yet.
+     * @param stepNanos The duration of one fixed step.
+     * @apiNote Must only be called by the thread that owns this time.
+     */
+    @SuppressWarnings("NonAtomicOperationOnVolatileField")
+    public void publishInterpolation(long nowNanos, long residualNanos, long stepNanos) {
+        long current = sequence;
+        sequence = current + 1;
+        VarHandle.storeStoreFence();
+
+        this.residualNowNanos = nowNanos;
+        this.residualNanos = residualNanos;
+        this.stepNanos = stepNanos;
+
+        sequence = current + 2;
+    }
+
+    private double alphaOf(long step, long residual, long residualNow) {
+        if (step <= 0) { return 0.0; }
+        return Math.clamp((residual + clock.getAsLong() - residualNow) / (double) step, 0.0, 1.0);
+    }
+
+    private long beginRead() {
+        for (;;) {
+            long start = sequence;
+            if ((start & 1L) == 0L) { return start; }
+            Thread.onSpinWait();
+        }
+    }
+
+    private boolean endRead(long start) {
+        VarHandle.loadLoadFence();
+        return sequence == start;
     }
-}
\ No newline at end of file
+}
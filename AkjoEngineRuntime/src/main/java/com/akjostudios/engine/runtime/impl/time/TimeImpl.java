@@ -1,23 +1,60 @@
 package com.akjostudios.engine.runtime.impl.time;
 
+import com.akjostudios.engine.api.metrics.Histogram;
+import com.akjostudios.engine.api.metrics.MetricsRegistry;
 import com.akjostudios.engine.api.time.ThreadTime;
 import com.akjostudios.engine.api.time.Time;
-import lombok.RequiredArgsConstructor;
+import com.akjostudios.engine.api.time.TimeSource;
 import org.jetbrains.annotations.NotNull;
 
-@RequiredArgsConstructor
 public final class TimeImpl implements Time {
     public static final double NANOS_PER_SECOND = 1_000_000_000.0;
 
-    private final ThreadTimeImpl render = new  ThreadTimeImpl();
-    private final ThreadTimeImpl logic = new ThreadTimeImpl();
-    private final ThreadTimeImpl audio = new ThreadTimeImpl();
+    private final TimeSource source;
+    private final TimeSource frameSource;
+
+    private final ThreadTimeImpl render;
+    private final ThreadTimeImpl logic = new ThreadTimeImpl(this::nowNanos);
+    private final ThreadTimeImpl audio;
 
     private volatile double scale = 1.0;
     private volatile boolean paused = false;
 
+    private volatile Histogram renderFrameNanos;
+    private volatile Histogram audioFrameNanos;
+
+    public TimeImpl() {
+        this(TimeSource.SYSTEM);
+    }
+
+    /**
+     * @param source The clock all time values are measured with.
+     */
+    public TimeImpl(@NotNull TimeSource source) {
+        this.source = source;
+        // A virtual clock only moves with logic ticks, frames still have to follow the wall clock
+        this.frameSource = source instanceof VirtualTimeSource ? TimeSource.SYSTEM : source;
+        this.render = new ThreadTimeImpl(frameSource::nanoTime);
+        this.audio = new ThreadTimeImpl(frameSource::nanoTime);
+    }
+
     @Override
-    public long nowNanos() { return System.nanoTime(); }
+    public long nowNanos() { return source.nanoTime(); }
+
+    /**
+     * @return The clock all time values are measured with.
+     */
+    public @NotNull TimeSource source() { return source; }
+
+    /**
+     * @return The clock the render and audio threads are paced with (the wall clock when the logic thread runs on a virtual clock).
+     */
+    public @NotNull TimeSource frameSource() { return frameSource; }
+
+    /**
+     * @return The current time of the {@link #frameSource() frame clock} in nanoseconds.
+     */
+    public long frameNanos() { return frameSource.nanoTime(); }
 
     @Override
     public double nowSeconds() { return nowNanos() / NANOS_PER_SECOND; }
@@ -43,15 +80,36 @@ public final class TimeImpl implements Time {
     @Override
     public boolean isPaused() { return paused; }
 
+    /**
+     * Records the frame times of the render and audio thread into the given registry.
+     */
+    public void bindMetrics(@NotNull MetricsRegistry metrics) {
+        this.renderFrameNanos = metrics.histogram("time.render.frameNanos");
+        this.audioFrameNanos = metrics.histogram("time.audio.frameNanos");
+    }
+
     public void publishRender(long nowNanos, double deltaTime) {
         render.publish(nowNanos, deltaTime, paused ? 0.0 : deltaTime * scale );
+        record(renderFrameNanos, deltaTime);
     }
 
     public void publishLogic(long nowNanos, double fixedDeltaTime) {
         logic.publish(nowNanos, fixedDeltaTime, paused ? 0.0 : fixedDeltaTime * scale );
     }
 
+    /**
+     * Publishes the leftover time of the fixed-step logic loop that the interpolation alpha is derived from.
+     */
+    public void publishLogicInterpolation(long nowNanos, long accumulatorNanos, long stepNanos) {
+        logic.publishInterpolation(nowNanos, accumulatorNanos, stepNanos);
+    }
+
     public void publishAudio(long nowNanos, double deltaTime) {
         audio.publish(nowNanos, deltaTime, paused ? 0.0 : deltaTime * scale );
+        record(audioFrameNanos, deltaTime);
+    }
+
+    private static void record(Histogram histogram, double deltaTime) {
+        if (histogram != null) { histogram.record((long) (deltaTime * NANOS_PER_SECOND)); }
     }
 }
\ No newline at end of file
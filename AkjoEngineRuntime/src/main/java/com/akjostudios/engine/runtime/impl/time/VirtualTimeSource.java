@@ -0,0 +1,37 @@
+package com.akjostudios.engine.runtime.impl.time;
+
+import com.akjostudios.engine.api.time.TimeSource;
+
+/**
+ * A clock that only moves when it is advanced, used to run the logic thread faster than real time.
+ * @apiNote Must only be advanced by one thread (the logic thread).
+ */
+@SuppressWarnings("unused")
+public final class VirtualTimeSource implements TimeSource {
+    private volatile long nanos;
+
+    /**
+     * Creates a virtual clock that starts at the current time of the system clock.
+     */
+    public VirtualTimeSource() {
+        this(System.nanoTime());
+    }
+
+    public VirtualTimeSource(long startNanos) {
+        this.nanos = startNanos;
+    }
+
+    @Override
+    public long nanoTime() { return nanos; }
+
+    /**
+     * Moves the clock forward by the given amount of nanoseconds.
+     */
+    @SuppressWarnings("NonAtomicOperationOnVolatileField")
+    public void advance(long nanos) {
+        if (nanos < 0) {
+            throw new IllegalArgumentException("❗ Virtual clock cannot be moved backwards!");
+        }
+        this.nanos += nanos;
+    }
+}
@@ -0,0 +1,200 @@
+package com.akjostudios.engine.runtime.impl.window;
+
+import com.akjostudios.engine.api.canvas.Canvas;
+import com.akjostudios.engine.api.common.cancel.Cancellable;
+import com.akjostudios.engine.api.common.cancel.FlagCancellable;
+import com.akjostudios.engine.api.internal.token.EngineTokens;
+import com.akjostudios.engine.api.logging.Logger;
+import com.akjostudios.engine.api.monitor.Monitor;
+import com.akjostudios.engine.api.monitor.MonitorPosition;
+import com.akjostudios.engine.api.monitor.MonitorPositionProvider;
+import com.akjostudios.engine.api.monitor.ScreenPosition;
+import com.akjostudios.engine.api.window.*;
+import com.akjostudios.engine.runtime.impl.canvas.HeadlessCanvas;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.akjostudios.engine.runtime.impl.threading.ThreadingImpl.RENDER_THREAD_NAME;
+
+/**
+ * A window of the headless runtime. It keeps the state it is given and runs its render callbacks on the render thread,
+ * but it is not attached to a monitor and its canvas discards everything that is drawn to it.
+ */
+@Accessors(fluent = true)
+public final class HeadlessWindow implements Window {
+    private static final String NO_MONITOR_MESSAGE = "❗ Headless windows are not attached to a monitor!";
+    private static final WindowContentScale SCALE = new WindowContentScale(1.0, 1.0);
+
+    @Getter private final long handle;
+    @Getter private final Canvas canvas = new HeadlessCanvas();
+    private final Logger log;
+
+    @Getter private volatile String name;
+    @Getter private volatile ScreenPosition position = new ScreenPosition(0L, 0L);
+    @Getter private volatile WindowResolution resolution;
+    @Getter private volatile WindowVisibility visibility;
+    @Getter private volatile WindowOptions options;
+
+    private final AtomicBoolean renderRequested = new AtomicBoolean(true);
+    private final AtomicBoolean closeRequested = new AtomicBoolean(false);
+    private final List<Runnable> renderCallbacks = new CopyOnWriteArrayList<>();
+
+    public HeadlessWindow(
+            long handle,
+            @NotNull String name,
+            @NotNull WindowResolution resolution,
+            @NotNull WindowVisibility visibility,
+            @NotNull WindowOptions options,
+            @NotNull Logger log
+    ) {
+        this.handle = handle;
+        this.name = name;
+        this.resolution = resolution;
+        this.visibility = visibility;
+        this.options = options;
+        this.log = log;
+    }
+
+    @Override
+    public void name(@NotNull String name) { this.name = name; }
+
+    @Override
+    public void position(@NotNull ScreenPosition position) { this.position = position; }
+
+    @Override
+    public @NotNull MonitorPosition monitorPosition() throws IllegalStateException {
+        throw new IllegalStateException(NO_MONITOR_MESSAGE);
+    }
+
+    /**
+     * Ignored, as there is no monitor to position the window on.
+     */
+    @Override
+    public void monitorPosition(@NotNull MonitorPosition position) {}
+
+    /**
+     * Ignored, as there is no monitor to position the window on.
+     */
+    @Override
+    public void monitorPosition(@NotNull MonitorPositionProvider provider) {}
+
+    @Override
+    public @NotNull Monitor monitor() throws IllegalStateException {
+        throw new IllegalStateException(NO_MONITOR_MESSAGE);
+    }
+
+    @Override
+    public void resolution(@NotNull WindowResolution resolution) { this.resolution = resolution; }
+
+    /**
+     * Ignored, as there is no monitor to retrieve the resolution for.
+     */
+    @Override
+    public void resolution(@NotNull WindowResolutionProvider provider) {}
+
+    @Override
+    public @NotNull FramebufferResolution framebufferResolution() {
+        WindowResolution current = resolution;
+        return new FramebufferResolution(current.width(), current.height());
+    }
+
+    @Override
+    public @NotNull WindowContentScale scale() { return SCALE; }
+
+    @Override
+    public void visibility(@NotNull WindowVisibility visibility) { this.visibility = visibility; }
+
+    @Override
+    public void resizable(boolean resizable) {
+        WindowOptions current = options;
+        this.options = new WindowOptions(resizable, current.decorated(), current.floating());
+    }
+
+    @Override
+    public boolean focused() { return false; }
+
+    @Override
+    public void focus() {}
+
+    @Override
+    public void requestAttention() {}
+
+    @Override
+    public void requestRender() { renderRequested.set(true); }
+
+    @Override
+    public @NotNull Cancellable onRender(@NotNull Runnable callback) {
+        FlagCancellable cancellable = new FlagCancellable();
+        Runnable registered = () -> cancellable.tryRun(callback);
+        renderCallbacks.add(registered);
+        requestRender();
+        return new Cancellable() {
+            @Override
+            public boolean cancel() {
+                if (!cancellable.cancel()) { return false; }
+                renderCallbacks.remove(registered);
+                return true;
+            }
+
+            @Override
+            public boolean isCancelled() { return cancellable.isCancelled(); }
+        };
+    }
+
+    @Override
+    public boolean shouldClose() { return closeRequested.get(); }
+
+    @Override
+    public void close() { closeRequested.set(true); }
+
+    @Override
+    public void __engine_swapBuffers(@NotNull Object token) throws IllegalCallerException, IllegalStateException {
+        EngineTokens.verify(token);
+    }
+
+    @Override
+    public boolean __engine_consumeRenderRequested(@NotNull Object token) throws IllegalCallerException {
+        EngineTokens.verify(token);
+        return renderRequested.getAndSet(false);
+    }
+
+    /**
+     * Runs the render callbacks of this window, there is nothing to draw the canvas to.
+     */
+    @Override
+    public void __engine_renderCanvas(@NotNull Object token) throws IllegalCallerException, IllegalStateException {
+        EngineTokens.verify(token);
+        ensureRenderThread();
+        renderCallbacks.forEach(callback -> {
+            try {
+                callback.run();
+            } catch (Throwable t) {
+                log.error("An error occurred inside a render callback!", t);
+            }
+        });
+    }
+
+    @Override
+    public void __engine_destroy(@NotNull Object token) throws IllegalCallerException, IllegalStateException {
+        EngineTokens.verify(token);
+        ensureRenderThread();
+        renderCallbacks.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "HeadlessWindow[" + handle + "](" + "name=" + name + ", resolution=" + resolution + ")";
+    }
+
+    private static void ensureRenderThread() {
+        if (!Objects.equals(Thread.currentThread().getName(), RENDER_THREAD_NAME)) {
+            throw new IllegalStateException("❗ Headless windows must be rendered and destroyed on the render thread!");
+        }
+    }
+}
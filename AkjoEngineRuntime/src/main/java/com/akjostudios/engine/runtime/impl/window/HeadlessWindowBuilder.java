@@ -0,0 +1,105 @@
+package com.akjostudios.engine.runtime.impl.window;
+
+import com.akjostudios.engine.api.internal.token.EngineTokens;
+import com.akjostudios.engine.api.logging.Logger;
+import com.akjostudios.engine.api.monitor.MonitorPosition;
+import com.akjostudios.engine.api.monitor.MonitorPositionProvider;
+import com.akjostudios.engine.api.monitor.ScreenPosition;
+import com.akjostudios.engine.api.window.*;
+import com.akjostudios.engine.api.window.builder.BorderlessWindowBuilder;
+import com.akjostudios.engine.api.window.builder.FullscreenWindowBuilder;
+import com.akjostudios.engine.api.window.builder.WindowedWindowBuilder;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Builds {@link HeadlessWindow}s for every window mode.
+ * Options that need a monitor (resolution providers and monitor positions) are ignored, as there are no monitors in headless mode.
+ */
+public final class HeadlessWindowBuilder implements WindowedWindowBuilder, BorderlessWindowBuilder, FullscreenWindowBuilder {
+    /** The resolution of headless windows unless another one is set, providers cannot be resolved without a monitor. */
+    public static final WindowResolution DEFAULT_RESOLUTION = WindowResolution.HD;
+
+    private static final AtomicLong NEXT_HANDLE = new AtomicLong(1L);
+
+    private final String title;
+    private final Logger log;
+
+    private WindowResolution resolution = DEFAULT_RESOLUTION;
+    private ScreenPosition position = new ScreenPosition(0L, 0L);
+    private WindowVisibility visibility = WindowVisibility.DEFAULT;
+    private WindowOptions options = WindowOptions.DEFAULT;
+
+    private WindowRegistryHook hook;
+
+    public HeadlessWindowBuilder(@NotNull String title, @NotNull Logger log) {
+        this.title = title;
+        this.log = log;
+    }
+
+    @Override
+    public @NotNull HeadlessWindowBuilder resolution(@NotNull WindowResolution resolution) {
+        this.resolution = resolution;
+        return this;
+    }
+
+    @Override
+    public @NotNull HeadlessWindowBuilder resolution(@NotNull WindowResolutionProvider provider) { return this; }
+
+    @Override
+    public @NotNull HeadlessWindowBuilder position(@NotNull ScreenPosition position) {
+        this.position = position;
+        return this;
+    }
+
+    @Override
+    public @NotNull HeadlessWindowBuilder position(@NotNull MonitorPosition position) { return this; }
+
+    @Override
+    public @NotNull HeadlessWindowBuilder position(@NotNull MonitorPositionProvider provider) { return this; }
+
+    @Override
+    public @NotNull HeadlessWindowBuilder visibility(@NotNull WindowVisibility visibility) {
+        this.visibility = visibility;
+        return this;
+    }
+
+    @Override
+    public @NotNull HeadlessWindowBuilder options(@NotNull WindowOptions options) {
+        this.options = options;
+        return this;
+    }
+
+    @Override
+    public @NotNull HeadlessWindowBuilder resizable(boolean resizable) {
+        this.options = new WindowOptions(resizable, options.decorated(), options.floating());
+        return this;
+    }
+
+    @Override
+    public @NotNull Window build() throws IllegalStateException {
+        if (this.hook == null) {
+            throw new IllegalStateException("❗ Cannot build window without a registry hook! This is likely a bug in the engine.");
+        }
+
+        HeadlessWindow window = new HeadlessWindow(NEXT_HANDLE.getAndIncrement(), title, resolution, visibility, options, log);
+        window.position(position);
+        hook.register(window);
+        return window;
+    }
+
+    /**
+     * Sets the internal registry hook for the window.
+     * @apiNote Must be called by the runtime implementation of the engine.
+     * @throws IllegalCallerException When this method is called externally.
+     */
+    @Override
+    public void __engine_setRegistryHook(
+            @NotNull Object token,
+            @NotNull WindowRegistryHook hook
+    ) throws IllegalCallerException {
+        EngineTokens.verify(token);
+        this.hook = hook;
+    }
+}
@@ -0,0 +1,176 @@
+package com.akjostudios.engine.runtime.impl.window;
+
+import com.akjostudios.engine.api.event.EventBus;
+import com.akjostudios.engine.api.internal.token.EngineTokens;
+import com.akjostudios.engine.api.logging.LoggerProvider;
+import com.akjostudios.engine.api.monitor.MonitorProvider;
+import com.akjostudios.engine.api.render.backend.RenderBackendProvider;
+import com.akjostudios.engine.api.resource.asset.AssetManager;
+import com.akjostudios.engine.api.scheduling.FrameScheduler;
+import com.akjostudios.engine.api.threading.Threading;
+import com.akjostudios.engine.api.window.Window;
+import com.akjostudios.engine.api.window.WindowMode;
+import com.akjostudios.engine.api.window.WindowRegistry;
+import com.akjostudios.engine.api.window.builder.WindowBuilder;
+import com.akjostudios.engine.api.window.events.AllWindowsClosedEvent;
+import com.akjostudios.engine.api.window.events.WindowCreatedEvent;
+import com.akjostudios.engine.api.window.events.WindowDestroyedEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.akjostudios.engine.runtime.impl.threading.ThreadingImpl.RENDER_THREAD_NAME;
+
+/**
+ * The window registry of the headless runtime, which creates {@link HeadlessWindow}s that are not attached to a monitor and discard everything drawn to them.
+ * Their render callbacks still run on the render thread whenever a render was requested.
+ */
+public final class HeadlessWindowRegistry implements WindowRegistry {
+    private final List<Window> windows = new CopyOnWriteArrayList<>();
+
+    private final AtomicReference<EventBus> events = new AtomicReference<>();
+    private final AtomicReference<LoggerProvider> loggerProvider = new AtomicReference<>();
+
+    /**
+     * @return A future that is already completed with the window for the given parameters.
+     */
+    @Override
+    public <T extends WindowBuilder> @NotNull CompletableFuture<Window> create(
+            @NotNull String title,
+            @NotNull WindowMode<T> mode,
+            @NotNull MonitorProvider monitor,
+            boolean vsync
+    ) {
+        return create(builder(title, mode, monitor, vsync));
+    }
+
+    /**
+     * @return A future that is already completed with the window based on the given builder.
+     */
+    @Override
+    public <T extends WindowBuilder> @NotNull CompletableFuture<Window> create(@NotNull T builder) {
+        try {
+            return CompletableFuture.completedFuture(builder.build());
+        } catch (Throwable t) {
+            return CompletableFuture.failedFuture(t);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException When the given mode is not one of the standard ones (WINDOWED, BORDERLESS, FULLSCREEN).
+     * @throws IllegalStateException When the window registry is not initialized yet.
+     * @return A window builder for the given parameters, the monitor and vsync are ignored.
+     */
+    @Override
+    public <T extends WindowBuilder> @NotNull T builder(
+            @NotNull String title,
+            @NotNull WindowMode<T> mode,
+            @NotNull MonitorProvider monitor,
+            boolean vsync
+    ) throws IllegalArgumentException, IllegalStateException {
+        Class<T> builderType = mode.provide();
+        if (!builderType.isAssignableFrom(HeadlessWindowBuilder.class)) {
+            throw new IllegalArgumentException("❗ Invalid window mode: " + mode + " (only WINDOWED, BORDERLESS and FULLSCREEN are supported!");
+        }
+        LoggerProvider provider = loggerProvider.get();
+        if (provider == null) {
+            throw new IllegalStateException("❗ WindowRegistry is not initialized yet (logger provider missing).");
+        }
+
+        T impl = builderType.cast(new HeadlessWindowBuilder(title, provider.retrieve("HeadlessWindow")));
+        impl.__engine_setRegistryHook(EngineTokens.token(), this::addWindow);
+        return impl;
+    }
+
+    /**
+     * @apiNote This method does not work in the initialization phase.
+     * @return A list of all registered windows.
+     */
+    @Override
+    public @NotNull List<Window> getWindows() { return windows; }
+
+    /**
+     * @apiNote This method does not work in the initialization phase.
+     * @return The window with the given id/handle.
+     */
+    @Override
+    public @Nullable Window getWindowById(long id) {
+        return windows.stream()
+                .filter(window -> window.handle() == id)
+                .findFirst().orElse(null);
+    }
+
+    private void addWindow(@NotNull Window window) {
+        windows.add(window);
+        if (events.get() != null) { events.get().publish(new WindowCreatedEvent(window)); }
+    }
+
+    /**
+     * Initializes the window registry.
+     * @apiNote Must be called by the runtime implementation of the engine AND from the render thread.
+     * @throws IllegalCallerException When this method is called externally.
+     * @throws IllegalStateException When this method is not called from the render thread.
+     */
+    @Override
+    public void __engine_init(
+            @NotNull Object token,
+            @NotNull RenderBackendProvider backendProvider,
+            @NotNull Threading threading,
+            @NotNull FrameScheduler renderScheduler,
+            @NotNull EventBus events,
+            @NotNull AssetManager assets,
+            @NotNull LoggerProvider loggerProvider
+    ) throws IllegalCallerException, IllegalStateException {
+        EngineTokens.verify(token);
+        if (!Objects.equals(Thread.currentThread().getName(), RENDER_THREAD_NAME)) {
+            throw new IllegalStateException("❗ Window registry is not being initialized on render thread! This is likely a bug in the engine - please report it using the issue tracker.");
+        }
+
+        renderScheduler.__engine_addPostFrameTask(
+                token, () -> windows.forEach(window -> {
+                    if (window instanceof HeadlessWindow headless && headless.__engine_consumeRenderRequested(token)) {
+                        headless.__engine_renderCanvas(token);
+                    }
+
+                    if (window.shouldClose()) {
+                        window.__engine_destroy(token);
+                        windows.remove(window);
+                        if (this.events.get() != null) {
+                            this.events.get().publish(new WindowDestroyedEvent(window));
+                        }
+
+                        if (windows.isEmpty() && this.events.get() != null) {
+                            this.events.get().publish(new AllWindowsClosedEvent());
+                        }
+                    }
+                })
+        );
+
+        this.events.set(events);
+        this.loggerProvider.set(loggerProvider);
+    }
+
+    /**
+     * Stops the window registry.
+     * @apiNote Must be called by the runtime implementation of the engine AND from the render thread.
+     * @throws IllegalCallerException When this method is called externally.
+     * @throws IllegalStateException When this method is not called from the render thread.
+     */
+    @Override
+    public void __engine_stop(
+            @NotNull Object token
+    ) throws IllegalCallerException, IllegalStateException {
+        EngineTokens.verify(token);
+        if (!Objects.equals(Thread.currentThread().getName(), RENDER_THREAD_NAME)) {
+            throw new IllegalStateException("❗ Window registry is not being stopped on render thread! This is likely a bug in the engine - please report it using the issue tracker.");
+        }
+
+        windows.forEach(window -> window.__engine_destroy(token));
+        windows.clear();
+    }
+}
@@ -2,6 +2,7 @@ package com.akjostudios.engine.runtime.impl.window;
 
 import com.akjostudios.engine.api.canvas.Canvas;
 import com.akjostudios.engine.api.common.cancel.Cancellable;
+import com.akjostudios.engine.api.common.mailbox.Mailbox;
 import com.akjostudios.engine.api.event.EventBus;
 import com.akjostudios.engine.api.event.EventLane;
 import com.akjostudios.engine.api.internal.token.EngineTokens;
@@ -20,6 +21,7 @@ import com.akjostudios.engine.api.threading.Threading;
 import com.akjostudios.engine.api.window.*;
 import com.akjostudios.engine.api.window.events.*;
 import com.akjostudios.engine.runtime.impl.canvas.CanvasImpl;
+import com.akjostudios.engine.runtime.impl.jfr.BufferSwapEvent;
 import com.akjostudios.engine.runtime.impl.monitor.MonitorImpl;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -96,7 +98,7 @@ public final class WindowImpl implements Window {
 
         this.device = new RenderDevice(threading, assets, renderLogger);
 
-        this.renderScheduler.immediate(() -> {
+        runUrgent(() -> {
             WindowState initState = new WindowState(
                     queryName(),
                     queryPosition(),
@@ -136,7 +138,7 @@ public final class WindowImpl implements Window {
 
     @Override
     public void name(@NotNull String name) {
-        renderScheduler.immediate(() -> {
+        runUrgent(() -> {
             if (!GLFW.glfwInit()) { return; }
 
             GLFW.glfwSetWindowTitle(handle, name);
@@ -179,7 +181,7 @@ public final class WindowImpl implements Window {
                 || position.y() < Integer.MIN_VALUE
         ) { throw new IllegalArgumentException("❗ Window position must be within the range of an integer!"); }
 
-        renderScheduler.immediate(() -> {
+        runUrgent(() -> {
             if (!GLFW.glfwInit()) { return; }
 
             GLFW.glfwSetWindowPos(handle, (int) position.x(), (int) position.y());
@@ -210,7 +212,7 @@ public final class WindowImpl implements Window {
             || position.y() < Integer.MIN_VALUE
         ) { throw new IllegalArgumentException("❗ Window position must be within the range of an integer!"); }
 
-        renderScheduler.immediate(() -> {
+        runUrgent(() -> {
             if (!GLFW.glfwInit()) { return; }
 
             ScreenPosition monitorPosition = position.monitor().position();
@@ -372,7 +374,7 @@ public final class WindowImpl implements Window {
 
     @Override
     public void resolution(@NotNull WindowResolution resolution) {
-        renderScheduler.immediate(() -> {
+        runUrgent(() -> {
             if (!GLFW.glfwInit()) { return; }
 
             GLFW.glfwSetWindowSize(handle, resolution.width(), resolution.height());
@@ -436,7 +438,7 @@ public final class WindowImpl implements Window {
 
     @Override
     public void visibility(@NotNull WindowVisibility visibility) {
-        renderScheduler.immediate(() -> {
+        runUrgent(() -> {
             if (!GLFW.glfwInit()) { return; }
 
             boolean wantVisible = visibility.visible();
@@ -507,7 +509,7 @@ public final class WindowImpl implements Window {
 
     @Override
     public void resizable(boolean resizable) {
-        renderScheduler.immediate(() -> {
+        runUrgent(() -> {
             if (!GLFW.glfwInit()) { return; }
 
             GLFW.glfwSetWindowAttrib(handle, GLFW.GLFW_RESIZABLE, resizable ? GLFW.GLFW_TRUE : GLFW.GLFW_FALSE);
@@ -539,7 +541,7 @@ public final class WindowImpl implements Window {
 
     @Override
     public void focus() {
-        renderScheduler.immediate(() -> {
+        runUrgent(() -> {
             if (!GLFW.glfwInit()) { return; }
             if (focused()) { return; }
 
@@ -560,7 +562,7 @@ public final class WindowImpl implements Window {
 
     @Override
     public void requestAttention() {
-        renderScheduler.immediate(() -> {
+        runUrgent(() -> {
             if (!GLFW.glfwInit()) { return; }
 
             GLFW.glfwRequestWindowAttention(handle);
@@ -748,6 +750,13 @@ public final class WindowImpl implements Window {
         GLFW.glfwSetWindowContentScaleCallback(handle, this.contentScaleCallback.get());
     }
 
+    /**
+     * Runs the given window operation on the render thread ahead of queued frame work and asset uploads.
+     */
+    private void runUrgent(@NotNull Runnable task) {
+        renderScheduler.immediate(task, Mailbox.Priority.URGENT);
+    }
+
     private void runRenderCallbacks() {
         renderCallbacks.forEach(callback -> {
             try {
@@ -795,7 +804,12 @@ public final class WindowImpl implements Window {
         }
 
         events.publish(new WindowBeforeSwapBuffersEvent(this), EventLane.RENDER);
+        BufferSwapEvent swapEvent = new BufferSwapEvent();
+        swapEvent.begin();
         GLFW.glfwSwapBuffers(handle);
+        if (swapEvent.shouldCommit()) {
+            swapEvent.window(handle).width(fbResolution.width()).height(fbResolution.height()).commit();
+        }
         events.publish(new WindowAfterSwapBuffersEvent(this), EventLane.RENDER);
     }
 
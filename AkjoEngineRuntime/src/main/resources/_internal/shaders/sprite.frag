@@ -1,9 +1,37 @@
 #version 330 core
 in vec2 fTexCoords;
+in vec4 fTint;
+flat in int fTexSlot;
 out vec4 color;
 
-uniform sampler2D uTexture;
+// GLSL 3.30 only allows constant indices into sampler arrays, so every slot has its own case.
+// The gradients are taken outside of the switch, as they are undefined in non-uniform control flow.
+uniform sampler2D uTextures[16];
+
+vec4 sampleSlot(int slot, vec2 uv) {
+    vec2 dx = dFdx(uv);
+    vec2 dy = dFdy(uv);
+    switch (slot) {
+        case 0: return textureGrad(uTextures[0], uv, dx, dy);
+        case 1: return textureGrad(uTextures[1], uv, dx, dy);
+        case 2: return textureGrad(uTextures[2], uv, dx, dy);
+        case 3: return textureGrad(uTextures[3], uv, dx, dy);
+        case 4: return textureGrad(uTextures[4], uv, dx, dy);
+        case 5: return textureGrad(uTextures[5], uv, dx, dy);
+        case 6: return textureGrad(uTextures[6], uv, dx, dy);
+        case 7: return textureGrad(uTextures[7], uv, dx, dy);
+        case 8: return textureGrad(uTextures[8], uv, dx, dy);
+        case 9: return textureGrad(uTextures[9], uv, dx, dy);
+        case 10: return textureGrad(uTextures[10], uv, dx, dy);
+        case 11: return textureGrad(uTextures[11], uv, dx, dy);
+        case 12: return textureGrad(uTextures[12], uv, dx, dy);
+        case 13: return textureGrad(uTextures[13], uv, dx, dy);
+        case 14: return textureGrad(uTextures[14], uv, dx, dy);
+        case 15: return textureGrad(uTextures[15], uv, dx, dy);
+    }
+    return vec4(1.0, 0.0, 1.0, 1.0);
+}
 
 void main() {
-    color = texture(uTexture, fTexCoords);
+    color = sampleSlot(fTexSlot, fTexCoords) * fTint;
 }
\ No newline at end of file
@@ -1,12 +1,27 @@
 #version 330 core
-layout (location = 0) in vec2 aPos;
-layout (location = 1) in vec2 aTexCoords;
+layout (location = 0) in vec2 aCorner;
+layout (location = 1) in vec4 iRect;
+layout (location = 2) in vec4 iRegion;
+layout (location = 3) in vec2 iRotationSlot;
+layout (location = 4) in vec4 iTint;
 
 uniform mat4 uProjection;
 
 out vec2 fTexCoords;
+out vec4 fTint;
+flat out int fTexSlot;
 
 void main() {
-    fTexCoords = aTexCoords;
-    gl_Position = uProjection * vec4(aPos, 0.0, 1.0);
+    // The shared quad spans 0 to 1, every instance scales it to its rect and rotates it around its center
+    // A negative size only mirrors the quad around that center, the rect itself always extends right and down from its position
+    vec2 center = iRect.xy + abs(iRect.zw) * 0.5;
+    vec2 local = (aCorner - 0.5) * iRect.zw;
+    float s = sin(iRotationSlot.x);
+    float c = cos(iRotationSlot.x);
+    vec2 rotated = vec2(local.x * c - local.y * s, local.x * s + local.y * c);
+
+    fTexCoords = mix(iRegion.xy, iRegion.zw, aCorner);
+    fTint = iTint;
+    fTexSlot = int(iRotationSlot.y + 0.5);
+    gl_Position = uProjection * vec4(center + rotated, 0.0, 1.0);
 }
\ No newline at end of file
@@ -0,0 +1,106 @@
+package com.akjostudios.engine.runtime.impl.assets.texture.atlas;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SkylinePackerTest {
+    @Test
+    void packedRectsStayInBoundsAndDoNotOverlap() {
+        SkylinePacker packer = new SkylinePacker(128, 96);
+        SplittableRandom random = new SplittableRandom(42L);
+
+        List<SkylinePacker.Rect> packed = new ArrayList<>();
+        for (int attempt = 0; attempt < 1000; attempt++) {
+            SkylinePacker.Rect rect = packer.insert(random.nextInt(1, 24), random.nextInt(1, 24));
+            if (rect != null) { packed.add(rect); }
+        }
+        assertFalse(packed.isEmpty());
+
+        for (int i = 0; i < packed.size(); i++) {
+            SkylinePacker.Rect rect = packed.get(i);
+            assertTrue(rect.x() >= 0 && rect.y() >= 0, () -> rect + " starts outside of the packer");
+            assertTrue(rect.x() + rect.width() <= packer.width(), () -> rect + " ends right of the packer");
+            assertTrue(rect.y() + rect.height() <= packer.height(), () -> rect + " ends below the packer");
+            for (int j = i + 1; j < packed.size(); j++) {
+                SkylinePacker.Rect other = packed.get(j);
+                assertFalse(overlap(rect, other), () -> rect + " overlaps " + other);
+            }
+        }
+    }
+
+    @Test
+    void insertReturnsTheRequestedSize() {
+        SkylinePacker packer = new SkylinePacker(64, 64);
+        SkylinePacker.Rect rect = packer.insert(10, 20);
+
+        assertNotNull(rect);
+        assertEquals(new SkylinePacker.Rect(0, 0, 10, 20), rect);
+    }
+
+    @Test
+    void insertReturnsNullWhenFull() {
+        SkylinePacker packer = new SkylinePacker(16, 16);
+        for (int i = 0; i < 4; i++) { assertNotNull(packer.insert(8, 8)); }
+
+        assertNull(packer.insert(1, 1));
+        assertEquals(1.0, packer.occupancy());
+    }
+
+    @Test
+    void insertReturnsNullForRectsThatCanNeverFit() {
+        SkylinePacker packer = new SkylinePacker(16, 16);
+
+        assertNull(packer.insert(17, 1));
+        assertNull(packer.insert(1, 17));
+        assertNull(packer.insert(0, 4));
+        assertNull(packer.insert(4, -1));
+        assertEquals(0.0, packer.occupancy());
+    }
+
+    @Test
+    void insertReturnsNullWhenOnlyTheWidthIsLeft() {
+        SkylinePacker packer = new SkylinePacker(16, 16);
+        assertNotNull(packer.insert(16, 12));
+
+        assertNull(packer.insert(8, 8));
+        assertNotNull(packer.insert(8, 4));
+    }
+
+    @Test
+    void segmentsOfTheSameHeightAreMerged() {
+        SkylinePacker packer = new SkylinePacker(16, 16);
+        assertEquals(1, packer.segmentCount());
+
+        assertNotNull(packer.insert(6, 4));
+        assertEquals(2, packer.segmentCount());
+
+        assertNotNull(packer.insert(10, 4));
+        assertEquals(1, packer.segmentCount());
+
+        assertEquals(new SkylinePacker.Rect(0, 4, 16, 2), packer.insert(16, 2));
+        assertEquals(1, packer.segmentCount());
+    }
+
+    @Test
+    void rectsArePlacedOnTheLowestSegment() {
+        SkylinePacker packer = new SkylinePacker(16, 16);
+        assertNotNull(packer.insert(8, 10));
+        assertNotNull(packer.insert(8, 2));
+
+        SkylinePacker.Rect rect = packer.insert(4, 4);
+        assertNotNull(rect);
+        assertEquals(8, rect.x());
+        assertEquals(2, rect.y());
+    }
+
+    private static boolean overlap(@NotNull SkylinePacker.Rect a, @NotNull SkylinePacker.Rect b) {
+        return a.x() < b.x() + b.width() && b.x() < a.x() + a.width()
+                && a.y() < b.y() + b.height() && b.y() < a.y() + a.height();
+    }
+}
@@ -0,0 +1,66 @@
+package com.akjostudios.engine.runtime.impl.assets.texture.atlas;
+
+import com.akjostudios.engine.api.assets.texture.TextureRegion;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextureAtlasTest {
+    @Test
+    void regionCoversTheRectWithoutItsPadding() {
+        TextureAtlas.Slot slot = new TextureAtlas.Slot(0, new SkylinePacker.Rect(64, 128, 32, 16), 2, 256);
+
+        assertEquals(new TextureRegion(0.25F, 0.5F, 0.375F, 0.5625F), slot.region());
+        assertEquals(new SkylinePacker.Rect(62, 126, 36, 20), slot.padded());
+    }
+
+    @Test
+    void regionOfAFullPageSpansAllTextureCoordinates() {
+        TextureAtlas.Slot slot = new TextureAtlas.Slot(3, new SkylinePacker.Rect(0, 0, 512, 512), 0, 512);
+
+        assertEquals(new TextureRegion(0F, 0F, 1F, 1F), slot.region());
+    }
+
+    @Test
+    void reservedSlotsKeepTheirPaddingApartAndOnThePage() {
+        int pageSize = 128;
+        TextureAtlas atlas = new TextureAtlas(pageSize, 32, 2);
+
+        List<TextureAtlas.Slot> slots = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            TextureAtlas.Slot slot = atlas.reserve(30, 20);
+            assertNotNull(slot);
+            slots.add(slot);
+        }
+
+        for (int i = 0; i < slots.size(); i++) {
+            TextureAtlas.Slot slot = slots.get(i);
+            SkylinePacker.Rect padded = slot.padded();
+            assertEquals(new SkylinePacker.Rect(padded.x() + 2, padded.y() + 2, 30, 20), slot.rect());
+            assertTrue(padded.x() >= 0 && padded.y() >= 0, () -> padded + " starts outside of the page");
+            assertTrue(padded.x() + padded.width() <= pageSize && padded.y() + padded.height() <= pageSize, () -> padded + " ends outside of the page");
+
+            for (int j = i + 1; j < slots.size(); j++) {
+                TextureAtlas.Slot other = slots.get(j);
+                if (other.page() != slot.page()) { continue; }
+                SkylinePacker.Rect otherPadded = other.padded();
+                boolean overlap = padded.x() < otherPadded.x() + otherPadded.width() && otherPadded.x() < padded.x() + padded.width()
+                        && padded.y() < otherPadded.y() + otherPadded.height() && otherPadded.y() < padded.y() + padded.height();
+                assertFalse(overlap, () -> padded + " overlaps " + otherPadded);
+            }
+        }
+        assertTrue(atlas.pageCount() > 1);
+    }
+
+    @Test
+    void reserveRejectsTexturesThatAreTooLarge() {
+        TextureAtlas atlas = new TextureAtlas(128, 32, 2);
+
+        assertNull(atlas.reserve(33, 8));
+        assertNull(atlas.reserve(8, 0));
+        assertEquals(0, atlas.pageCount());
+    }
+}
@@ -0,0 +1,88 @@
+package com.akjostudios.engine.runtime.impl.scheduling;
+
+import com.akjostudios.engine.api.common.mailbox.Mailbox;
+import com.akjostudios.engine.api.internal.token.EngineTokens;
+import com.akjostudios.engine.runtime.impl.logging.LoggerImpl;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Drives the frame and tick schedulers with recurring tasks like the loop threads do and checks that a frame (or tick)
+ * in the steady state allocates nothing, neither in the timing wheel nor in the mailbox the tasks are dispatched to.
+ * The bytes are measured over many frames, so even a single object per frame adds up far beyond the fixed tolerance.
+ */
+class SchedulerAllocationTest {
+    private static final int TASKS = 256;
+    private static final int WARMUP_FRAMES = 50_000;
+    private static final int MEASURED_FRAMES = 10_000;
+    /** Covers one-off allocations of the measurement itself (like reading the counter), not even one object per frame fits into it. */
+    private static final long TOLERANCE_BYTES = 256;
+
+    private static com.sun.management.ThreadMXBean threads;
+
+    @BeforeAll
+    static void setup() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "Allocation counters are not available on this JVM");
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "Allocation counters are not supported on this JVM");
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    void frameSchedulerDoesNotAllocatePerFrame() {
+        Mailbox mailbox = mailbox();
+        FrameSchedulerImpl scheduler = new FrameSchedulerImpl(mailbox);
+
+        long[] runs = new long[1];
+        for (int i = 0; i < TASKS; i++) { scheduler.everyFrame(() -> runs[0]++); }
+        scheduler.__engine_addPostFrameTask(EngineTokens.token(), () -> runs[0]++);
+
+        long allocated = measure(() -> {
+            scheduler.onFrame();
+            mailbox.drain();
+        });
+
+        assertEquals((long) (TASKS + 1) * (WARMUP_FRAMES + MEASURED_FRAMES), runs[0]);
+        assertTrue(allocated <= TOLERANCE_BYTES, "Frames allocated " + allocated + " bytes in total");
+    }
+
+    @Test
+    void tickSchedulerDoesNotAllocatePerTick() {
+        Mailbox mailbox = mailbox();
+        TickSchedulerImpl scheduler = new TickSchedulerImpl(mailbox);
+
+        long[] runs = new long[1];
+        for (int i = 0; i < TASKS; i++) { scheduler.everyTick(() -> runs[0]++); }
+
+        long allocated = measure(() -> {
+            scheduler.onTick();
+            mailbox.drain();
+        });
+
+        assertEquals((long) TASKS * (WARMUP_FRAMES + MEASURED_FRAMES), runs[0]);
+        assertTrue(allocated <= TOLERANCE_BYTES, "Ticks allocated " + allocated + " bytes in total");
+    }
+
+    /**
+     * Runs the given frame until it is warmed up and then returns the bytes the measured frames allocated on this thread.
+     */
+    private static long measure(@NotNull Runnable frame) {
+        for (int i = 0; i < WARMUP_FRAMES; i++) { frame.run(); }
+
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_FRAMES; i++) { frame.run(); }
+        return threads.getCurrentThreadAllocatedBytes() - before;
+    }
+
+    private static @NotNull Mailbox mailbox() {
+        return new Mailbox("Test", TASKS * 4, Mailbox.OverflowPolicy.SPILL, new LoggerImpl("engine.test"));
+    }
+}